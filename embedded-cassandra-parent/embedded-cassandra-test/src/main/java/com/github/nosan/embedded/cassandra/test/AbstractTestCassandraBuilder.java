@@ -16,6 +16,7 @@
 
 package com.github.nosan.embedded.cassandra.test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -55,6 +56,9 @@ public abstract class AbstractTestCassandraBuilder<C extends TestCassandra,
 
 	private boolean registerShutdownHook = true;
 
+	@Nullable
+	private Duration idleTimeout;
+
 	/**
 	 * Add an additional {@link CqlScript} to execute.
 	 *
@@ -174,6 +178,30 @@ public abstract class AbstractTestCassandraBuilder<C extends TestCassandra,
 		return (B) this;
 	}
 
+	/**
+	 * Return the idle timeout attribute.
+	 *
+	 * @return the idle timeout attribute
+	 * @since 1.4.3
+	 */
+	@Nullable
+	protected final Duration getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	/**
+	 * Sets the period of inactivity after which {@code Cassandra} is suspended automatically.
+	 *
+	 * @param idleTimeout the idle timeout, or {@code null} to disable automatic suspension
+	 * @return {@code this} builder for use in a chained invocation
+	 * @see TestCassandra#setIdleTimeout(Duration)
+	 * @since 1.4.3
+	 */
+	public final B setIdleTimeout(@Nullable Duration idleTimeout) {
+		this.idleTimeout = idleTimeout;
+		return (B) this;
+	}
+
 	/**
 	 * Builds a new {@code TestCassandra}.
 	 *
@@ -16,13 +16,21 @@
 
 package com.github.nosan.embedded.cassandra.test;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.LatencyTracker;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
@@ -35,6 +43,12 @@ import com.github.nosan.embedded.cassandra.Cassandra;
 import com.github.nosan.embedded.cassandra.CassandraException;
 import com.github.nosan.embedded.cassandra.CassandraFactory;
 import com.github.nosan.embedded.cassandra.CassandraInterruptedException;
+import com.github.nosan.embedded.cassandra.LatencyDetector;
+import com.github.nosan.embedded.cassandra.LatencyReport;
+import com.github.nosan.embedded.cassandra.LatencyThresholds;
+import com.github.nosan.embedded.cassandra.NodeEvent;
+import com.github.nosan.embedded.cassandra.NodeMetrics;
+import com.github.nosan.embedded.cassandra.NodeStatus;
 import com.github.nosan.embedded.cassandra.Settings;
 import com.github.nosan.embedded.cassandra.cql.CqlScript;
 import com.github.nosan.embedded.cassandra.local.LocalCassandraFactory;
@@ -72,6 +86,10 @@ public class TestCassandra implements Cassandra {
 
 	private final CassandraFactory cassandraFactory;
 
+	private final LatencyDetector latencyDetector = new LatencyDetector();
+
+	private final Object latencyLock = new Object();
+
 	private volatile State state = State.NEW;
 
 	@Nullable
@@ -86,6 +104,22 @@ public class TestCassandra implements Cassandra {
 	@Nullable
 	private volatile Thread startThread;
 
+	@Nullable
+	private volatile Duration idleTimeout;
+
+	private volatile long lastActivity = System.nanoTime();
+
+	@Nullable
+	private volatile NodeEvent.Subscription latencySubscription;
+
+	@Nullable
+	private volatile LatencyThresholds latencyThresholds;
+
+	private volatile boolean latencyDetection;
+
+	@Nullable
+	private ScheduledExecutorService idleMonitor;
+
 	private boolean shutdownHookRegistered = false;
 
 	/**
@@ -182,7 +216,10 @@ public class TestCassandra implements Cassandra {
 	@Override
 	public void start() throws CassandraException {
 		synchronized (this.lock) {
-			if (this.state != State.STARTED) {
+			if (this.state == State.SUSPENDED) {
+				resume();
+			}
+			else if (this.state != State.STARTED) {
 				try {
 					registerShutdownHook();
 				}
@@ -195,6 +232,7 @@ public class TestCassandra implements Cassandra {
 					startInternal();
 					this.state = State.STARTED;
 					this.startThread = null;
+					startIdleMonitor();
 				}
 				catch (CassandraInterruptedException ex) {
 					this.startThread = null;
@@ -237,8 +275,200 @@ public class TestCassandra implements Cassandra {
 		}
 	}
 
+	/**
+	 * Restarts the underlying {@link Cassandra}. {@link Cluster} and {@link Session} are kept open and reconnect
+	 * once {@code Cassandra} is started again, CQL scripts are not executed again.
+	 *
+	 * @param kill whether {@code Cassandra} should be killed rather than stopped gracefully
+	 * @since 1.4.3
+	 */
+	@Override
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void restart(boolean kill) throws CassandraException {
+		synchronized (this.lock) {
+			if (this.state == State.SUSPENDED) {
+				resume();
+			}
+			if (this.state != State.STARTED) {
+				stop();
+				start();
+				return;
+			}
+			try {
+				this.startThread = Thread.currentThread();
+				this.state = State.STARTING;
+				getCassandra().restart(kill);
+				this.state = State.STARTED;
+				this.startThread = null;
+			}
+			catch (CassandraInterruptedException ex) {
+				this.startThread = null;
+				this.state = State.START_INTERRUPTED;
+				boolean interrupted = Thread.interrupted();
+				stopInternalSilently();
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+				throw ex;
+			}
+			catch (Throwable ex) {
+				this.startThread = null;
+				this.state = State.START_FAILED;
+				stopInternalSilently();
+				throw new CassandraException("Unable to restart Test Cassandra", ex);
+			}
+		}
+	}
+
+	/**
+	 * Suspends the underlying {@link Cassandra}. {@link Cluster} and {@link Session} are closed, because a suspended
+	 * {@code Cassandra} does not answer driver heartbeats, and are re-created by {@link #getCluster()} and {@link
+	 * #getSession()} once {@code Cassandra} is {@link #resume() resumed}.
+	 *
+	 * @since 1.4.3
+	 * @see #setIdleTimeout(Duration)
+	 */
+	@Override
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void suspend() throws CassandraException {
+		synchronized (this.lock) {
+			if (this.state != State.SUSPENDED) {
+				if (this.state != State.STARTED) {
+					throw new CassandraException("Test Cassandra is not started. "
+							+ "Please start it before calling this method.");
+				}
+				closeCluster();
+				getCassandra().suspend();
+				this.state = State.SUSPENDED;
+			}
+		}
+	}
+
+	/**
+	 * Resumes the {@link #suspend() suspended} underlying {@link Cassandra}. {@link #getCluster()}, {@link
+	 * #getSession()}, {@link #getSettings()} and all utility methods resume it automatically.
+	 *
+	 * @since 1.4.3
+	 */
+	@Override
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void resume() throws CassandraException {
+		synchronized (this.lock) {
+			if (this.state == State.SUSPENDED) {
+				getCassandra().resume();
+				this.state = State.STARTED;
+				this.lastActivity = System.nanoTime();
+			}
+		}
+	}
+
+	/**
+	 * Returns the period of inactivity after which the underlying {@link Cassandra} is {@link #suspend()
+	 * suspended} automatically.
+	 *
+	 * @return the idle timeout, or {@code null} if {@code Cassandra} is never suspended automatically
+	 * @since 1.4.3
+	 */
+	@Nullable
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public Duration getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	/**
+	 * Sets the period of inactivity after which the underlying {@link Cassandra} is {@link #suspend() suspended}
+	 * automatically. Activity is any call of {@link #getCluster()}, {@link #getSession()} or utility methods, and
+	 * any request completed by the {@link #getCluster() Cluster}. {@code Cassandra} is not suspended while the
+	 * {@link #getSession() Session} has in-flight requests. A suspended {@code Cassandra} is resumed by the
+	 * next activity, therefore a {@link Session} must be obtained through {@link #getSession()} rather than kept in
+	 * a field. Has to be set before {@code Cassandra} is started.
+	 *
+	 * @param idleTimeout the idle timeout, or {@code null} to disable automatic suspension
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setIdleTimeout(@Nullable Duration idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Returns the limits the {@link #getLatencyReport() latency report} is {@link #verifyLatency() verified} against.
+	 *
+	 * @return the latency thresholds, or {@code null} if the latency is not verified
+	 * @since 1.4.3
+	 */
+	@Nullable
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LatencyThresholds getLatencyThresholds() {
+		return this.latencyThresholds;
+	}
+
+	/**
+	 * Sets the limits the {@link #getLatencyReport() latency report} is {@link #verifyLatency() verified} against.
+	 * Setting thresholds enables the latency detection, clearing them disables it.
+	 *
+	 * @param latencyThresholds the latency thresholds, or {@code null} to not verify the latency
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setLatencyThresholds(@Nullable LatencyThresholds latencyThresholds) {
+		this.latencyThresholds = latencyThresholds;
+		if (latencyThresholds != null) {
+			enableLatencyDetection();
+		}
+		else {
+			disableLatencyDetection();
+		}
+	}
+
+	/**
+	 * Returns GC pauses and slow queries reported by the underlying {@link Cassandra} since the latency detection has
+	 * been enabled or since the last {@link #resetLatencyReport() reset}. The latency detection is enabled by the
+	 * first call of this method, {@link #resetLatencyReport()} or {@link #setLatencyThresholds(LatencyThresholds)},
+	 * so that the node output is not parsed unless latency is of interest. The report is empty if the underlying
+	 * {@code Cassandra} does not {@link Cassandra#subscribe(Predicate, Consumer) publish} events.
+	 *
+	 * @return the latency report
+	 * @see LatencyDetector
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LatencyReport getLatencyReport() {
+		enableLatencyDetection();
+		return this.latencyDetector.getReport();
+	}
+
+	/**
+	 * Starts a new window of the {@link #getLatencyReport() latency report}, e.g. before each test.
+	 *
+	 * @return the report of the finished window
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LatencyReport resetLatencyReport() {
+		enableLatencyDetection();
+		return this.latencyDetector.reset();
+	}
+
+	/**
+	 * Verifies the {@link #getLatencyReport() latency report} against the {@link
+	 * #setLatencyThresholds(LatencyThresholds) latency thresholds}. Does nothing if thresholds are not set.
+	 *
+	 * @throws AssertionError if a threshold is exceeded and {@link LatencyThresholds#isFailOnViolation()} is
+	 * {@code true}
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void verifyLatency() throws AssertionError {
+		LatencyThresholds latencyThresholds = this.latencyThresholds;
+		if (latencyThresholds != null) {
+			latencyThresholds.verify(getLatencyReport());
+		}
+	}
+
 	@Override
 	public Settings getSettings() throws CassandraException {
+		onActivity();
 		return getCassandra().getSettings();
 	}
 
@@ -247,6 +477,23 @@ public class TestCassandra implements Cassandra {
 		return this.state;
 	}
 
+	@Override
+	public NodeStatus getStatus() throws CassandraException {
+		return getCassandra().getStatus();
+	}
+
+	@Override
+	public NodeEvent.Subscription subscribe(Predicate<? super NodeEvent> filter,
+			Consumer<? super NodeEvent> subscriber) throws CassandraException {
+		return getCassandra().subscribe(filter, subscriber);
+	}
+
+	@Override
+	public NodeMetrics getMetrics() {
+		Cassandra cassandra = this.cassandra;
+		return (cassandra != null) ? cassandra.getMetrics() : NodeMetrics.empty();
+	}
+
 	/**
 	 * Initializes a singleton {@link Cluster} via {@link ClusterFactory}. This {@link Cluster} will be closed by this
 	 * {@code Cassandra}.
@@ -254,6 +501,7 @@ public class TestCassandra implements Cassandra {
 	 * @return a {@link Cluster} instance
 	 */
 	public Cluster getCluster() {
+		onActivity();
 		Cluster cluster = this.cluster;
 		if (cluster == null) {
 			synchronized (this.lock) {
@@ -261,6 +509,7 @@ public class TestCassandra implements Cassandra {
 				if (cluster == null) {
 					cluster = this.clusterFactory.create(getSettings());
 					Objects.requireNonNull(cluster, "Cluster must not be null.");
+					cluster.register(new ActivityTracker());
 					this.cluster = cluster;
 				}
 			}
@@ -404,6 +653,9 @@ public class TestCassandra implements Cassandra {
 		if (log.isDebugEnabled()) {
 			log.debug("Starts Test Cassandra '{}'", cassandra);
 		}
+		if (this.latencyDetection) {
+			subscribeLatencyDetector(cassandra);
+		}
 		cassandra.start();
 		if (!this.scripts.isEmpty()) {
 			executeScripts(this.scripts.toArray(new CqlScript[0]));
@@ -414,6 +666,21 @@ public class TestCassandra implements Cassandra {
 	}
 
 	private void stopInternal() {
+		stopIdleMonitor();
+		closeCluster();
+		unsubscribeLatencyDetector();
+
+		Cassandra cassandra = this.cassandra;
+		if (cassandra != null) {
+			cassandra.stop();
+			if (log.isDebugEnabled() && cassandra.getState() == State.STOPPED) {
+				log.debug("Test Cassandra '{}' has been stopped", cassandra);
+			}
+		}
+		this.cassandra = null;
+	}
+
+	private void closeCluster() {
 		try {
 			Session session = this.session;
 			if (session != null) {
@@ -441,15 +708,124 @@ public class TestCassandra implements Cassandra {
 			log.error(String.format("Cluster '%s' has not been closed", this.cluster), ex);
 		}
 		this.cluster = null;
+	}
 
-		Cassandra cassandra = this.cassandra;
-		if (cassandra != null) {
-			cassandra.stop();
-			if (log.isDebugEnabled() && cassandra.getState() == State.STOPPED) {
-				log.debug("Test Cassandra '{}' has been stopped", cassandra);
+	private void enableLatencyDetection() {
+		if (!this.latencyDetection) {
+			this.latencyDetection = true;
+			Cassandra cassandra = this.cassandra;
+			if (cassandra != null) {
+				subscribeLatencyDetector(cassandra);
 			}
 		}
-		this.cassandra = null;
+	}
+
+	private void disableLatencyDetection() {
+		this.latencyDetection = false;
+		unsubscribeLatencyDetector();
+	}
+
+	private void subscribeLatencyDetector(Cassandra cassandra) {
+		synchronized (this.latencyLock) {
+			if (this.latencySubscription == null) {
+				try {
+					this.latencySubscription = this.latencyDetector.subscribe(cassandra);
+				}
+				catch (CassandraException ex) {
+					if (log.isDebugEnabled()) {
+						log.debug("Latency of '{}' is not detected: {}", cassandra, ex.getMessage());
+					}
+				}
+			}
+		}
+	}
+
+	private void unsubscribeLatencyDetector() {
+		synchronized (this.latencyLock) {
+			NodeEvent.Subscription latencySubscription = this.latencySubscription;
+			if (latencySubscription != null) {
+				latencySubscription.close();
+			}
+			this.latencySubscription = null;
+		}
+	}
+
+	private void onActivity() {
+		this.lastActivity = System.nanoTime();
+		if (this.state == State.SUSPENDED) {
+			resume();
+		}
+	}
+
+	private void startIdleMonitor() {
+		Duration idleTimeout = this.idleTimeout;
+		if (idleTimeout != null && this.idleMonitor == null) {
+			this.lastActivity = System.nanoTime();
+			ScheduledExecutorService idleMonitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "test-cassandra-idle-monitor");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long period = Math.max(100, Math.min(1000, idleTimeout.toMillis() / 2));
+			idleMonitor.scheduleWithFixedDelay(() -> suspendIfIdle(idleTimeout), period, period,
+					TimeUnit.MILLISECONDS);
+			this.idleMonitor = idleMonitor;
+		}
+	}
+
+	private void stopIdleMonitor() {
+		ScheduledExecutorService idleMonitor = this.idleMonitor;
+		if (idleMonitor != null) {
+			idleMonitor.shutdownNow();
+		}
+		this.idleMonitor = null;
+	}
+
+	private void suspendIfIdle(Duration idleTimeout) {
+		if (this.state != State.STARTED || System.nanoTime() - this.lastActivity < idleTimeout.toNanos()) {
+			return;
+		}
+		if (hasInFlightQueries()) {
+			this.lastActivity = System.nanoTime();
+			return;
+		}
+		synchronized (this.lock) {
+			if (this.state == State.STARTED && System.nanoTime() - this.lastActivity >= idleTimeout.toNanos()
+					&& !hasInFlightQueries()) {
+				log.info("Test Cassandra '{}' has been idle for {} ms and is suspended", getCassandra(),
+						idleTimeout.toMillis());
+				try {
+					suspend();
+				}
+				catch (Throwable ex) {
+					log.error(String.format("Test Cassandra '%s' has not been suspended. "
+							+ "Automatic suspension is disabled", getCassandra()), ex);
+					stopIdleMonitor();
+				}
+			}
+		}
+	}
+
+	private boolean hasInFlightQueries() {
+		Session session = this.session;
+		if (session == null) {
+			return false;
+		}
+		try {
+			Session.State state = session.getState();
+			for (Host host : state.getConnectedHosts()) {
+				if (state.getInFlightQueries(host) > 0) {
+					return true;
+				}
+			}
+			return false;
+		}
+		catch (Throwable ex) {
+			if (log.isDebugEnabled()) {
+				log.error(String.format("Could not get in-flight queries of a session '%s'", session), ex);
+			}
+			return false;
+		}
 	}
 
 	private void registerShutdownHook() {
@@ -476,4 +852,21 @@ public class TestCassandra implements Cassandra {
 		}
 	}
 
+	private final class ActivityTracker implements LatencyTracker {
+
+		@Override
+		public void update(Host host, Statement statement, @Nullable Exception exception, long newLatencyNanos) {
+			TestCassandra.this.lastActivity = System.nanoTime();
+		}
+
+		@Override
+		public void onRegister(Cluster cluster) {
+		}
+
+		@Override
+		public void onUnregister(Cluster cluster) {
+		}
+
+	}
+
 }
@@ -29,7 +29,10 @@ public final class TestCassandraBuilder extends AbstractTestCassandraBuilder<Tes
 
 	@Override
 	public TestCassandra build() {
-		return new TestCassandra(isRegisterShutdownHook(), getCassandraFactory(), getClusterFactory(), getScripts());
+		TestCassandra cassandra = new TestCassandra(isRegisterShutdownHook(), getCassandraFactory(),
+				getClusterFactory(), getScripts());
+		cassandra.setIdleTimeout(getIdleTimeout());
+		return cassandra;
 	}
 
 }
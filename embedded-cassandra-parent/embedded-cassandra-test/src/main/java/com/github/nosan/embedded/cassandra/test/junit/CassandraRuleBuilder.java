@@ -31,7 +31,10 @@ public final class CassandraRuleBuilder extends AbstractTestCassandraBuilder<Cas
 
 	@Override
 	public CassandraRule build() {
-		return new CassandraRule(isRegisterShutdownHook(), getCassandraFactory(), getClusterFactory(), getScripts());
+		CassandraRule cassandra = new CassandraRule(isRegisterShutdownHook(), getCassandraFactory(),
+				getClusterFactory(), getScripts());
+		cassandra.setIdleTimeout(getIdleTimeout());
+		return cassandra;
 	}
 
 }
@@ -19,7 +19,9 @@ package com.github.nosan.embedded.cassandra.test.jupiter;
 import com.datastax.driver.core.Cluster;
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
@@ -34,6 +36,9 @@ import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
  * JUnit {@link RegisterExtension Extension} that allows the Cassandra to be {@link Cassandra#start() started} and
  * {@link Cassandra#stop() stopped}.
  * <p>
+ * If {@link #setLatencyThresholds latency thresholds} are set, each test has its own {@link #resetLatencyReport()
+ * latency window}, which is {@link #verifyLatency() verified} after the test.
+ * <p>
  * The typical usage is:
  * <pre>
  * public class CassandraExtensionTests {
@@ -54,7 +59,8 @@ import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
  * @since 1.0.0
  */
 @API(since = "1.0.0", status = API.Status.STABLE)
-public class CassandraExtension extends TestCassandra implements BeforeAllCallback, AfterAllCallback {
+public class CassandraExtension extends TestCassandra
+		implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback {
 
 	/**
 	 * Creates a {@link CassandraExtension}.
@@ -154,4 +160,16 @@ public class CassandraExtension extends TestCassandra implements BeforeAllCallba
 		stop();
 	}
 
+	@Override
+	public void beforeEach(ExtensionContext context) {
+		if (getLatencyThresholds() != null) {
+			resetLatencyReport();
+		}
+	}
+
+	@Override
+	public void afterEach(ExtensionContext context) {
+		verifyLatency();
+	}
+
 }
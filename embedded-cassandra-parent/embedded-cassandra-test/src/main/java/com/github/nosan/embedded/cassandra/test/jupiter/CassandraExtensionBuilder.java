@@ -32,8 +32,10 @@ public final class CassandraExtensionBuilder
 
 	@Override
 	public CassandraExtension build() {
-		return new CassandraExtension(isRegisterShutdownHook(), getCassandraFactory(), getClusterFactory(),
-				getScripts());
+		CassandraExtension cassandra = new CassandraExtension(isRegisterShutdownHook(), getCassandraFactory(),
+				getClusterFactory(), getScripts());
+		cassandra.setIdleTimeout(getIdleTimeout());
+		return cassandra;
 	}
 
 }
@@ -19,7 +19,9 @@ package com.github.nosan.embedded.cassandra.test.testng;
 import com.datastax.driver.core.Cluster;
 import org.apiguardian.api.API;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 
 import com.github.nosan.embedded.cassandra.Cassandra;
 import com.github.nosan.embedded.cassandra.CassandraException;
@@ -155,4 +157,29 @@ public class CassandraTestNG extends TestCassandra {
 		super.stop();
 	}
 
+	/**
+	 * Starts a new {@link #resetLatencyReport() latency window} before each test method if {@link
+	 * #setLatencyThresholds latency thresholds} are set.
+	 *
+	 * @since 1.4.3
+	 */
+	@BeforeMethod(alwaysRun = true)
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void beforeLatencyWindow() {
+		if (getLatencyThresholds() != null) {
+			resetLatencyReport();
+		}
+	}
+
+	/**
+	 * {@link #verifyLatency() Verifies} the latency window after each test method.
+	 *
+	 * @since 1.4.3
+	 */
+	@AfterMethod(alwaysRun = true)
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void afterLatencyWindow() {
+		verifyLatency();
+	}
+
 }
@@ -16,6 +16,10 @@
 
 package com.github.nosan.embedded.cassandra;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 import org.apiguardian.api.API;
 
 /**
@@ -48,6 +52,160 @@ public interface Cassandra {
 	 */
 	void stop() throws CassandraException, CassandraInterruptedException;
 
+	/**
+	 * Starts the {@code Cassandra} in a new daemon thread. The returned future is completed with the {@link
+	 * #getSettings() settings} once the {@code Cassandra} has started, or exceptionally if it cannot be started.
+	 *
+	 * @return the future of the settings
+	 * @see #start()
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	default CompletableFuture<Settings> startAsync() {
+		CompletableFuture<Settings> future = new CompletableFuture<>();
+		Thread thread = new Thread(() -> {
+			try {
+				start();
+				future.complete(getSettings());
+			}
+			catch (Throwable ex) {
+				future.completeExceptionally(ex);
+			}
+		}, "cassandra-start");
+		thread.setDaemon(true);
+		thread.start();
+		return future;
+	}
+
+	/**
+	 * Stops the {@code Cassandra} in a new daemon thread. The returned future is completed once the {@code
+	 * Cassandra} has stopped, or exceptionally if it cannot be stopped.
+	 *
+	 * @return the future of the shutdown
+	 * @see #stop()
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	default CompletableFuture<Void> stopAsync() {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		Thread thread = new Thread(() -> {
+			try {
+				stop();
+				future.complete(null);
+			}
+			catch (Throwable ex) {
+				future.completeExceptionally(ex);
+			}
+		}, "cassandra-stop");
+		thread.setDaemon(true);
+		thread.start();
+		return future;
+	}
+
+	/**
+	 * Restarts the {@code Cassandra}. Causes the current thread to wait, until the {@code Cassandra} has started.
+	 *
+	 * @throws CassandraException if the {@code Cassandra} cannot be restarted
+	 * @throws CassandraInterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another
+	 * thread
+	 * @see #restart(boolean)
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	default void restart() throws CassandraException, CassandraInterruptedException {
+		restart(false);
+	}
+
+	/**
+	 * Restarts the {@code Cassandra}. Causes the current thread to wait, until the {@code Cassandra} has started.
+	 * <p>
+	 * A started {@code Cassandra} might be restarted without a re-initialization, keeping its data and ports. If
+	 * {@code kill} is {@code true}, {@code Cassandra} is killed without a graceful shutdown to simulate a crash.
+	 * Implementations that cannot do this just {@link #stop() stop} and {@link #start() start} the {@code
+	 * Cassandra}.
+	 *
+	 * @param kill whether {@code Cassandra} should be killed rather than stopped gracefully
+	 * @throws CassandraException if the {@code Cassandra} cannot be restarted
+	 * @throws CassandraInterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another
+	 * thread
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	default void restart(boolean kill) throws CassandraException, CassandraInterruptedException {
+		stop();
+		start();
+	}
+
+	/**
+	 * Suspends the {@code Cassandra}. A suspended {@code Cassandra} does not consume CPU, but keeps its memory, data
+	 * and ports, and can be {@link #resume() resumed} much faster than it can be started. Calling this method on an
+	 * already suspended {@code Cassandra} has no effect.
+	 *
+	 * @throws CassandraException if the {@code Cassandra} is not started or cannot be suspended
+	 * @throws CassandraInterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another
+	 * thread
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	default void suspend() throws CassandraException, CassandraInterruptedException {
+		throw new CassandraException(String.format("'%s' cannot be suspended", this));
+	}
+
+	/**
+	 * Resumes the {@link #suspend() suspended} {@code Cassandra}. Calling this method on a {@code Cassandra} which is
+	 * not suspended has no effect.
+	 *
+	 * @throws CassandraException if the {@code Cassandra} cannot be resumed
+	 * @throws CassandraInterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another
+	 * thread
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	default void resume() throws CassandraException, CassandraInterruptedException {
+	}
+
+	/**
+	 * Returns the resource usage (CPU time, memory, threads, I/O) of the {@code Cassandra} process sampled so far. The
+	 * metrics of the last run are kept after {@code Cassandra} has been stopped.
+	 *
+	 * @return the metrics, {@link NodeMetrics#empty() empty} if sampling is not supported or disabled
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	default NodeMetrics getMetrics() {
+		return NodeMetrics.empty();
+	}
+
+	/**
+	 * Returns the live status of the running {@code Cassandra} (operation mode, whether it has been initialized and
+	 * its transports are running).
+	 *
+	 * @return the status
+	 * @throws CassandraException if {@code Cassandra} is not started or does not provide a status
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	default NodeStatus getStatus() throws CassandraException {
+		throw new CassandraException(String.format("'%s' does not provide a status", this));
+	}
+
+	/**
+	 * Subscribes to the {@link NodeEvent events} parsed from the output of the {@code Cassandra} node. The subscriber
+	 * is invoked on the thread which reads the output, so it must not block. Subscriptions are kept across restarts.
+	 * The output is not parsed at all while there are no subscriptions.
+	 *
+	 * @param filter the filter of the events
+	 * @param subscriber the subscriber
+	 * @return the subscription
+	 * @throws CassandraException if {@code Cassandra} does not provide events
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	default NodeEvent.Subscription subscribe(Predicate<? super NodeEvent> filter,
+			Consumer<? super NodeEvent> subscriber) throws CassandraException {
+		throw new CassandraException(String.format("'%s' does not provide events", this));
+	}
+
 	/**
 	 * Returns the settings this {@code Cassandra} is running on. These settings can be retrieved only if {@code
 	 * Cassandra} state is {@link State#STARTED started}.
@@ -110,6 +268,12 @@ public interface Cassandra {
 		 * {@code Cassandra} has been stopped.
 		 */
 		STOPPED,
+		/**
+		 * {@code Cassandra} has been {@link #suspend() suspended}.
+		 *
+		 * @since 1.4.3
+		 */
+		SUSPENDED,
 		/**
 		 * The state of the {@code Cassandra} is unknown.
 		 */
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apiguardian.api.API;
+
+/**
+ * Collects GC pauses and slow queries from the {@link NodeEvent events} of a {@link Cassandra} node into a {@link
+ * LatencyReport}. The report covers a window which starts when the detector is created and can be restarted by
+ * {@link #reset()}, e.g. before each test.
+ * <p>
+ * GC pauses are reported by {@code GCInspector} when they exceed {@code gc_log_threshold_in_ms} ({@code 200ms} by
+ * default). Slow queries are reported by {@code Cassandra 4.0} and later at {@code DEBUG} level, therefore they are
+ * visible only if the node logs {@code MonitoringTask} at {@code DEBUG} level to the standard output.
+ *
+ * @author Dmytro Nosan
+ * @see Cassandra#subscribe(java.util.function.Predicate, Consumer)
+ * @see LatencyThresholds
+ * @since 1.4.3
+ */
+@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+public final class LatencyDetector implements Consumer<NodeEvent> {
+
+	private static final Pattern GC_PAUSE = Pattern.compile("^(?:(.+?) GC in (\\d+)ms|GC for (.+?): (\\d+) ms)");
+
+	private static final Pattern SLOW_QUERY = Pattern.compile("^<(.*)>, (?:time (\\d+) msec"
+			+ "|was slow (\\d+) times: avg/min/max \\d+/\\d+/(\\d+) msec)");
+
+	private final Object lock = new Object();
+
+	private List<LatencyReport.GcPause> gcPauses = new ArrayList<>();
+
+	private List<LatencyReport.SlowQuery> slowQueries = new ArrayList<>();
+
+	/**
+	 * Subscribes this detector to the events of the given {@link Cassandra}.
+	 *
+	 * @param cassandra the cassandra
+	 * @return the subscription
+	 * @throws CassandraException if {@code Cassandra} does not publish events
+	 */
+	public NodeEvent.Subscription subscribe(Cassandra cassandra) throws CassandraException {
+		Objects.requireNonNull(cassandra, "Cassandra must not be null");
+		return cassandra.subscribe(LatencyDetector::isLatencyEvent, this);
+	}
+
+	@Override
+	public void accept(NodeEvent event) {
+		if (event.getKind() == NodeEvent.Kind.GC_PAUSE) {
+			Matcher matcher = GC_PAUSE.matcher(event.getMessage());
+			if (matcher.find()) {
+				boolean legacy = matcher.group(1) == null;
+				String collector = matcher.group(legacy ? 3 : 1);
+				Duration duration = Duration.ofMillis(Long.parseLong(matcher.group(legacy ? 4 : 2)));
+				synchronized (this.lock) {
+					this.gcPauses.add(new LatencyReport.GcPause(event.getTimestamp(), collector, duration));
+				}
+			}
+		}
+		else if (event.getKind() == NodeEvent.Kind.SLOW_QUERY) {
+			Matcher matcher = SLOW_QUERY.matcher(event.getMessage());
+			if (matcher.find()) {
+				boolean once = matcher.group(2) != null;
+				int times = once ? 1 : Integer.parseInt(matcher.group(3));
+				Duration duration = Duration.ofMillis(Long.parseLong(matcher.group(once ? 2 : 4)));
+				synchronized (this.lock) {
+					this.slowQueries.add(new LatencyReport.SlowQuery(event.getTimestamp(), matcher.group(1), duration,
+							times));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the report of the current window.
+	 *
+	 * @return the report
+	 */
+	public LatencyReport getReport() {
+		synchronized (this.lock) {
+			return new LatencyReport(this.gcPauses, this.slowQueries);
+		}
+	}
+
+	/**
+	 * Starts a new window.
+	 *
+	 * @return the report of the finished window
+	 */
+	public LatencyReport reset() {
+		synchronized (this.lock) {
+			LatencyReport report = new LatencyReport(this.gcPauses, this.slowQueries);
+			this.gcPauses = new ArrayList<>();
+			this.slowQueries = new ArrayList<>();
+			return report;
+		}
+	}
+
+	private static boolean isLatencyEvent(NodeEvent event) {
+		return event.getKind() == NodeEvent.Kind.GC_PAUSE || event.getKind() == NodeEvent.Kind.SLOW_QUERY;
+	}
+
+}
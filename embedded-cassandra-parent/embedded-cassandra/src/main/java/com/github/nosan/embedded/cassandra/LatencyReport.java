@@ -0,0 +1,295 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Node-side latency problems (GC pauses and slow queries) reported by the {@link Cassandra} node within a window.
+ *
+ * @author Dmytro Nosan
+ * @see LatencyDetector
+ * @since 1.4.3
+ */
+@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+public final class LatencyReport {
+
+	private static final LatencyReport EMPTY = new LatencyReport(Collections.emptyList(), Collections.emptyList());
+
+	private static final long[] BUCKETS = {10, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+
+	private final List<GcPause> gcPauses;
+
+	private final List<SlowQuery> slowQueries;
+
+	/**
+	 * Creates a {@link LatencyReport}.
+	 *
+	 * @param gcPauses the GC pauses in chronological order
+	 * @param slowQueries the slow queries in chronological order
+	 */
+	public LatencyReport(List<GcPause> gcPauses, List<SlowQuery> slowQueries) {
+		Objects.requireNonNull(gcPauses, "GC Pauses must not be null");
+		Objects.requireNonNull(slowQueries, "Slow Queries must not be null");
+		this.gcPauses = Collections.unmodifiableList(new ArrayList<>(gcPauses));
+		this.slowQueries = Collections.unmodifiableList(new ArrayList<>(slowQueries));
+	}
+
+	/**
+	 * Returns {@link LatencyReport} without GC pauses and slow queries.
+	 *
+	 * @return the empty report
+	 */
+	public static LatencyReport empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns the GC pauses in chronological order.
+	 *
+	 * @return the GC pauses
+	 */
+	public List<GcPause> getGcPauses() {
+		return this.gcPauses;
+	}
+
+	/**
+	 * Returns the slow queries in chronological order.
+	 *
+	 * @return the slow queries
+	 */
+	public List<SlowQuery> getSlowQueries() {
+		return this.slowQueries;
+	}
+
+	/**
+	 * Returns the longest GC pause.
+	 *
+	 * @return the longest GC pause, or {@link Duration#ZERO} if there are no pauses
+	 */
+	public Duration getMaxGcPause() {
+		return this.gcPauses.stream().map(GcPause::getDuration).max(Duration::compareTo).orElse(Duration.ZERO);
+	}
+
+	/**
+	 * Returns the sum of all GC pauses.
+	 *
+	 * @return the total GC pause
+	 */
+	public Duration getTotalGcPause() {
+		return this.gcPauses.stream().map(GcPause::getDuration).reduce(Duration.ZERO, Duration::plus);
+	}
+
+	/**
+	 * Returns the histogram of GC pauses. Keys are the inclusive upper bounds of the buckets in ascending order
+	 * ({@code 10ms, 50ms, 100ms, ..., 10s}), the last bucket has no upper bound and is keyed by {@link
+	 * ChronoUnit#FOREVER}. Empty buckets are included.
+	 *
+	 * @return the pause count per bucket
+	 */
+	public Map<Duration, Integer> getGcPauseHistogram() {
+		int[] counts = new int[BUCKETS.length + 1];
+		for (GcPause gcPause : this.gcPauses) {
+			long millis = gcPause.getDuration().toMillis();
+			int bucket = 0;
+			while (bucket < BUCKETS.length && millis > BUCKETS[bucket]) {
+				bucket++;
+			}
+			counts[bucket]++;
+		}
+		Map<Duration, Integer> histogram = new LinkedHashMap<>();
+		for (int i = 0; i < BUCKETS.length; i++) {
+			histogram.put(Duration.ofMillis(BUCKETS[i]), counts[i]);
+		}
+		histogram.put(ChronoUnit.FOREVER.getDuration(), counts[BUCKETS.length]);
+		return Collections.unmodifiableMap(histogram);
+	}
+
+	/**
+	 * Returns the longest slow query.
+	 *
+	 * @return the duration of the longest slow query, or {@link Duration#ZERO} if there are no slow queries
+	 */
+	public Duration getMaxSlowQuery() {
+		return this.slowQueries.stream().map(SlowQuery::getDuration).max(Duration::compareTo).orElse(Duration.ZERO);
+	}
+
+	/**
+	 * Tells whether the report has neither GC pauses nor slow queries.
+	 *
+	 * @return {@code true} if the report is empty
+	 */
+	public boolean isEmpty() {
+		return this.gcPauses.isEmpty() && this.slowQueries.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("gcPauses=%d, maxGcPause=%d ms, totalGcPause=%d ms, slowQueries=%d, maxSlowQuery=%d ms",
+				this.gcPauses.size(), getMaxGcPause().toMillis(), getTotalGcPause().toMillis(),
+				this.slowQueries.size(), getMaxSlowQuery().toMillis());
+	}
+
+	/**
+	 * A garbage collection pause reported by {@code GCInspector}.
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public static final class GcPause {
+
+		@Nullable
+		private final LocalDateTime timestamp;
+
+		private final String collector;
+
+		private final Duration duration;
+
+		/**
+		 * Creates a {@link GcPause}.
+		 *
+		 * @param timestamp the timestamp, or {@code null} if unknown
+		 * @param collector the name of the collector (e.g. {@code ParNew})
+		 * @param duration the duration of the pause
+		 */
+		public GcPause(@Nullable LocalDateTime timestamp, String collector, Duration duration) {
+			this.timestamp = timestamp;
+			this.collector = Objects.requireNonNull(collector, "Collector must not be null");
+			this.duration = Objects.requireNonNull(duration, "Duration must not be null");
+		}
+
+		/**
+		 * Returns the timestamp of the pause.
+		 *
+		 * @return the timestamp, or {@code null} if unknown
+		 */
+		@Nullable
+		public LocalDateTime getTimestamp() {
+			return this.timestamp;
+		}
+
+		/**
+		 * Returns the name of the collector (e.g. {@code ParNew}).
+		 *
+		 * @return the collector
+		 */
+		public String getCollector() {
+			return this.collector;
+		}
+
+		/**
+		 * Returns the duration of the pause.
+		 *
+		 * @return the duration
+		 */
+		public Duration getDuration() {
+			return this.duration;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s %s GC in %d ms", this.timestamp, this.collector, this.duration.toMillis());
+		}
+
+	}
+
+	/**
+	 * A slow query reported by {@code MonitoringTask}.
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public static final class SlowQuery {
+
+		@Nullable
+		private final LocalDateTime timestamp;
+
+		private final String query;
+
+		private final Duration duration;
+
+		private final int times;
+
+		/**
+		 * Creates a {@link SlowQuery}.
+		 *
+		 * @param timestamp the timestamp, or {@code null} if unknown
+		 * @param query the query as reported by the node
+		 * @param duration the duration of the slowest execution
+		 * @param times how many times the query was slow
+		 */
+		public SlowQuery(@Nullable LocalDateTime timestamp, String query, Duration duration, int times) {
+			this.timestamp = timestamp;
+			this.query = Objects.requireNonNull(query, "Query must not be null");
+			this.duration = Objects.requireNonNull(duration, "Duration must not be null");
+			this.times = times;
+		}
+
+		/**
+		 * Returns the timestamp of the report.
+		 *
+		 * @return the timestamp, or {@code null} if unknown
+		 */
+		@Nullable
+		public LocalDateTime getTimestamp() {
+			return this.timestamp;
+		}
+
+		/**
+		 * Returns the query as reported by the node.
+		 *
+		 * @return the query
+		 */
+		public String getQuery() {
+			return this.query;
+		}
+
+		/**
+		 * Returns the duration of the slowest execution.
+		 *
+		 * @return the duration
+		 */
+		public Duration getDuration() {
+			return this.duration;
+		}
+
+		/**
+		 * Returns how many times the query was slow.
+		 *
+		 * @return the number of slow executions
+		 */
+		public int getTimes() {
+			return this.times;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s <%s> %d ms (%d times)", this.timestamp, this.query, this.duration.toMillis(),
+					this.times);
+		}
+
+	}
+
+}
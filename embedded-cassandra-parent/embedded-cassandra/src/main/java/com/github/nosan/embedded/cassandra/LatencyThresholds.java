@@ -0,0 +1,214 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Limits of the node-side latency problems that a {@link LatencyReport} is {@link #verify(LatencyReport) verified}
+ * against. Limits which are not set are not verified.
+ *
+ * @author Dmytro Nosan
+ * @see LatencyDetector
+ * @since 1.4.3
+ */
+@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+public final class LatencyThresholds {
+
+	private static final Logger log = LoggerFactory.getLogger(LatencyThresholds.class);
+
+	@Nullable
+	private Duration maxGcPause;
+
+	@Nullable
+	private Duration maxTotalGcPause;
+
+	@Nullable
+	private Duration maxSlowQuery;
+
+	@Nullable
+	private Integer maxSlowQueries;
+
+	private boolean failOnViolation = true;
+
+	/**
+	 * Returns the limit of a single GC pause.
+	 *
+	 * @return the limit, or {@code null} if not set
+	 */
+	@Nullable
+	public Duration getMaxGcPause() {
+		return this.maxGcPause;
+	}
+
+	/**
+	 * Sets the limit of a single GC pause.
+	 *
+	 * @param maxGcPause the limit, or {@code null} to not verify it
+	 */
+	public void setMaxGcPause(@Nullable Duration maxGcPause) {
+		this.maxGcPause = maxGcPause;
+	}
+
+	/**
+	 * Returns the limit of the sum of all GC pauses.
+	 *
+	 * @return the limit, or {@code null} if not set
+	 */
+	@Nullable
+	public Duration getMaxTotalGcPause() {
+		return this.maxTotalGcPause;
+	}
+
+	/**
+	 * Sets the limit of the sum of all GC pauses.
+	 *
+	 * @param maxTotalGcPause the limit, or {@code null} to not verify it
+	 */
+	public void setMaxTotalGcPause(@Nullable Duration maxTotalGcPause) {
+		this.maxTotalGcPause = maxTotalGcPause;
+	}
+
+	/**
+	 * Returns the limit of a single slow query.
+	 *
+	 * @return the limit, or {@code null} if not set
+	 */
+	@Nullable
+	public Duration getMaxSlowQuery() {
+		return this.maxSlowQuery;
+	}
+
+	/**
+	 * Sets the limit of a single slow query.
+	 *
+	 * @param maxSlowQuery the limit, or {@code null} to not verify it
+	 */
+	public void setMaxSlowQuery(@Nullable Duration maxSlowQuery) {
+		this.maxSlowQuery = maxSlowQuery;
+	}
+
+	/**
+	 * Returns the limit of the number of slow queries.
+	 *
+	 * @return the limit, or {@code null} if not set
+	 */
+	@Nullable
+	public Integer getMaxSlowQueries() {
+		return this.maxSlowQueries;
+	}
+
+	/**
+	 * Sets the limit of the number of slow queries.
+	 *
+	 * @param maxSlowQueries the limit, or {@code null} to not verify it
+	 */
+	public void setMaxSlowQueries(@Nullable Integer maxSlowQueries) {
+		this.maxSlowQueries = maxSlowQueries;
+	}
+
+	/**
+	 * Tells whether an exceeded limit fails the verification or is only logged as a warning.
+	 *
+	 * @return {@code true} if an exceeded limit fails the verification, {@code true} by default
+	 */
+	public boolean isFailOnViolation() {
+		return this.failOnViolation;
+	}
+
+	/**
+	 * Sets whether an exceeded limit fails the verification or is only logged as a warning.
+	 *
+	 * @param failOnViolation {@code true} if an exceeded limit fails the verification
+	 */
+	public void setFailOnViolation(boolean failOnViolation) {
+		this.failOnViolation = failOnViolation;
+	}
+
+	/**
+	 * Returns the exceeded limits of the given report.
+	 *
+	 * @param report the report
+	 * @return the descriptions of the exceeded limits, or an empty list if no limit is exceeded
+	 */
+	public List<String> getViolations(LatencyReport report) {
+		Objects.requireNonNull(report, "Report must not be null");
+		List<String> violations = new ArrayList<>();
+		Duration maxGcPause = this.maxGcPause;
+		if (maxGcPause != null && report.getMaxGcPause().compareTo(maxGcPause) > 0) {
+			violations.add(String.format("GC pause of %d ms exceeds %d ms", report.getMaxGcPause().toMillis(),
+					maxGcPause.toMillis()));
+		}
+		Duration maxTotalGcPause = this.maxTotalGcPause;
+		if (maxTotalGcPause != null && report.getTotalGcPause().compareTo(maxTotalGcPause) > 0) {
+			violations.add(String.format("Total GC pause of %d ms exceeds %d ms", report.getTotalGcPause().toMillis(),
+					maxTotalGcPause.toMillis()));
+		}
+		Duration maxSlowQuery = this.maxSlowQuery;
+		if (maxSlowQuery != null) {
+			for (LatencyReport.SlowQuery slowQuery : report.getSlowQueries()) {
+				if (slowQuery.getDuration().compareTo(maxSlowQuery) > 0) {
+					violations.add(String.format("Query <%s> of %d ms exceeds %d ms", slowQuery.getQuery(),
+							slowQuery.getDuration().toMillis(), maxSlowQuery.toMillis()));
+				}
+			}
+		}
+		Integer maxSlowQueries = this.maxSlowQueries;
+		if (maxSlowQueries != null && report.getSlowQueries().size() > maxSlowQueries) {
+			violations.add(String.format("%d slow queries exceed %d", report.getSlowQueries().size(),
+					maxSlowQueries));
+		}
+		return violations;
+	}
+
+	/**
+	 * Verifies the given report. If any limit is exceeded, either an {@link AssertionError} is thrown or a warning is
+	 * logged, depending on {@link #isFailOnViolation()}.
+	 *
+	 * @param report the report
+	 * @throws AssertionError if a limit is exceeded and {@link #isFailOnViolation()} is {@code true}
+	 */
+	public void verify(LatencyReport report) throws AssertionError {
+		List<String> violations = getViolations(report);
+		if (violations.isEmpty()) {
+			return;
+		}
+		String message = String.format("Node latency thresholds are exceeded (%s):%n\t%s", report,
+				String.join(String.format("%n\t"), violations));
+		if (this.failOnViolation) {
+			throw new AssertionError(message);
+		}
+		log.warn(message);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("maxGcPause=%s, maxTotalGcPause=%s, maxSlowQuery=%s, maxSlowQueries=%s,"
+						+ " failOnViolation=%s", this.maxGcPause, this.maxTotalGcPause, this.maxSlowQuery,
+				this.maxSlowQueries, this.failOnViolation);
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.LocalDateTime;
+
+import org.apiguardian.api.API;
+
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * A line of the {@link Cassandra} node output parsed according to the standard {@code Cassandra} log layout ({@code
+ * %-5level [%thread] %date{ISO8601} %F:%L - %msg}).
+ *
+ * @author Dmytro Nosan
+ * @see Cassandra#subscribe(java.util.function.Predicate, java.util.function.Consumer)
+ * @since 1.4.3
+ */
+@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+public final class NodeEvent {
+
+	private final Kind kind;
+
+	private final String level;
+
+	private final String thread;
+
+	@Nullable
+	private final LocalDateTime timestamp;
+
+	private final String logger;
+
+	private final String message;
+
+	/**
+	 * Creates a {@link NodeEvent}.
+	 *
+	 * @param kind the kind of the event
+	 * @param level the log level (e.g. {@code INFO})
+	 * @param thread the thread name
+	 * @param timestamp the timestamp, or {@code null} if unknown
+	 * @param logger the logger, i.e. the simple name of the class which has logged the event (e.g. {@code
+	 * GCInspector})
+	 * @param message the message
+	 */
+	public NodeEvent(Kind kind, String level, String thread, @Nullable LocalDateTime timestamp, String logger,
+			String message) {
+		this.kind = kind;
+		this.level = level;
+		this.thread = thread;
+		this.timestamp = timestamp;
+		this.logger = logger;
+		this.message = message;
+	}
+
+	/**
+	 * Returns the kind of the event.
+	 *
+	 * @return the kind
+	 */
+	public Kind getKind() {
+		return this.kind;
+	}
+
+	/**
+	 * Returns the log level (e.g. {@code INFO}).
+	 *
+	 * @return the log level
+	 */
+	public String getLevel() {
+		return this.level;
+	}
+
+	/**
+	 * Returns the name of the thread which has logged the event.
+	 *
+	 * @return the thread name
+	 */
+	public String getThread() {
+		return this.thread;
+	}
+
+	/**
+	 * Returns the timestamp of the event.
+	 *
+	 * @return the timestamp, or {@code null} if unknown
+	 */
+	@Nullable
+	public LocalDateTime getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * Returns the simple name of the class which has logged the event (e.g. {@code GCInspector}).
+	 *
+	 * @return the logger
+	 */
+	public String getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns the message.
+	 *
+	 * @return the message
+	 */
+	public String getMessage() {
+		return this.message;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s %s [%s] %s %s - %s", this.kind, this.level, this.thread, this.timestamp,
+				this.logger, this.message);
+	}
+
+	/**
+	 * Well-known kinds of events.
+	 */
+	public enum Kind {
+
+		/**
+		 * A garbage collection pause reported by {@code GCInspector}.
+		 */
+		GC_PAUSE,
+
+		/**
+		 * A compaction reported by {@code CompactionTask}.
+		 */
+		COMPACTION,
+
+		/**
+		 * A memtable flush reported by {@code Memtable} or {@code ColumnFamilyStore}.
+		 */
+		FLUSH,
+
+		/**
+		 * A schema change reported by {@code MigrationManager}.
+		 */
+		SCHEMA_CHANGE,
+
+		/**
+		 * A slow query reported by {@code MonitoringTask} ({@code Cassandra 4.0} and later). Slow queries are logged
+		 * at {@code DEBUG} level, one event is published per query.
+		 *
+		 * @since 1.4.3
+		 */
+		SLOW_QUERY,
+
+		/**
+		 * Any other event.
+		 */
+		OTHER
+
+	}
+
+	/**
+	 * A subscription to node events.
+	 */
+	@FunctionalInterface
+	public interface Subscription extends AutoCloseable {
+
+		/**
+		 * Cancels the subscription.
+		 */
+		@Override
+		void close();
+
+	}
+
+}
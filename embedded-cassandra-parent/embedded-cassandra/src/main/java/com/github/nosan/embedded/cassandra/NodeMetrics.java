@@ -0,0 +1,272 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+
+/**
+ * Resource usage of the {@link Cassandra} process as a time series of {@link Sample samples}.
+ *
+ * @author Dmytro Nosan
+ * @see Cassandra#getMetrics()
+ * @since 1.4.3
+ */
+@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+public final class NodeMetrics {
+
+	private static final NodeMetrics EMPTY = new NodeMetrics(Collections.emptyList());
+
+	private final List<Sample> samples;
+
+	/**
+	 * Creates a {@link NodeMetrics}.
+	 *
+	 * @param samples the samples in chronological order
+	 */
+	public NodeMetrics(List<Sample> samples) {
+		Objects.requireNonNull(samples, "Samples must not be null");
+		this.samples = Collections.unmodifiableList(new ArrayList<>(samples));
+	}
+
+	/**
+	 * Returns {@link NodeMetrics} without samples.
+	 *
+	 * @return the empty metrics
+	 */
+	public static NodeMetrics empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns the samples in chronological order.
+	 *
+	 * @return the samples
+	 */
+	public List<Sample> getSamples() {
+		return this.samples;
+	}
+
+	/**
+	 * Returns the most recent sample.
+	 *
+	 * @return the last sample, or {@code empty} if there are no samples
+	 */
+	public Optional<Sample> getLastSample() {
+		List<Sample> samples = this.samples;
+		return samples.isEmpty() ? Optional.empty() : Optional.of(samples.get(samples.size() - 1));
+	}
+
+	/**
+	 * Returns the CPU time (user and system) the process has consumed.
+	 *
+	 * @return the CPU time
+	 */
+	public Duration getCpuTime() {
+		return getLastSample().map(Sample::getCpuTime).orElse(Duration.ZERO);
+	}
+
+	/**
+	 * Returns the peak resident set size of the sampled process.
+	 *
+	 * @return the peak RSS in bytes
+	 */
+	public long getMaxRss() {
+		return this.samples.stream().mapToLong(Sample::getRss).max().orElse(0);
+	}
+
+	/**
+	 * Returns the peak number of threads of the sampled process.
+	 *
+	 * @return the peak number of threads
+	 */
+	public int getMaxThreads() {
+		return this.samples.stream().mapToInt(Sample::getThreads).max().orElse(0);
+	}
+
+	/**
+	 * Returns the number of bytes the process has read from storage.
+	 *
+	 * @return the read bytes
+	 */
+	public long getReadBytes() {
+		return getLastSample().map(Sample::getReadBytes).orElse(0L);
+	}
+
+	/**
+	 * Returns the number of bytes the process has written to storage.
+	 *
+	 * @return the written bytes
+	 */
+	public long getWriteBytes() {
+		return getLastSample().map(Sample::getWriteBytes).orElse(0L);
+	}
+
+	/**
+	 * Returns the number of voluntary and involuntary context switches of the process.
+	 *
+	 * @return the context switches
+	 */
+	public long getContextSwitches() {
+		return getLastSample().map(sample -> sample.getVoluntaryContextSwitches()
+				+ sample.getInvoluntaryContextSwitches()).orElse(0L);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("samples=%d, cpuTime=%d ms, maxRss=%d MB, maxThreads=%d, readBytes=%d, writeBytes=%d,"
+						+ " contextSwitches=%d", this.samples.size(), getCpuTime().toMillis(),
+				getMaxRss() / (1024 * 1024), getMaxThreads(), getReadBytes(), getWriteBytes(), getContextSwitches());
+	}
+
+	/**
+	 * Resource usage of the process at a point in time. CPU time, I/O and context switches are cumulative since the
+	 * process start.
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public static final class Sample {
+
+		private final Instant timestamp;
+
+		private final Duration cpuTime;
+
+		private final long rss;
+
+		private final int threads;
+
+		private final long readBytes;
+
+		private final long writeBytes;
+
+		private final long voluntaryContextSwitches;
+
+		private final long involuntaryContextSwitches;
+
+		/**
+		 * Creates a {@link Sample}.
+		 *
+		 * @param timestamp the time the sample has been taken at
+		 * @param cpuTime the consumed CPU time (user and system)
+		 * @param rss the resident set size in bytes
+		 * @param threads the number of threads
+		 * @param readBytes the number of bytes read from storage
+		 * @param writeBytes the number of bytes written to storage
+		 * @param voluntaryContextSwitches the number of voluntary context switches
+		 * @param involuntaryContextSwitches the number of involuntary context switches
+		 */
+		public Sample(Instant timestamp, Duration cpuTime, long rss, int threads, long readBytes, long writeBytes,
+				long voluntaryContextSwitches, long involuntaryContextSwitches) {
+			this.timestamp = Objects.requireNonNull(timestamp, "Timestamp must not be null");
+			this.cpuTime = Objects.requireNonNull(cpuTime, "CPU Time must not be null");
+			this.rss = rss;
+			this.threads = threads;
+			this.readBytes = readBytes;
+			this.writeBytes = writeBytes;
+			this.voluntaryContextSwitches = voluntaryContextSwitches;
+			this.involuntaryContextSwitches = involuntaryContextSwitches;
+		}
+
+		/**
+		 * Returns the time the sample has been taken at.
+		 *
+		 * @return the timestamp
+		 */
+		public Instant getTimestamp() {
+			return this.timestamp;
+		}
+
+		/**
+		 * Returns the consumed CPU time (user and system).
+		 *
+		 * @return the CPU time
+		 */
+		public Duration getCpuTime() {
+			return this.cpuTime;
+		}
+
+		/**
+		 * Returns the resident set size.
+		 *
+		 * @return the RSS in bytes
+		 */
+		public long getRss() {
+			return this.rss;
+		}
+
+		/**
+		 * Returns the number of threads.
+		 *
+		 * @return the threads
+		 */
+		public int getThreads() {
+			return this.threads;
+		}
+
+		/**
+		 * Returns the number of bytes read from storage.
+		 *
+		 * @return the read bytes
+		 */
+		public long getReadBytes() {
+			return this.readBytes;
+		}
+
+		/**
+		 * Returns the number of bytes written to storage.
+		 *
+		 * @return the written bytes
+		 */
+		public long getWriteBytes() {
+			return this.writeBytes;
+		}
+
+		/**
+		 * Returns the number of voluntary context switches.
+		 *
+		 * @return the voluntary context switches
+		 */
+		public long getVoluntaryContextSwitches() {
+			return this.voluntaryContextSwitches;
+		}
+
+		/**
+		 * Returns the number of involuntary context switches.
+		 *
+		 * @return the involuntary context switches
+		 */
+		public long getInvoluntaryContextSwitches() {
+			return this.involuntaryContextSwitches;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s: cpuTime=%d ms, rss=%d, threads=%d, readBytes=%d, writeBytes=%d,"
+							+ " voluntaryContextSwitches=%d, involuntaryContextSwitches=%d", this.timestamp,
+					this.cpuTime.toMillis(), this.rss, this.threads, this.readBytes, this.writeBytes,
+					this.voluntaryContextSwitches, this.involuntaryContextSwitches);
+		}
+
+	}
+
+}
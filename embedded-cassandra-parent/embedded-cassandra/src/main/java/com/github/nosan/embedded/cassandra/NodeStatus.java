@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import org.apiguardian.api.API;
+
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Status of the {@link Cassandra} node as reported by its {@code StorageService}.
+ *
+ * @author Dmytro Nosan
+ * @see Cassandra#getStatus()
+ * @since 1.4.3
+ */
+@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+public final class NodeStatus {
+
+	@Nullable
+	private final String operationMode;
+
+	private final boolean initialized;
+
+	private final boolean joined;
+
+	private final boolean gossipRunning;
+
+	private final boolean nativeTransportRunning;
+
+	private final boolean rpcServerRunning;
+
+	/**
+	 * Creates a {@link NodeStatus}.
+	 *
+	 * @param operationMode the operation mode (e.g. {@code STARTING}, {@code NORMAL}, {@code DRAINED})
+	 * @param initialized whether the node is initialized
+	 * @param joined whether the node has joined the ring
+	 * @param gossipRunning whether gossip is running
+	 * @param nativeTransportRunning whether the native transport is running
+	 * @param rpcServerRunning whether the thrift server is running
+	 */
+	public NodeStatus(@Nullable String operationMode, boolean initialized, boolean joined, boolean gossipRunning,
+			boolean nativeTransportRunning, boolean rpcServerRunning) {
+		this.operationMode = operationMode;
+		this.initialized = initialized;
+		this.joined = joined;
+		this.gossipRunning = gossipRunning;
+		this.nativeTransportRunning = nativeTransportRunning;
+		this.rpcServerRunning = rpcServerRunning;
+	}
+
+	/**
+	 * Returns the operation mode (e.g. {@code STARTING}, {@code NORMAL}, {@code DRAINED}).
+	 *
+	 * @return the operation mode, or {@code null} if unknown
+	 */
+	@Nullable
+	public String getOperationMode() {
+		return this.operationMode;
+	}
+
+	/**
+	 * Tells whether the node is initialized.
+	 *
+	 * @return {@code true} if the node is initialized
+	 */
+	public boolean isInitialized() {
+		return this.initialized;
+	}
+
+	/**
+	 * Tells whether the node has joined the ring.
+	 *
+	 * @return {@code true} if the node has joined the ring
+	 */
+	public boolean isJoined() {
+		return this.joined;
+	}
+
+	/**
+	 * Tells whether gossip is running.
+	 *
+	 * @return {@code true} if gossip is running
+	 */
+	public boolean isGossipRunning() {
+		return this.gossipRunning;
+	}
+
+	/**
+	 * Tells whether the native transport is running.
+	 *
+	 * @return {@code true} if the native transport is running
+	 */
+	public boolean isNativeTransportRunning() {
+		return this.nativeTransportRunning;
+	}
+
+	/**
+	 * Tells whether the thrift server is running.
+	 *
+	 * @return {@code true} if the thrift server is running
+	 */
+	public boolean isRpcServerRunning() {
+		return this.rpcServerRunning;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("operationMode=%s, initialized=%s, joined=%s, gossipRunning=%s,"
+						+ " nativeTransportRunning=%s, rpcServerRunning=%s", this.operationMode, this.initialized,
+				this.joined, this.gossipRunning, this.nativeTransportRunning, this.rpcServerRunning);
+	}
+
+}
@@ -172,6 +172,16 @@ public interface Settings {
 		return getVersion().getMajor() < 4 ? 9160 : -1;
 	}
 
+	/**
+	 * JMX port the node listens on (loopback only).
+	 *
+	 * @return The value of the {@code jmxLocalPort} attribute or {@code -1} if unknown
+	 * @since 1.4.3
+	 */
+	default int getJmxLocalPort() {
+		return -1;
+	}
+
 	/**
 	 * Cassandra version.
 	 *
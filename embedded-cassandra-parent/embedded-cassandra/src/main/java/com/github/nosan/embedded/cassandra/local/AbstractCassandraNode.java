@@ -17,38 +17,36 @@
 package com.github.nosan.embedded.cassandra.local;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.InetAddress;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.yaml.snakeyaml.Yaml;
 
 import com.github.nosan.embedded.cassandra.Cassandra;
+import com.github.nosan.embedded.cassandra.NodeStatus;
 import com.github.nosan.embedded.cassandra.Settings;
 import com.github.nosan.embedded.cassandra.Version;
+import com.github.nosan.embedded.cassandra.util.FileUtils;
 import com.github.nosan.embedded.cassandra.util.MDCUtils;
 import com.github.nosan.embedded.cassandra.util.NetworkUtils;
-import com.github.nosan.embedded.cassandra.util.PortUtils;
 import com.github.nosan.embedded.cassandra.util.StringUtils;
 import com.github.nosan.embedded.cassandra.util.SystemProperty;
 import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
@@ -90,9 +88,45 @@ abstract class AbstractCassandraNode implements CassandraNode {
 	@Nullable
 	private final Path javaHome;
 
+	private final LaunchMode launchMode;
+
+	@Nullable
+	private final ClassDataSharing classDataSharing;
+
+	private final Map<String, String> environment;
+
+	private final int cpus;
+
+	@Nullable
+	private final StartupDiagnostics diagnostics;
+
+	private final ReadinessMode readinessMode;
+
+	private final NodeOutput output;
+
 	@Nullable
 	private ProcessId processId;
 
+	@Nullable
+	private volatile StorageServiceClient storageService;
+
+	@Nullable
+	private CpuAllocator.Lease cpuLease;
+
+	@Nullable
+	private AsyncConsumer outputLogger;
+
+	@Nullable
+	private RollingFileConsumer outputFile;
+
+	@Nullable
+	private AsyncConsumer outputFileWriter;
+
+	@Nullable
+	private JvmParameters jvmParameters;
+
+	private volatile boolean suspended;
+
 	/**
 	 * Creates a {@link AbstractCassandraNode}.
 	 *
@@ -102,14 +136,30 @@ abstract class AbstractCassandraNode implements CassandraNode {
 	 * @param jvmOptions additional {@code JVM} options
 	 * @param javaHome java home directory
 	 * @param jmxPort JMX port
+	 * @param launchMode the way how the node is launched
+	 * @param classDataSharing class data sharing archive ({@link LaunchMode#JVM} only) or {@code null}
+	 * @param environment additional environment variables of the node process
+	 * @param cpus the number of CPU cores to pin the node process to ({@code 0} disables CPU affinity)
+	 * @param diagnostics startup diagnostics or {@code null}
+	 * @param readinessMode the way how the readiness of the node is detected
+	 * @param output the settings of the output pipeline
 	 */
 	AbstractCassandraNode(Path workingDirectory, Version version, Duration timeout, List<String> jvmOptions,
-			@Nullable Path javaHome, int jmxPort) {
+			@Nullable Path javaHome, int jmxPort, LaunchMode launchMode, @Nullable ClassDataSharing classDataSharing,
+			Map<String, String> environment, int cpus, @Nullable StartupDiagnostics diagnostics,
+			ReadinessMode readinessMode, NodeOutput output) {
 		this.workingDirectory = workingDirectory;
 		this.version = version;
 		this.timeout = timeout;
 		this.javaHome = javaHome;
 		this.jmxPort = jmxPort;
+		this.launchMode = launchMode;
+		this.classDataSharing = classDataSharing;
+		this.environment = Collections.unmodifiableMap(new LinkedHashMap<>(environment));
+		this.cpus = cpus;
+		this.diagnostics = diagnostics;
+		this.readinessMode = readinessMode;
+		this.output = output;
 		this.jvmOptions = Collections.unmodifiableList(new ArrayList<>(jvmOptions));
 	}
 
@@ -117,38 +167,104 @@ abstract class AbstractCassandraNode implements CassandraNode {
 	public final Settings start() throws IOException, InterruptedException {
 		ProcessBuilder processBuilder = new ProcessBuilder().directory(this.workingDirectory.toFile())
 				.redirectErrorStream(true);
-		Map<?, ?> properties = getProperties();
-		JvmParameters jvmParameters = getJvmParameters(properties);
+		String javaHome = getJavaHome(this.javaHome);
+		List<String> jvmOptions = new ArrayList<>(this.jvmOptions);
+		CpuAllocator.Lease cpuLease = allocateCpus();
+		this.cpuLease = cpuLease;
+		if (cpuLease != null && CassandraDaemonCommandLine.getJavaVersion(javaHome) >= 10
+				&& jvmOptions.stream().noneMatch(option -> option.contains("-XX:ActiveProcessorCount"))) {
+			jvmOptions.add("-XX:ActiveProcessorCount=" + cpuLease.getCores().size());
+		}
+		Map<?, ?> properties = ConfigurationUtils.getProperties(this.workingDirectory);
+		JvmParameters jvmParameters = this.jvmParameters;
+		if (jvmParameters == null) {
+			jvmParameters = getJvmParameters(properties, jvmOptions);
+			this.jvmParameters = jvmParameters;
+		}
 		RuntimeNodeSettings settings = getSettings(properties, jvmParameters);
 
-		String javaHome = getJavaHome(this.javaHome);
 		if (StringUtils.hasText(javaHome)) {
 			processBuilder.environment().put("JAVA_HOME", javaHome);
 		}
 		processBuilder.environment().put("JVM_EXTRA_OPTS", jvmParameters.toString());
+		processBuilder.environment().putAll(this.environment);
+
+		closeStorageService();
+		StorageServiceClient storageService = new StorageServiceClient(
+				jvmParameters.getJmxLocalPort().orElse(this.jmxPort));
+		this.storageService = storageService;
 
 		CompositeConsumer<String> consumer = new CompositeConsumer<>();
 		NodeReadiness nodeReadiness = new NodeReadiness();
+		Readiness readiness = (this.readinessMode == ReadinessMode.JMX)
+				? new JmxReadiness(storageService, settings, this.threadFactory) : nodeReadiness;
 		TransportReadiness transportReadiness = new TransportReadiness(settings);
-		BufferedConsumer bufferedConsumer = new BufferedConsumer(10);
-		consumer.add(LoggerFactory.getLogger(Cassandra.class)::info);
+		BufferedConsumer bufferedConsumer = new BufferedConsumer(this.output.getTailLines());
+		closeOutput();
+		OutputPolicy outputPolicy = this.output.getPolicy();
+		AsyncConsumer outputLogger = null;
+		if (outputPolicy == OutputPolicy.FORWARD || outputPolicy == OutputPolicy.FORWARD_UNTIL_READY) {
+			outputLogger = new AsyncConsumer(LoggerFactory.getLogger(Cassandra.class)::info,
+					NodeOutput.BUFFER_SIZE, this.output.getOverflow(), this.threadFactory);
+			this.outputLogger = outputLogger;
+			consumer.add(outputLogger);
+		}
+		consumer.add(this.output.getEvents());
 		consumer.add(bufferedConsumer);
-		consumer.add(nodeReadiness);
-		consumer.add(new RpcAddressConsumer(settings, consumer));
-		consumer.add(new ListenAddressConsumer(settings, consumer));
-
-		ProcessId processId = start(processBuilder, this.threadFactory,
-				new FilteredConsumer<>(consumer, new StackTraceFilter()));
+		//addresses have to be known before the readiness is signalled
+		consumer.add(new LogScanner(Arrays.asList(
+				new AddressRule(settings.getPort(), settings.getSslPort(), settings::setRealAddress),
+				new AddressRule(settings.getStoragePort(), settings.getSslStoragePort(),
+						settings::setRealListenAddress), nodeReadiness)));
+
+		CompositeConsumer<String> outputConsumer = new CompositeConsumer<>();
+		if (outputPolicy == OutputPolicy.FILE) {
+			RollingFileConsumer outputFile = new RollingFileConsumer(this.workingDirectory.resolve("logs/output.log"),
+					NodeOutput.MAX_FILE_SIZE, NodeOutput.MAX_FILES, this.threadFactory);
+			this.outputFile = outputFile;
+			AsyncConsumer outputFileWriter = new AsyncConsumer(outputFile, NodeOutput.BUFFER_SIZE,
+					this.output.getOverflow(), this.threadFactory);
+			this.outputFileWriter = outputFileWriter;
+			outputConsumer.add(outputFileWriter);
+		}
+		outputConsumer.add(new FilteredConsumer<>(consumer, new StackTraceFilter()));
+		ProcessId processId;
+		if (this.launchMode == LaunchMode.JVM) {
+			processId = startDaemon(processBuilder, javaHome, jvmParameters, outputConsumer);
+		}
+		else {
+			processId = start(processBuilder, this.threadFactory, outputConsumer);
+		}
 		this.processId = processId;
-		if (isStarted(this.timeout, processId, bufferedConsumer, transportReadiness, nodeReadiness)) {
+		this.suspended = false;
+		StartupDiagnostics.Schedule diagnosticsSchedule = (this.diagnostics != null)
+				? this.diagnostics.schedule(this.timeout, processId.getPid(), javaHome, this.threadFactory) : null;
+		boolean started;
+		try {
+			started = isStarted(this.timeout, processId, javaHome, bufferedConsumer, transportReadiness, readiness);
+		}
+		finally {
+			if (diagnosticsSchedule != null) {
+				diagnosticsSchedule.cancel();
+			}
+		}
+		if (started) {
 			consumer.remove(bufferedConsumer);
-			consumer.remove(nodeReadiness);
+			if (outputLogger != null && outputPolicy == OutputPolicy.FORWARD_UNTIL_READY) {
+				consumer.remove(outputLogger);
+				closeOutput();
+			}
 			this.log.info("Cassandra Node '{}' has been started", processId.getPid());
 			return settings;
 		}
-		throw new IOException(
+		IOException ex = new IOException(
 				String.format("Cassandra Node '%s' has not been started, seems like (%d) milliseconds is not enough.",
 						processId.getPid(), this.timeout.toMillis()));
+		StartupDiagnostics.Report report = (diagnosticsSchedule != null) ? diagnosticsSchedule.getReport() : null;
+		if (report == null && this.diagnostics != null) {
+			report = this.diagnostics.collect(processId.getPid(), javaHome);
+		}
+		throw (report != null) ? report.attach(ex) : ex;
 	}
 
 	@Override
@@ -158,18 +274,22 @@ abstract class AbstractCassandraNode implements CassandraNode {
 		if (processId != null && process.isAlive()) {
 			long pid = processId.getPid();
 			this.log.info("Stops Cassandra Node '{}'", pid);
+			CompletableFuture<?> exit = ProcessUtils.onExit(process, this.threadFactory);
+			if (this.suspended) {
+				resume();
+			}
 			if (!isTerminating(pid)) {
 				process.destroy();
 			}
-			if (!isShutdown(Duration.ofSeconds(5), process)) {
+			if (!isShutdown(Duration.ofSeconds(5), exit)) {
 				if (!isTerminating(pid)) {
 					process.destroy();
 				}
-				if (!isShutdown(Duration.ofSeconds(5), process)) {
+				if (!isShutdown(Duration.ofSeconds(5), exit)) {
 					if (!isKilling(pid)) {
 						process.destroyForcibly();
 					}
-					if (!isShutdown(Duration.ofSeconds(5), process)) {
+					if (!isShutdown(Duration.ofSeconds(5), exit)) {
 						process.destroyForcibly();
 					}
 				}
@@ -180,6 +300,109 @@ abstract class AbstractCassandraNode implements CassandraNode {
 			this.processId = null;
 			this.log.info("Cassandra Node '{}' has been stopped", pid);
 		}
+		if (process == null || !process.isAlive()) {
+			closeStorageService();
+			ClassDataSharing classDataSharing = this.classDataSharing;
+			if (classDataSharing != null) {
+				classDataSharing.complete(this.threadFactory);
+			}
+			releaseCpus();
+			closeOutput();
+		}
+	}
+
+	@Override
+	public final void kill() throws IOException, InterruptedException {
+		ProcessId processId = this.processId;
+		Process process = (processId != null) ? processId.getProcess() : null;
+		if (processId != null && process.isAlive()) {
+			long pid = processId.getPid();
+			this.log.info("Kills Cassandra Node '{}'", pid);
+			CompletableFuture<?> exit = ProcessUtils.onExit(process, this.threadFactory);
+			if (!isKilling(pid)) {
+				process.destroyForcibly();
+			}
+			if (!isShutdown(Duration.ofSeconds(5), exit)) {
+				process.destroyForcibly();
+				if (!isShutdown(Duration.ofSeconds(5), exit)) {
+					throw new IOException(String.format("Casandra Node '%s' has not been killed.", pid));
+				}
+			}
+			this.processId = null;
+			this.log.info("Cassandra Node '{}' has been killed", pid);
+		}
+		if (process == null || !process.isAlive()) {
+			closeStorageService();
+			ClassDataSharing classDataSharing = this.classDataSharing;
+			if (classDataSharing != null) {
+				classDataSharing.complete(this.threadFactory);
+			}
+			releaseCpus();
+			closeOutput();
+		}
+	}
+
+	@Override
+	public final void suspend() throws IOException, InterruptedException {
+		ProcessId processId = this.processId;
+		if (processId != null && processId.getProcess().isAlive() && !this.suspended) {
+			long pid = processId.getPid();
+			ProcessBuilder builder = new ProcessBuilder().directory(this.workingDirectory.toFile())
+					.redirectErrorStream(true);
+			if (suspend(pid, builder, this.threadFactory, this.log::info) != 0) {
+				throw new IOException(String.format("Cassandra Node '%s' has not been suspended.", pid));
+			}
+			this.suspended = true;
+			this.log.info("Cassandra Node '{}' has been suspended", pid);
+		}
+	}
+
+	@Override
+	public final void resume() throws IOException, InterruptedException {
+		ProcessId processId = this.processId;
+		if (processId != null && processId.getProcess().isAlive() && this.suspended) {
+			long pid = processId.getPid();
+			ProcessBuilder builder = new ProcessBuilder().directory(this.workingDirectory.toFile())
+					.redirectErrorStream(true);
+			if (resume(pid, builder, this.threadFactory, this.log::info) != 0) {
+				throw new IOException(String.format("Cassandra Node '%s' has not been resumed.", pid));
+			}
+			this.suspended = false;
+			this.log.info("Cassandra Node '{}' has been resumed", pid);
+		}
+	}
+
+	@Override
+	public final NodeStatus getStatus() throws IOException {
+		StorageServiceClient storageService = this.storageService;
+		if (storageService == null) {
+			throw new IOException("Cassandra Node is not started");
+		}
+		return storageService.getStatus();
+	}
+
+	@Override
+	public final long getPid() {
+		ProcessId processId = this.processId;
+		return (processId != null) ? processId.getPid() : -1;
+	}
+
+	/**
+	 * Returns the launcher command which has to precede the node command (e.g. {@code taskset -c 6,7}).
+	 *
+	 * @return the launcher command (may be empty)
+	 * @since 1.4.3
+	 */
+	protected final List<String> getLauncher() {
+		CpuAllocator.Lease cpuLease = this.cpuLease;
+		if (cpuLease != null) {
+			List<String> launcher = new ArrayList<>();
+			launcher.add("taskset");
+			launcher.add("-c");
+			launcher.add(cpuLease.getCpuList());
+			return launcher;
+		}
+		return Collections.emptyList();
 	}
 
 	/**
@@ -222,12 +445,100 @@ abstract class AbstractCassandraNode implements CassandraNode {
 	protected abstract int kill(long pid, ProcessBuilder builder, ThreadFactory threadFactory,
 			Consumer<String> consumer) throws IOException, InterruptedException;
 
-	private Map<?, ?> getProperties() throws IOException {
-		try (InputStream is = Files.newInputStream(this.workingDirectory.resolve("conf/cassandra.yaml"))) {
-			Yaml yaml = new Yaml();
-			Map properties = yaml.loadAs(is, Map.class);
-			return (properties != null) ? properties : Collections.emptyMap();
+	/**
+	 * Suspends the Apache Cassandra.
+	 *
+	 * @param pid the pid
+	 * @param builder the almost configured builder (does not have command)
+	 * @param threadFactory thread factory to create a process reader.
+	 * @param consumer the output consumer
+	 * @return the exit value of the suspend subprocess.
+	 * @throws IOException in the case of I/O errors
+	 * @throws InterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another thread
+	 * @since 1.4.3
+	 */
+	protected abstract int suspend(long pid, ProcessBuilder builder, ThreadFactory threadFactory,
+			Consumer<String> consumer) throws IOException, InterruptedException;
+
+	/**
+	 * Resumes the suspended Apache Cassandra.
+	 *
+	 * @param pid the pid
+	 * @param builder the almost configured builder (does not have command)
+	 * @param threadFactory thread factory to create a process reader.
+	 * @param consumer the output consumer
+	 * @return the exit value of the resume subprocess.
+	 * @throws IOException in the case of I/O errors
+	 * @throws InterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another thread
+	 * @since 1.4.3
+	 */
+	protected abstract int resume(long pid, ProcessBuilder builder, ThreadFactory threadFactory,
+			Consumer<String> consumer) throws IOException, InterruptedException;
+
+	private ProcessId startDaemon(ProcessBuilder builder, @Nullable String javaHome, JvmParameters jvmParameters,
+			Consumer<String> consumer) throws IOException {
+		Map<String, String> environment = builder.environment();
+		environment.putIfAbsent("MALLOC_ARENA_MAX", "4");
+		List<String> command = new ArrayList<>(getLauncher());
+		command.addAll(new CassandraDaemonCommandLine(this.workingDirectory, this.version, javaHome,
+				jvmParameters, environment, this.classDataSharing).getCommand());
+		if (this.log.isDebugEnabled()) {
+			this.log.debug("Launches CassandraDaemon: {}", String.join(" ", command));
+		}
+		Process process = new RunProcess(builder.command(command), this.threadFactory).run(consumer);
+		return new ProcessId(process);
+	}
+
+	@Nullable
+	private CpuAllocator.Lease allocateCpus() throws IOException {
+		if (this.cpus <= 0) {
+			return null;
 		}
+		if (!CpuAllocator.isSupported()) {
+			this.log.warn("CPU affinity requires Linux and 'taskset'. The node is not pinned to CPU cores.");
+			return null;
+		}
+		CpuAllocator.Lease lease = getCpuAllocator().allocate(this.cpus);
+		if (lease != null) {
+			this.log.info("Cassandra Node is pinned to CPU cores '{}'", lease.getCpuList());
+		}
+		return lease;
+	}
+
+	private void releaseCpus() {
+		CpuAllocator.Lease cpuLease = this.cpuLease;
+		this.cpuLease = null;
+		if (cpuLease != null) {
+			try {
+				getCpuAllocator().release(cpuLease);
+			}
+			catch (IOException ex) {
+				this.log.error(String.format("CPU cores '%s' have not been released", cpuLease.getCpuList()), ex);
+			}
+		}
+	}
+
+	private void closeOutput() throws InterruptedException {
+		AsyncConsumer outputFileWriter = this.outputFileWriter;
+		this.outputFileWriter = null;
+		if (outputFileWriter != null) {
+			outputFileWriter.close();
+		}
+		RollingFileConsumer outputFile = this.outputFile;
+		this.outputFile = null;
+		if (outputFile != null) {
+			outputFile.close();
+		}
+		AsyncConsumer outputLogger = this.outputLogger;
+		this.outputLogger = null;
+		if (outputLogger != null) {
+			outputLogger.close();
+		}
+	}
+
+	private static CpuAllocator getCpuAllocator() {
+		return new CpuAllocator(FileUtils.getTmpDirectory().resolve("embedded-cassandra/cpu.leases"),
+				CpuAllocator.getAllowedCores());
 	}
 
 	@Nullable
@@ -240,47 +551,57 @@ abstract class AbstractCassandraNode implements CassandraNode {
 		return new RuntimeNodeSettings(this.version, properties, jvmParameters);
 	}
 
-	private JvmParameters getJvmParameters(Map<?, ?> properties) {
-		return new JvmParameters(this.jvmOptions, this.jmxPort, new NodeSettings(this.version, properties));
+	private JvmParameters getJvmParameters(Map<?, ?> properties, List<String> jvmOptions) throws IOException {
+		return new JvmParameters(jvmOptions, this.jmxPort, new NodeSettings(this.version, properties),
+				PortAllocator.create(this.workingDirectory));
 	}
 
-	private boolean isStarted(Duration timeout, ProcessId processId, BufferedConsumer bufferedConsumer,
-			TransportReadiness transportReadiness, NodeReadiness nodeReadiness) throws IOException,
-			InterruptedException {
+	private boolean isStarted(Duration timeout, ProcessId processId, @Nullable String javaHome,
+			BufferedConsumer bufferedConsumer, TransportReadiness transportReadiness, Readiness readiness)
+			throws IOException, InterruptedException {
 		Process process = processId.getProcess();
+		CompletableFuture<?> exit = ProcessUtils.onExit(process, this.threadFactory);
+		exit.thenRun(readiness::wakeup);
+		StartupDiagnostics diagnostics = this.diagnostics;
 		long start = System.nanoTime();
-		long rem = timeout.toNanos();
-		do {
+		while (true) {
 			long pid = processId.getPid();
-			if (!process.isAlive()) {
+			if (exit.isDone()) {
 				int exitValue = process.exitValue();
-				throw new IOException(String.format("Cassandra Node '%s' is not alive. Exit code is '%s'. "
+				IOException ex = new IOException(String.format("Cassandra Node '%s' is not alive. Exit code is '%s'. "
 						+ "Please see logs for more details.%n%s", pid, exitValue, bufferedConsumer));
+				throw (diagnostics != null) ? diagnostics.collect(-1, javaHome).attach(ex) : ex;
 			}
-			if (nodeReadiness.get() && transportReadiness.get()) {
-				return true;
+			long elapsed = System.nanoTime() - start;
+			long rem = timeout.toNanos() - elapsed;
+			if (rem <= 0) {
+				return false;
 			}
-			if (rem > 0) {
-				Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(rem) + 1, 100));
+			if (readiness.await(rem) && !exit.isDone()) {
+				long waited = System.nanoTime() - start - elapsed;
+				if (transportReadiness.await(rem - waited, exit)) {
+					return true;
+				}
 			}
-			rem = timeout.toNanos() - (System.nanoTime() - start);
-		} while (rem > 0);
-		return false;
+		}
 	}
 
-	private boolean isShutdown(Duration timeout, Process process) throws InterruptedException {
-		long start = System.nanoTime();
-		long rem = timeout.toNanos();
-		do {
-			if (!process.isAlive()) {
-				return true;
-			}
-			if (rem > 0) {
-				Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(rem) + 1, 250));
-			}
-			rem = timeout.toNanos() - (System.nanoTime() - start);
-		} while (rem > 0);
-		return false;
+	private static boolean isShutdown(Duration timeout, CompletableFuture<?> exit) throws InterruptedException {
+		try {
+			exit.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+			return true;
+		}
+		catch (TimeoutException | ExecutionException ex) {
+			return false;
+		}
+	}
+
+	private void closeStorageService() {
+		StorageServiceClient storageService = this.storageService;
+		if (storageService != null) {
+			storageService.close();
+		}
+		this.storageService = null;
 	}
 
 	private boolean isTerminating(long pid) throws InterruptedException {
@@ -307,265 +628,286 @@ abstract class AbstractCassandraNode implements CassandraNode {
 		}
 	}
 
-	private static final class TransportReadiness implements Supplier<Boolean> {
-
-		private final Settings settings;
+	/**
+	 * Detects whether the node is ready.
+	 */
+	private interface Readiness {
 
-		TransportReadiness(Settings settings) {
-			this.settings = settings;
-		}
+		/**
+		 * Waits until the node is ready, the timeout elapses or the waiting thread is {@link #wakeup() woken up}.
+		 *
+		 * @param timeout the maximum time to wait in nanoseconds
+		 * @return whether the node is ready
+		 * @throws InterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another
+		 * thread
+		 */
+		boolean await(long timeout) throws InterruptedException;
 
-		@Override
-		public Boolean get() {
-			Settings settings = this.settings;
-			Predicate<Settings> condition = (ignore) -> true;
-			if (settings.isStartNativeTransport()) {
-				condition = condition.and(TransportReadiness::isNativeTransportReady);
-			}
-			if (settings.isStartRpc()) {
-				condition = condition.and(TransportReadiness::isRpcTransportReady);
-			}
-			return condition.test(settings);
-		}
+		/**
+		 * Wakes up the thread {@link #await(long) awaiting} the readiness.
+		 */
+		void wakeup();
 
-		private static boolean isNativeTransportReady(Settings settings) {
-			return isPortBusy(settings.getRealAddress(), settings.getPort()) && isPortBusy(settings.getRealAddress(),
-					settings.getSslPort());
-		}
+	}
 
-		private static boolean isRpcTransportReady(Settings settings) {
-			return isPortBusy(settings.getRealAddress(), settings.getRpcPort());
-		}
+	/**
+	 * Signals as soon as the node reports that it is listening for clients. If no such line is logged within 20
+	 * seconds, the node is considered to be ready and only its transports are checked.
+	 */
+	static final class NodeReadiness implements LogScanner.Rule, Readiness {
 
-		private static boolean isPortBusy(InetAddress address, @Nullable Integer port) {
-			return (port == null || port == -1) || PortUtils.isPortBusy(address, port);
-		}
+		private static final long FALLBACK = TimeUnit.SECONDS.toNanos(20);
 
-	}
+		private final long start = System.nanoTime();
 
-	private static final class NodeReadiness implements Consumer<String>, Supplier<Boolean> {
+		private boolean ready = false;
 
-		private volatile boolean ready = false;
+		@Override
+		public String[][] getKeywords() {
+			return new String[][]{{"listening", "clients"}, {"not", "starting", "as", "requested"}};
+		}
 
-		private long start = System.currentTimeMillis();
+		@Override
+		public synchronized boolean apply(String line, int start, int end) {
+			this.ready = true;
+			notifyAll();
+			return true;
+		}
 
 		@Override
-		public void accept(String line) {
-			if (match(line)) {
-				this.ready = true;
-			}
+		public synchronized void wakeup() {
+			notifyAll();
 		}
 
 		@Override
-		public Boolean get() {
-			boolean ready = this.ready;
-			if (!ready) {
-				long elapsed = System.currentTimeMillis() - this.start;
-				return TimeUnit.MILLISECONDS.toSeconds(elapsed) > 20;
+		public synchronized boolean await(long timeout) throws InterruptedException {
+			if (!isReady()) {
+				long rem = Math.min(timeout, FALLBACK - (System.nanoTime() - this.start));
+				if (rem > 0) {
+					TimeUnit.NANOSECONDS.timedWait(this, rem);
+				}
 			}
-			return true;
+			return isReady();
 		}
 
-		private static boolean match(String line) {
-			return line.matches("(?i).*listening.*clients.*") || line
-					.matches("(?i).*not\\s*starting.*as\\s*requested.*");
+		private boolean isReady() {
+			return this.ready || System.nanoTime() - this.start >= FALLBACK;
 		}
 
 	}
 
-	private static final class RpcAddressConsumer implements Consumer<String> {
-
-		private static final Logger log = LoggerFactory.getLogger(RpcAddressConsumer.class);
-
-		private final RuntimeNodeSettings settings;
-
-		private final Pattern regex;
-
-		private final CompositeConsumer<String> consumer;
+	/**
+	 * Polls the {@code StorageService} of the node with a bounded backoff until it is initialized, its operation mode
+	 * is {@code NORMAL} and the enabled transports are running.
+	 */
+	private static final class JmxReadiness implements Readiness {
 
-		RpcAddressConsumer(RuntimeNodeSettings settings, CompositeConsumer<String> consumer) {
-			this.settings = settings;
-			this.regex = Pattern
-					.compile(String.format(".*/(.+):\\s*(%d|%d).*", settings.getPort(), settings.getSslPort()));
-			this.consumer = consumer;
-		}
+		private static final long MIN_BACKOFF = TimeUnit.MILLISECONDS.toNanos(10);
 
-		@Override
-		public void accept(String line) {
-			Matcher matcher = this.regex.matcher(line);
-			if (matcher.matches()) {
-				String address = matcher.group(1).trim();
-				try {
-					this.settings.setRealAddress(NetworkUtils.getInetAddress(address.trim()));
-					this.consumer.remove(this);
-				}
-				catch (Throwable ex) {
-					if (log.isDebugEnabled()) {
-						log.error(String.format("Could not parse an InetAddress '%s'", address), ex);
-					}
-				}
-			}
-		}
+		private static final long MAX_BACKOFF = TimeUnit.MILLISECONDS.toNanos(500);
 
-	}
+		private final StorageServiceClient storageService;
 
-	private static final class ListenAddressConsumer implements Consumer<String> {
+		private final Settings settings;
 
-		private static final Logger log = LoggerFactory.getLogger(ListenAddressConsumer.class);
+		private final ThreadFactory threadFactory;
 
-		private final RuntimeNodeSettings settings;
+		private final CompletableFuture<Boolean> woken = new CompletableFuture<>();
 
-		private final Pattern regex;
+		private long backoff = MIN_BACKOFF;
 
-		private final CompositeConsumer<String> consumer;
+		@Nullable
+		private CompletableFuture<Boolean> poll;
 
-		ListenAddressConsumer(RuntimeNodeSettings settings, CompositeConsumer<String> consumer) {
+		JmxReadiness(StorageServiceClient storageService, Settings settings, ThreadFactory threadFactory) {
+			this.storageService = storageService;
 			this.settings = settings;
-			this.regex = Pattern.compile(
-					String.format(".*/(.+):\\s*(%d|%d).*", settings.getStoragePort(), settings.getSslStoragePort()));
-			this.consumer = consumer;
+			this.threadFactory = threadFactory;
+		}
+
+		@Override
+		public void wakeup() {
+			this.woken.complete(false);
 		}
 
 		@Override
-		public void accept(String line) {
-			Matcher matcher = this.regex.matcher(line);
-			if (matcher.matches()) {
-				String address = matcher.group(1).trim();
-				try {
-					this.settings.setRealListenAddress(NetworkUtils.getInetAddress(address.trim()));
-					this.consumer.remove(this);
+		public boolean await(long timeout) throws InterruptedException {
+			long start = System.nanoTime();
+			while (true) {
+				long rem = timeout - (System.nanoTime() - start);
+				if (rem <= 0 || this.woken.isDone()) {
+					return false;
 				}
-				catch (Throwable ex) {
-					if (log.isDebugEnabled()) {
-						log.error(String.format("Could not parse an InetAddress '%s'", address), ex);
-					}
+				if (poll(rem)) {
+					return true;
+				}
+				rem = timeout - (System.nanoTime() - start);
+				if (rem <= 0 || this.woken.isDone()) {
+					return false;
 				}
+				await(this.woken, Math.min(rem, this.backoff));
+				this.backoff = Math.min(this.backoff * 2, MAX_BACKOFF);
 			}
 		}
 
-	}
+		//a JMX call is not bounded by a timeout, therefore it is made by a separate thread and a stalled call is
+		//awaited by the next poll rather than issued again
+		private boolean poll(long timeout) throws InterruptedException {
+			CompletableFuture<Boolean> poll = this.poll;
+			if (poll == null) {
+				poll = new CompletableFuture<>();
+				CompletableFuture<Boolean> future = poll;
+				this.threadFactory.newThread(() -> future.complete(isReady())).start();
+				this.poll = poll;
+			}
+			Boolean ready = await(CompletableFuture.anyOf(poll, this.woken), timeout);
+			if (poll.isDone()) {
+				this.poll = null;
+			}
+			return Boolean.TRUE.equals(ready) && !this.woken.isDone();
+		}
 
-	private static final class RuntimeNodeSettings extends NodeSettings {
+		@Nullable
+		private static Boolean await(CompletableFuture<?> future, long timeout) throws InterruptedException {
+			try {
+				return (Boolean) future.get(timeout, TimeUnit.NANOSECONDS);
+			}
+			catch (TimeoutException | ExecutionException ex) {
+				return null;
+			}
+		}
 
-		private final JvmParameters jvmParameters;
+		private boolean isReady() {
+			try {
+				NodeStatus status = this.storageService.getStatus();
+				Settings settings = this.settings;
+				return status.isInitialized() && "NORMAL".equals(status.getOperationMode())
+						&& (!settings.isStartNativeTransport() || status.isNativeTransportRunning())
+						&& (!settings.isStartRpc() || status.isRpcServerRunning());
+			}
+			catch (Throwable ex) {
+				return false;
+			}
+		}
 
-		@Nullable
-		private volatile InetAddress realListenAddress;
+	}
 
-		@Nullable
-		private volatile InetAddress realAddress;
+	/**
+	 * Extracts the address a transport is bound to from a line like {@code "... on localhost/127.0.0.1:9042 ..."}.
+	 */
+	static final class AddressRule implements LogScanner.Rule {
 
-		RuntimeNodeSettings(Version version, @Nullable Map<?, ?> properties, JvmParameters jvmParameters) {
-			super(version, properties);
-			this.jvmParameters = jvmParameters;
-		}
+		private static final Logger log = LoggerFactory.getLogger(AddressRule.class);
 
-		@Override
-		public int getStoragePort() {
-			return this.jvmParameters.getStoragePort().orElseGet(super::getStoragePort);
-		}
+		private final String[][] keywords;
 
-		@Override
-		public int getSslStoragePort() {
-			return this.jvmParameters.getSslStoragePort().orElseGet(super::getSslStoragePort);
-		}
+		private final Consumer<InetAddress> consumer;
 
-		@Override
-		public boolean isStartNativeTransport() {
-			return this.jvmParameters.isStartNativeTransport().orElseGet(super::isStartNativeTransport);
+		AddressRule(int port, @Nullable Integer sslPort, Consumer<InetAddress> consumer) {
+			this.keywords = (sslPort != null && sslPort != port)
+					? new String[][]{{String.valueOf(port)}, {String.valueOf(sslPort)}}
+					: new String[][]{{String.valueOf(port)}};
+			this.consumer = consumer;
 		}
 
 		@Override
-		public int getPort() {
-			return this.jvmParameters.getPort().orElseGet(super::getPort);
+		public String[][] getKeywords() {
+			return this.keywords;
 		}
 
 		@Override
-		public boolean isStartRpc() {
-			if (getVersion().getMajor() < 4) {
-				return this.jvmParameters.isStartRpc().orElseGet(super::isStartRpc);
+		public boolean apply(String line, int start, int end) {
+			if (end < line.length() && Character.isDigit(line.charAt(end))) {
+				return false;
 			}
-			return super.isStartRpc();
-		}
-
-		@Override
-		public int getRpcPort() {
-			if (getVersion().getMajor() < 4) {
-				return this.jvmParameters.getRpcPort().orElseGet(super::getRpcPort);
+			int colon = start - 1;
+			while (colon >= 0 && Character.isWhitespace(line.charAt(colon))) {
+				colon--;
 			}
-			return super.getRpcPort();
-		}
-
-		@Override
-		public InetAddress getRealAddress() {
-			InetAddress address = this.realAddress;
-			if (address != null) {
-				return address;
+			if (colon < 0 || line.charAt(colon) != ':') {
+				return false;
 			}
-			return super.getRealAddress();
-		}
-
-		/**
-		 * Initializes the value for the {@link #getRealAddress()} attribute.
-		 *
-		 * @param realAddress The value for realAddress
-		 */
-		void setRealAddress(@Nullable InetAddress realAddress) {
-			this.realAddress = realAddress;
-		}
-
-		@Override
-		public InetAddress getRealListenAddress() {
-			InetAddress address = this.realListenAddress;
-			if (address != null) {
-				return address;
+			int slash = line.lastIndexOf('/', colon - 1);
+			if (slash < 0) {
+				return false;
+			}
+			String address = line.substring(slash + 1, colon).trim();
+			if (address.isEmpty()) {
+				return false;
+			}
+			try {
+				this.consumer.accept(NetworkUtils.getInetAddress(address));
+				return true;
+			}
+			catch (Throwable ex) {
+				if (log.isDebugEnabled()) {
+					log.error(String.format("Could not parse an InetAddress '%s'", address), ex);
+				}
+				return false;
 			}
-			return super.getRealListenAddress();
-		}
-
-		/**
-		 * Initializes the value for the {@link #getRealListenAddress()}  attribute.
-		 *
-		 * @param realListenAddress The value for realListenAddress
-		 */
-		void setRealListenAddress(@Nullable InetAddress realListenAddress) {
-			this.realListenAddress = realListenAddress;
 		}
 
 	}
 
+	/**
+	 * Keeps the last lines in a fixed-size ring.
+	 */
 	private static final class BufferedConsumer implements Consumer<String> {
 
-		private final Deque<String> lines = new ConcurrentLinkedDeque<>();
+		private final String[] lines;
 
-		private final int count;
+		private int next;
+
+		private int size;
 
 		BufferedConsumer(int count) {
-			this.count = count;
+			this.lines = new String[Math.max(1, count)];
 		}
 
 		@Override
-		public void accept(String line) {
-			if (this.lines.size() > this.count) {
-				this.lines.removeFirst();
-			}
-			this.lines.addLast(line);
+		public synchronized void accept(String line) {
+			this.lines[this.next] = line;
+			this.next = (this.next + 1) % this.lines.length;
+			this.size = Math.min(this.size + 1, this.lines.length);
 		}
 
 		@Override
-		public String toString() {
-			return this.lines.stream().collect(Collectors.joining(System.lineSeparator()));
+		public synchronized String toString() {
+			StringJoiner joiner = new StringJoiner(System.lineSeparator());
+			int start = (this.next - this.size + this.lines.length) % this.lines.length;
+			for (int i = 0; i < this.size; i++) {
+				joiner.add(this.lines[(start + i) % this.lines.length]);
+			}
+			return joiner.toString();
 		}
 
 	}
 
-	private static final class StackTraceFilter implements Predicate<String> {
-
-		private static final Pattern STACKTRACE_PATTERN = Pattern.compile("\\s+(at|\\.{3})\\s+.*");
+	/**
+	 * Skips stack trace lines such as {@code "\tat ..."} and {@code "\t... 12 more"}.
+	 */
+	static final class StackTraceFilter implements Predicate<String> {
 
 		@Override
 		public boolean test(String line) {
-			return !STACKTRACE_PATTERN.matcher(line).matches();
+			int length = line.length();
+			int i = 0;
+			while (i < length && Character.isWhitespace(line.charAt(i))) {
+				i++;
+			}
+			if (i == 0) {
+				return true;
+			}
+			if (line.startsWith("at", i)) {
+				i += 2;
+			}
+			else if (line.startsWith("...", i)) {
+				i += 3;
+			}
+			else {
+				return true;
+			}
+			return i >= length || !Character.isWhitespace(line.charAt(i));
 		}
 
 	}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * {@link Consumer} that hands lines over to the underlying {@link Consumer} on a separate thread through a bounded
+ * lock-free ring buffer, so a slow consumer does not stall the producer. There must be only one producer thread. Lines
+ * that do not fit into the buffer are either dropped or the producer waits, depending on the {@link OutputOverflow}.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class AsyncConsumer implements Consumer<String>, AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(AsyncConsumer.class);
+
+	private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private static final long FULL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+	private final Consumer<? super String> consumer;
+
+	private final OutputOverflow overflow;
+
+	private final String[] buffer;
+
+	private final int mask;
+
+	private final AtomicLong head = new AtomicLong();
+
+	private final AtomicLong tail = new AtomicLong();
+
+	private final AtomicLong dropped = new AtomicLong();
+
+	private final Thread thread;
+
+	private volatile boolean waiting;
+
+	private volatile boolean closed;
+
+	/**
+	 * Creates a {@link AsyncConsumer} and starts its thread.
+	 *
+	 * @param consumer the underlying consumer
+	 * @param capacity the capacity of the buffer (rounded up to a power of two)
+	 * @param overflow the way how lines that do not fit into the buffer are handled
+	 * @param threadFactory the factory to create a thread
+	 */
+	AsyncConsumer(Consumer<? super String> consumer, int capacity, OutputOverflow overflow,
+			ThreadFactory threadFactory) {
+		int size = 1;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		this.consumer = consumer;
+		this.overflow = overflow;
+		this.buffer = new String[size];
+		this.mask = size - 1;
+		this.thread = threadFactory.newThread(this::drain);
+		this.thread.start();
+	}
+
+	@Override
+	public void accept(String line) {
+		if (this.closed) {
+			deliver(line);
+			return;
+		}
+		long tail = this.tail.get();
+		while (tail - this.head.get() >= this.buffer.length) {
+			if (this.overflow == OutputOverflow.DROP) {
+				this.dropped.incrementAndGet();
+				return;
+			}
+			LockSupport.parkNanos(this, FULL_NANOS);
+		}
+		this.buffer[(int) (tail & this.mask)] = line;
+		this.tail.set(tail + 1);
+		if (this.waiting) {
+			LockSupport.unpark(this.thread);
+		}
+	}
+
+	/**
+	 * Returns the number of dropped lines.
+	 *
+	 * @return the number of dropped lines
+	 */
+	long getDropped() {
+		return this.dropped.get();
+	}
+
+	/**
+	 * Delivers the buffered lines and stops the thread. Lines accepted afterwards are delivered directly.
+	 *
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 */
+	@Override
+	public void close() throws InterruptedException {
+		this.closed = true;
+		LockSupport.unpark(this.thread);
+		if (Thread.currentThread() != this.thread) {
+			this.thread.join(TimeUnit.SECONDS.toMillis(5));
+		}
+	}
+
+	private void drain() {
+		long reported = 0;
+		while (true) {
+			long head = this.head.get();
+			if (head == this.tail.get()) {
+				if (this.closed) {
+					return;
+				}
+				this.waiting = true;
+				if (head == this.tail.get() && !this.closed) {
+					LockSupport.parkNanos(this, IDLE_NANOS);
+				}
+				this.waiting = false;
+				continue;
+			}
+			int index = (int) (head & this.mask);
+			String line = this.buffer[index];
+			this.buffer[index] = null;
+			this.head.set(head + 1);
+			long dropped = this.dropped.get();
+			if (dropped != reported) {
+				log.warn("'{}' lines of the output have been dropped as the output is consumed too slowly",
+						dropped - reported);
+				reported = dropped;
+			}
+			deliver(line);
+		}
+	}
+
+	private void deliver(@Nullable String line) {
+		if (line != null) {
+			try {
+				this.consumer.accept(line);
+			}
+			catch (Throwable ex) {
+				if (log.isDebugEnabled()) {
+					log.error(String.format("Line '%s' is not handled by consumer '%s'", line, this.consumer), ex);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.github.nosan.embedded.cassandra.Version;
+import com.github.nosan.embedded.cassandra.util.StringUtils;
+import com.github.nosan.embedded.cassandra.util.SystemProperty;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Utility class to build a command line that launches {@code CassandraDaemon} directly. The command line mirrors
+ * the one that {@code bin/cassandra}, {@code cassandra.in.sh} and {@code cassandra-env.sh} would have built.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class CassandraDaemonCommandLine {
+
+	private static final String MAIN_CLASS = "org.apache.cassandra.service.CassandraDaemon";
+
+	private final Path workingDirectory;
+
+	private final Version version;
+
+	@Nullable
+	private final String javaHome;
+
+	private final JvmParameters jvmParameters;
+
+	private final Map<String, String> environment;
+
+	@Nullable
+	private final ClassDataSharing classDataSharing;
+
+	/**
+	 * Creates a {@link CassandraDaemonCommandLine}.
+	 *
+	 * @param workingDirectory the working directory (CASSANDRA_HOME)
+	 * @param version a version
+	 * @param javaHome java home directory
+	 * @param jvmParameters {@code JVM} parameters
+	 * @param environment the environment of the process ({@code MAX_HEAP_SIZE} and {@code HEAP_NEWSIZE} are taken
+	 * into account)
+	 * @param classDataSharing class data sharing archive or {@code null}
+	 */
+	CassandraDaemonCommandLine(Path workingDirectory, Version version, @Nullable String javaHome,
+			JvmParameters jvmParameters, Map<String, String> environment,
+			@Nullable ClassDataSharing classDataSharing) {
+		this.workingDirectory = workingDirectory.toAbsolutePath();
+		this.version = version;
+		this.javaHome = javaHome;
+		this.jvmParameters = jvmParameters;
+		this.environment = environment;
+		this.classDataSharing = classDataSharing;
+	}
+
+	/**
+	 * Builds the command line.
+	 *
+	 * @return the command line
+	 * @throws IOException in the case of I/O errors
+	 */
+	List<String> getCommand() throws IOException {
+		Path home = this.workingDirectory;
+		Path conf = home.resolve("conf");
+		Path lib = home.resolve("lib");
+		String java = getJava(this.javaHome);
+		int javaVersion = getJavaVersion(this.javaHome);
+		ClassDataSharing classDataSharing = this.classDataSharing;
+		List<String> classpath = new ArrayList<>(getJars((classDataSharing != null)
+				? classDataSharing.getLibDirectory() : lib));
+		if (classDataSharing != null) {
+			//a non-empty directory must not precede the archived jars
+			classpath.add(conf.toString());
+		}
+		else {
+			classpath.add(0, conf.toString());
+		}
+		List<String> options = new ArrayList<>(getFileOptions(conf, this.version, javaVersion));
+		if (javaVersion < 9) {
+			options.add(0, "-Xloggc:" + home.resolve("logs/gc.log"));
+		}
+		addHeapOptions(options);
+		if (Files.exists(conf.resolve("hotspot_compiler"))) {
+			options.add("-XX:CompileCommandFile=" + conf.resolve("hotspot_compiler"));
+		}
+		getFiles(lib, "jamm-").stream().findFirst().ifPresent(jamm -> options.add("-javaagent:" + jamm));
+		if (!this.jvmParameters.getJmxRemotePort().isPresent()) {
+			options.add("-Dcom.sun.management.jmxremote.authenticate=false");
+		}
+		options.add("-Djava.library.path=" + lib.resolve("sigar-bin"));
+		if (classDataSharing != null) {
+			options.addAll(classDataSharing.getJvmOptions(java, javaVersion, classpath));
+		}
+		options.addAll(this.jvmParameters.getOptions());
+		if (File.separatorChar == '/') {
+			options.add("-XX:OnOutOfMemoryError=kill -9 %p");
+		}
+		options.add("-Dlogback.configurationFile=logback.xml");
+		options.add("-Dcassandra.logdir=" + home.resolve("logs"));
+		options.add("-Dcassandra.storagedir=" + home.resolve("data"));
+		options.add("-Dcassandra-foreground=yes");
+
+		List<String> command = new ArrayList<>();
+		command.add(java);
+		command.addAll(options);
+		command.add("-cp");
+		command.add(String.join(File.pathSeparator, classpath));
+		command.add(MAIN_CLASS);
+		return command;
+	}
+
+	private void addHeapOptions(List<String> options) {
+		List<String> all = new ArrayList<>(options);
+		all.addAll(this.jvmParameters.getOptions());
+		boolean xmx = all.stream().anyMatch(option -> option.startsWith("-Xmx"));
+		boolean xms = all.stream().anyMatch(option -> option.startsWith("-Xms"));
+		boolean xmn = all.stream().anyMatch(option -> option.startsWith("-Xmn"));
+		boolean cms = all.contains("-XX:+UseConcMarkSweepGC");
+		String maxHeapSize = this.environment.get("MAX_HEAP_SIZE");
+		String heapNewSize = this.environment.get("HEAP_NEWSIZE");
+		if (!StringUtils.hasText(maxHeapSize)) {
+			long memory = Math.max(ResourcePlan.getTotalMemory() / (1024 * 1024), 1);
+			long cores = Math.max(Runtime.getRuntime().availableProcessors(), 1);
+			long maxHeapSizeInMb = Math.max(Math.min(memory / 2, 1024), Math.min(memory / 4, 8192));
+			maxHeapSize = maxHeapSizeInMb + "M";
+			if (!StringUtils.hasText(heapNewSize)) {
+				heapNewSize = Math.min(100 * cores, maxHeapSizeInMb / 4) + "M";
+			}
+		}
+		if (!xmx && !xms) {
+			options.add("-Xms" + maxHeapSize);
+			options.add("-Xmx" + maxHeapSize);
+		}
+		if (!xmn && cms && StringUtils.hasText(heapNewSize)) {
+			options.add("-Xmn" + heapNewSize);
+		}
+	}
+
+	private static List<String> getFileOptions(Path conf, Version version, int javaVersion) throws IOException {
+		List<Path> files = new ArrayList<>();
+		if (version.getMajor() >= 4) {
+			files.add(conf.resolve("jvm-server.options"));
+			files.add(conf.resolve((javaVersion < 9) ? "jvm8-server.options" : "jvm11-server.options"));
+		}
+		else {
+			files.add(conf.resolve("jvm.options"));
+		}
+		List<String> options = new ArrayList<>();
+		for (Path file : files) {
+			if (Files.exists(file)) {
+				try (Stream<String> lines = Files.lines(file)) {
+					lines.map(String::trim).filter(line -> line.startsWith("-")).forEach(options::add);
+				}
+			}
+		}
+		if (options.isEmpty()) {
+			//Cassandra 2.x keeps the options within cassandra-env.sh
+			Collections.addAll(options, "-ea", "-XX:+UseThreadPriorities", "-XX:ThreadPriorityPolicy=42",
+					"-XX:+HeapDumpOnOutOfMemoryError", "-Xss256k", "-XX:StringTableSize=1000003",
+					"-XX:+UseParNewGC", "-XX:+UseConcMarkSweepGC", "-XX:+CMSParallelRemarkEnabled",
+					"-XX:SurvivorRatio=8", "-XX:MaxTenuringThreshold=1", "-XX:CMSInitiatingOccupancyFraction=75",
+					"-XX:+UseCMSInitiatingOccupancyOnly", "-XX:+UseTLAB", "-Djava.net.preferIPv4Stack=true");
+		}
+		else if (!options.contains("-ea")) {
+			options.add(0, "-ea");
+		}
+		return options;
+	}
+
+	private static List<String> getJars(Path lib) throws IOException {
+		List<String> classpath = new ArrayList<>(getFiles(lib, ""));
+		Path jsr223 = lib.resolve("jsr223");
+		if (Files.isDirectory(jsr223)) {
+			try (Stream<Path> directories = Files.list(jsr223)) {
+				for (Path directory : directories.sorted().collect(Collectors.toList())) {
+					classpath.addAll(getFiles(directory, ""));
+				}
+			}
+		}
+		return classpath;
+	}
+
+	private static List<String> getFiles(Path directory, String prefix) throws IOException {
+		if (!Files.isDirectory(directory)) {
+			return Collections.emptyList();
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> {
+				String name = file.getFileName().toString();
+				return name.startsWith(prefix) && name.endsWith(".jar");
+			}).sorted().map(Path::toString).collect(Collectors.toList());
+		}
+	}
+
+	private static String getJava(@Nullable String javaHome) {
+		if (StringUtils.hasText(javaHome)) {
+			Path bin = Paths.get(javaHome).resolve("bin");
+			for (String name : new String[]{"java", "java.exe"}) {
+				if (Files.isRegularFile(bin.resolve(name))) {
+					return bin.resolve(name).toString();
+				}
+			}
+		}
+		return "java";
+	}
+
+	/**
+	 * Returns the major version of the java.
+	 *
+	 * @param javaHome java home directory
+	 * @return the major version (e.g. {@code 8} or {@code 11})
+	 */
+	static int getJavaVersion(@Nullable String javaHome) {
+		if (StringUtils.hasText(javaHome)) {
+			Path home = Paths.get(javaHome);
+			for (Path file : new Path[]{home.resolve("release"), home.resolveSibling("release")}) {
+				if (Files.isRegularFile(file)) {
+					try (InputStream is = Files.newInputStream(file)) {
+						Properties properties = new Properties();
+						properties.load(is);
+						String version = properties.getProperty("JAVA_VERSION");
+						if (StringUtils.hasText(version)) {
+							return parseJavaVersion(version.replace("\"", ""));
+						}
+					}
+					catch (Exception ignore) {
+					}
+				}
+			}
+		}
+		String version = new SystemProperty("java.specification.version").get();
+		return StringUtils.hasText(version) ? parseJavaVersion(version) : 8;
+	}
+
+	private static int parseJavaVersion(String version) {
+		try {
+			Version parsed = Version.parse(version);
+			return (parsed.getMajor() == 1) ? parsed.getMinor() : parsed.getMajor();
+		}
+		catch (Exception ex) {
+			return 8;
+		}
+	}
+
+}
@@ -18,6 +18,7 @@ package com.github.nosan.embedded.cassandra.local;
 
 import java.io.IOException;
 
+import com.github.nosan.embedded.cassandra.NodeStatus;
 import com.github.nosan.embedded.cassandra.Settings;
 
 /**
@@ -45,4 +46,48 @@ interface CassandraNode {
 	 */
 	void stop() throws IOException, InterruptedException;
 
+	/**
+	 * Kills the Cassandra Node without a graceful shutdown (e.g. to simulate a crash).
+	 *
+	 * @throws IOException if the Cassandra Node can not be killed
+	 * @throws InterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another thread
+	 * @since 1.4.3
+	 */
+	void kill() throws IOException, InterruptedException;
+
+	/**
+	 * Suspends the Cassandra Node, so that it no longer consumes CPU.
+	 *
+	 * @throws IOException if the Cassandra Node can not be suspended
+	 * @throws InterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another thread
+	 * @since 1.4.3
+	 */
+	void suspend() throws IOException, InterruptedException;
+
+	/**
+	 * Resumes the suspended Cassandra Node.
+	 *
+	 * @throws IOException if the Cassandra Node can not be resumed
+	 * @throws InterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another thread
+	 * @since 1.4.3
+	 */
+	void resume() throws IOException, InterruptedException;
+
+	/**
+	 * Returns the pid of the Cassandra Node process.
+	 *
+	 * @return the pid, or {@code -1} if the node is not running in a separate process or the pid is unknown
+	 * @since 1.4.3
+	 */
+	long getPid();
+
+	/**
+	 * Returns the live status of the Cassandra Node.
+	 *
+	 * @return the status
+	 * @throws IOException if the Cassandra Node is not started or its status cannot be read
+	 * @since 1.4.3
+	 */
+	NodeStatus getStatus() throws IOException;
+
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Enumeration;
+
+/**
+ * {@link URLClassLoader} that looks up classes and resources in its own URLs first and only then delegates to the
+ * parent class loader. Classes from the {@code java.} packages are always loaded by the parent.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class ChildFirstClassLoader extends URLClassLoader {
+
+	static {
+		ClassLoader.registerAsParallelCapable();
+	}
+
+	/**
+	 * Creates a {@link ChildFirstClassLoader}.
+	 *
+	 * @param urls the URLs from which to load classes and resources
+	 * @param parent the parent class loader
+	 */
+	ChildFirstClassLoader(URL[] urls, ClassLoader parent) {
+		super(urls, parent);
+	}
+
+	@Override
+	protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+		synchronized (getClassLoadingLock(name)) {
+			Class<?> type = findLoadedClass(name);
+			if (type == null && !name.startsWith("java.")) {
+				try {
+					type = findClass(name);
+				}
+				catch (ClassNotFoundException ex) {
+					//delegate to the parent
+				}
+			}
+			if (type == null) {
+				type = super.loadClass(name, false);
+			}
+			if (resolve) {
+				resolveClass(type);
+			}
+			return type;
+		}
+	}
+
+	@Override
+	public URL getResource(String name) {
+		URL url = findResource(name);
+		return (url != null) ? url : super.getResource(name);
+	}
+
+	@Override
+	public Enumeration<URL> getResources(String name) throws IOException {
+		Enumeration<URL> urls = findResources(name);
+		return urls.hasMoreElements() ? urls : super.getResources(name);
+	}
+
+}
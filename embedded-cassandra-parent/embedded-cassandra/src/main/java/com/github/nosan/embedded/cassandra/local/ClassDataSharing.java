@@ -0,0 +1,266 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.util.FileLock;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Manages an {@code AppCDS} (application class-data sharing) archive of the {@code Cassandra} classes. Archives are
+ * kept in the {@code .cds} directory of the artifact directory and keyed by the {@code java} executable and the
+ * size/last-modified time of every archived jar of the {@link #getLibDirectory() lib directory}, so a changed
+ * artifact or {@code JDK} never reuses a stale archive. Other classpath entries (e.g. the {@code conf} directory of
+ * the working directory) are neither archived nor part of the key, hence all instances of an artifact share one
+ * archive. The first start of a key generates the archive; later starts use it with {@code -Xshare:auto}, which
+ * makes the {@code JVM} fall back to regular class loading if the archive is rejected.
+ * <p>
+ * On {@code JDK 13+} the archive is dumped at exit ({@code -XX:ArchiveClassesAtExit}), on {@code JDK 10-12} the
+ * loaded classes are recorded ({@code -XX:DumpLoadedClassList}) and the archive is dumped after the node has been
+ * stopped. Older {@code JDKs} are not supported. The instance is used for one node start.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class ClassDataSharing {
+
+	private static final Logger log = LoggerFactory.getLogger(ClassDataSharing.class);
+
+	private final Path artifactDirectory;
+
+	@Nullable
+	private FileLock fileLock;
+
+	@Nullable
+	private List<String> dumpCommand;
+
+	@Nullable
+	private Path tmpArchive;
+
+	@Nullable
+	private Path archive;
+
+	/**
+	 * Creates a {@link ClassDataSharing}.
+	 *
+	 * @param artifactDirectory a directory where an {@code Artifact} has been extracted
+	 */
+	ClassDataSharing(Path artifactDirectory) {
+		this.artifactDirectory = artifactDirectory.toAbsolutePath();
+	}
+
+	/**
+	 * Returns the {@code lib} directory of the extracted artifact. Archived classes must be loaded from the same
+	 * (unmodified) files, therefore the classpath has to point to the artifact directory, not the working directory.
+	 *
+	 * @return the {@code lib} directory
+	 * @throws IOException in the case of I/O errors
+	 */
+	Path getLibDirectory() throws IOException {
+		return WorkingDirectoryInitializer.requireSingleDirectory(this.artifactDirectory).resolve("lib");
+	}
+
+	/**
+	 * Returns the {@code JVM} options either to use or to generate the archive.
+	 *
+	 * @param java the java executable
+	 * @param javaVersion the major version of the java
+	 * @param classpath the classpath entries (the archived ones must go first)
+	 * @return the options, or an empty list if the archive can not be used
+	 * @throws IOException in the case of I/O errors
+	 */
+	List<String> getJvmOptions(String java, int javaVersion, List<String> classpath) throws IOException {
+		if (javaVersion < 10) {
+			log.warn("Class data sharing is not supported by Java '{}' (Java 10+ is required) and is ignored",
+					javaVersion);
+			return Collections.emptyList();
+		}
+		List<String> archived = getArchivedEntries(getLibDirectory(), classpath);
+		Path directory = this.artifactDirectory.resolve(".cds");
+		Files.createDirectories(directory);
+		String name = String.format("cassandra-%s", getKey(java, javaVersion, archived));
+		Path archive = directory.resolve(name + ".jsa");
+		if (isUsable(archive)) {
+			return useArchive(archive);
+		}
+		FileLock fileLock = new FileLock(directory.resolve(name + ".lock"));
+		if (!fileLock.tryLock(Duration.ZERO)) {
+			if (log.isDebugEnabled()) {
+				log.debug("Class data sharing archive '{}' is being generated by another process", archive);
+			}
+			return Collections.emptyList();
+		}
+		if (isUsable(archive)) {
+			fileLock.release();
+			return useArchive(archive);
+		}
+		Path tmpArchive = directory.resolve(name + ".jsa.tmp");
+		Files.deleteIfExists(tmpArchive);
+		this.fileLock = fileLock;
+		this.archive = archive;
+		this.tmpArchive = tmpArchive;
+		log.info("Class data sharing archive '{}' will be generated", archive);
+		if (javaVersion >= 13) {
+			return Collections.singletonList("-XX:ArchiveClassesAtExit=" + tmpArchive);
+		}
+		Path classList = directory.resolve(name + ".classlist");
+		List<String> dumpCommand = new ArrayList<>();
+		dumpCommand.add(java);
+		dumpCommand.add("-Xshare:dump");
+		dumpCommand.add("-XX:SharedClassListFile=" + classList);
+		dumpCommand.add("-XX:SharedArchiveFile=" + tmpArchive);
+		dumpCommand.add("-cp");
+		dumpCommand.add(String.join(File.pathSeparator, archived));
+		this.dumpCommand = dumpCommand;
+		return Collections.singletonList("-XX:DumpLoadedClassList=" + classList);
+	}
+
+	/**
+	 * Completes the archive generation (if any). Must be invoked once the node process has exited. Failures are
+	 * logged and never propagated.
+	 *
+	 * @param threadFactory thread factory to create a process reader
+	 */
+	void complete(ThreadFactory threadFactory) {
+		FileLock fileLock = this.fileLock;
+		Path archive = this.archive;
+		Path tmpArchive = this.tmpArchive;
+		if (fileLock == null || archive == null || tmpArchive == null) {
+			return;
+		}
+		try {
+			List<String> dumpCommand = this.dumpCommand;
+			if (dumpCommand != null) {
+				ProcessBuilder builder = new ProcessBuilder(dumpCommand).redirectErrorStream(true);
+				int exitValue = new RunProcess(builder, threadFactory).run(line -> {
+					if (log.isDebugEnabled()) {
+						log.debug(line);
+					}
+				}).waitFor();
+				if (exitValue != 0) {
+					log.warn("Class data sharing archive '{}' has not been generated. Exit code is '{}'", archive,
+							exitValue);
+				}
+			}
+			if (isUsable(tmpArchive)) {
+				Files.move(tmpArchive, archive, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				log.info("Class data sharing archive '{}' has been generated", archive);
+			}
+			else {
+				log.warn("Class data sharing archive '{}' has not been generated", archive);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (Throwable ex) {
+			log.error(String.format("Class data sharing archive '%s' has not been generated", archive), ex);
+		}
+		finally {
+			try {
+				Files.deleteIfExists(tmpArchive);
+			}
+			catch (IOException ex) {
+				if (log.isDebugEnabled()) {
+					log.error(ex.getMessage(), ex);
+				}
+			}
+			this.fileLock = null;
+			this.dumpCommand = null;
+			fileLock.release();
+		}
+	}
+
+	private static List<String> useArchive(Path archive) {
+		if (log.isDebugEnabled()) {
+			log.debug("Use class data sharing archive '{}'", archive);
+		}
+		List<String> options = new ArrayList<>();
+		options.add("-XX:SharedArchiveFile=" + archive);
+		options.add("-Xshare:auto");
+		return options;
+	}
+
+	private static boolean isUsable(Path archive) {
+		try {
+			return Files.isRegularFile(archive) && Files.size(archive) > 0;
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	private static List<String> getArchivedEntries(Path lib, List<String> classpath) {
+		List<String> archived = new ArrayList<>();
+		for (String entry : classpath) {
+			Path path = Paths.get(entry).toAbsolutePath();
+			if (path.startsWith(lib) && Files.isRegularFile(path)) {
+				archived.add(entry);
+			}
+		}
+		return archived;
+	}
+
+	private static String getKey(String java, int javaVersion, List<String> classpath) throws IOException {
+		StringBuilder source = new StringBuilder();
+		source.append(java).append(':').append(javaVersion);
+		appendFile(source, Paths.get(java));
+		Path javaHome = Paths.get(java).toAbsolutePath().getParent();
+		if (javaHome != null && javaHome.getParent() != null) {
+			appendFile(source, javaHome.getParent().resolve("lib/modules"));
+		}
+		for (String entry : classpath) {
+			source.append('|').append(entry);
+			appendFile(source, Paths.get(entry));
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			StringBuilder key = new StringBuilder();
+			for (byte b : digest.digest(source.toString().getBytes(StandardCharsets.UTF_8))) {
+				key.append(String.format("%02x", b));
+			}
+			return key.substring(0, 16);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void appendFile(StringBuilder source, Path file) throws IOException {
+		if (Files.isRegularFile(file)) {
+			source.append(':').append(Files.size(file)).append(':').append(Files.getLastModifiedTime(file).toMillis());
+		}
+	}
+
+}
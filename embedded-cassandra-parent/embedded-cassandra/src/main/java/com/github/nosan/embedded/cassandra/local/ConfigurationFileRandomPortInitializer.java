@@ -22,8 +22,10 @@ import java.io.InputStream;
 import java.net.InetAddress;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -31,7 +33,6 @@ import java.util.function.Supplier;
 import org.yaml.snakeyaml.Yaml;
 
 import com.github.nosan.embedded.cassandra.Version;
-import com.github.nosan.embedded.cassandra.util.PortUtils;
 import com.github.nosan.embedded.cassandra.util.StringUtils;
 
 /**
@@ -54,11 +55,13 @@ class ConfigurationFileRandomPortInitializer extends AbstractFileInitializer {
 			Map<Object, Object> newSource = new LinkedHashMap<>(originalSource);
 
 			NodeSettings settings = new NodeSettings(version, newSource);
-			setPort("native_transport_port", newSource, settings::getRealAddress);
-			setPort("native_transport_port_ssl", newSource, settings::getRealAddress);
-			setPort("rpc_port", newSource, settings::getRealAddress);
-			setPort("storage_port", newSource, settings::getRealListenAddress);
-			setPort("ssl_storage_port", newSource, settings::getRealListenAddress);
+			Map<String, Supplier<InetAddress>> addresses = new LinkedHashMap<>();
+			addresses.put("native_transport_port", settings::getRealAddress);
+			addresses.put("native_transport_port_ssl", settings::getRealAddress);
+			addresses.put("rpc_port", settings::getRealAddress);
+			addresses.put("storage_port", settings::getRealListenAddress);
+			addresses.put("ssl_storage_port", settings::getRealListenAddress);
+			setPorts(addresses, newSource, PortAllocator.create(workingDirectory));
 
 			if (!newSource.equals(originalSource)) {
 				try (BufferedWriter writer = Files.newBufferedWriter(file)) {
@@ -76,15 +79,25 @@ class ConfigurationFileRandomPortInitializer extends AbstractFileInitializer {
 		return Optional.ofNullable(source.get(name)).map(String::valueOf);
 	}
 
-	private void setPort(String name, Map<Object, Object> source, Supplier<InetAddress> addressSupplier) {
-		getInteger(name, source).filter(port -> port == 0).ifPresent(port -> {
-			InetAddress address = addressSupplier.get();
-			int newPort = PortUtils.getPort(address);
+	private void setPorts(Map<String, Supplier<InetAddress>> addresses, Map<Object, Object> source,
+			PortAllocator portAllocator) throws IOException {
+		List<String> names = new ArrayList<>();
+		List<InetAddress> bindAddresses = new ArrayList<>();
+		addresses.forEach((name, addressSupplier) -> {
+			if (getInteger(name, source).filter(port -> port == 0).isPresent()) {
+				names.add(name);
+				bindAddresses.add(addressSupplier.get());
+			}
+		});
+		List<Integer> ports = portAllocator.allocate(bindAddresses);
+		for (int i = 0; i < names.size(); i++) {
+			String name = names.get(i);
+			int newPort = ports.get(i);
 			if (this.log.isDebugEnabled()) {
-				this.log.debug("Replace {}: {} as {}: {}", name, port, name, newPort);
+				this.log.debug("Replace {}: {} as {}: {}", name, 0, name, newPort);
 			}
 			source.put(name, newPort);
-		});
+		}
 	}
 
 	private Map<?, ?> getProperties(Yaml yaml, Path file) {
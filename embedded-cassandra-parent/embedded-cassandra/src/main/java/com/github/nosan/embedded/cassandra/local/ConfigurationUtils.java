@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Utility class for dealing with {@code cassandra.yaml}.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+abstract class ConfigurationUtils {
+
+	/**
+	 * Loads the properties of {@code conf/cassandra.yaml}.
+	 *
+	 * @param workingDirectory the working directory
+	 * @return the properties or an empty map if the file is empty
+	 * @throws IOException if the file cannot be read
+	 */
+	static Map<?, ?> getProperties(Path workingDirectory) throws IOException {
+		try (InputStream is = Files.newInputStream(workingDirectory.resolve("conf/cassandra.yaml"))) {
+			Map<?, ?> properties = new Yaml().loadAs(is, Map.class);
+			return (properties != null) ? properties : Collections.emptyMap();
+		}
+	}
+
+}
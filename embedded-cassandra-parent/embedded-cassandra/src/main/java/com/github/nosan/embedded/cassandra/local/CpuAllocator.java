@@ -0,0 +1,283 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.util.FileLock;
+import com.github.nosan.embedded.cassandra.util.SystemProperty;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Cross-process allocator of CPU cores. Leases are kept in a file (one {@code <pid> <id> <cores>} line per lease)
+ * which is modified under an exclusive {@link FileLock}. Leases of dead processes are reclaimed. Cores are handed
+ * out from the highest allowed ones down, so the lower cores stay for the test {@code JVM}. The allowed cores are
+ * read from {@code Cpus_allowed_list} of {@code /proc/self/status}, so a restricted {@code cpuset} (e.g. {@code
+ * docker --cpuset-cpus} or {@code taskset}) is respected.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class CpuAllocator {
+
+	private static final Logger log = LoggerFactory.getLogger(CpuAllocator.class);
+
+	private static final AtomicLong idCounter = new AtomicLong();
+
+	private final Path leaseFile;
+
+	private final List<Integer> allowedCores;
+
+	/**
+	 * Creates a {@link CpuAllocator} with {@code 0..availableCores-1} cores.
+	 *
+	 * @param leaseFile the file to keep leases
+	 * @param availableCores the number of cores on the host
+	 */
+	CpuAllocator(Path leaseFile, int availableCores) {
+		this(leaseFile, IntStream.range(0, availableCores).boxed().collect(Collectors.toList()));
+	}
+
+	/**
+	 * Creates a {@link CpuAllocator}.
+	 *
+	 * @param leaseFile the file to keep leases
+	 * @param allowedCores the cores which are allowed to be allocated
+	 */
+	CpuAllocator(Path leaseFile, Collection<Integer> allowedCores) {
+		this.leaseFile = leaseFile;
+		this.allowedCores = Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(allowedCores)));
+	}
+
+	/**
+	 * Tells whether CPU affinity is supported ({@code Linux} with {@code taskset}).
+	 *
+	 * @return {@code true} if supported
+	 */
+	static boolean isSupported() {
+		String os = new SystemProperty("os.name").get();
+		return os != null && os.toLowerCase(Locale.ENGLISH).contains("linux") && (Files
+				.isExecutable(Paths.get("/usr/bin/taskset")) || Files.isExecutable(Paths.get("/bin/taskset")));
+	}
+
+	/**
+	 * Returns the cores the current process is allowed to run on. Falls back to {@code
+	 * 0..availableProcessors-1} if {@code /proc/self/status} is not available.
+	 *
+	 * @return the allowed cores
+	 */
+	static List<Integer> getAllowedCores() {
+		Path status = Paths.get("/proc/self/status");
+		if (Files.isReadable(status)) {
+			try {
+				for (String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+					if (line.startsWith("Cpus_allowed_list:")) {
+						List<Integer> cores = parseCpuList(line.substring("Cpus_allowed_list:".length()));
+						if (!cores.isEmpty()) {
+							return cores;
+						}
+					}
+				}
+			}
+			catch (IOException | NumberFormatException ex) {
+				if (log.isDebugEnabled()) {
+					log.error(String.format("Could not read allowed CPU cores from '%s'", status), ex);
+				}
+			}
+		}
+		return IntStream.range(0, Runtime.getRuntime().availableProcessors()).boxed().collect(Collectors.toList());
+	}
+
+	/**
+	 * Parses the CPU list format (e.g. {@code 0-3,8,10-11}).
+	 *
+	 * @param cpuList the list
+	 * @return the cores
+	 * @throws NumberFormatException if the list is malformed
+	 */
+	static List<Integer> parseCpuList(String cpuList) {
+		List<Integer> cores = new ArrayList<>();
+		for (String range : cpuList.trim().split(",")) {
+			String trimmed = range.trim();
+			if (trimmed.isEmpty()) {
+				continue;
+			}
+			int index = trimmed.indexOf('-');
+			if (index == -1) {
+				cores.add(Integer.parseInt(trimmed));
+			}
+			else {
+				int from = Integer.parseInt(trimmed.substring(0, index).trim());
+				int to = Integer.parseInt(trimmed.substring(index + 1).trim());
+				for (int core = from; core <= to; core++) {
+					cores.add(core);
+				}
+			}
+		}
+		return cores;
+	}
+
+	/**
+	 * Allocates the given number of cores.
+	 *
+	 * @param count the number of cores
+	 * @return the lease, or {@code null} if there are not enough free cores
+	 * @throws IOException in the case of I/O errors
+	 */
+	@Nullable
+	Lease allocate(int count) throws IOException {
+		try (FileLock fileLock = lock()) {
+			List<Lease> leases = read();
+			Set<Integer> busy = new TreeSet<>();
+			leases.forEach(lease -> busy.addAll(lease.getCores()));
+			List<Integer> cores = new ArrayList<>();
+			for (int i = this.allowedCores.size() - 1; i >= 0 && cores.size() < count; i--) {
+				Integer core = this.allowedCores.get(i);
+				if (!busy.contains(core)) {
+					cores.add(0, core);
+				}
+			}
+			if (cores.size() < count) {
+				log.warn("There are not enough free CPU cores: requested '{}', free '{}' of '{}'", count,
+						cores.size(), this.allowedCores.size());
+				return null;
+			}
+			Lease lease = new Lease(ProcessUtils.getCurrentPid(), idCounter.incrementAndGet(), cores);
+			leases.add(lease);
+			write(leases);
+			return lease;
+		}
+	}
+
+	/**
+	 * Releases the lease.
+	 *
+	 * @param lease the lease
+	 * @throws IOException in the case of I/O errors
+	 */
+	void release(Lease lease) throws IOException {
+		try (FileLock fileLock = lock()) {
+			List<Lease> leases = read();
+			leases.removeIf(candidate -> candidate.pid == lease.pid && candidate.id == lease.id);
+			write(leases);
+		}
+	}
+
+	private FileLock lock() throws IOException {
+		Path lockFile = this.leaseFile.resolveSibling(this.leaseFile.getFileName() + ".lock");
+		Files.createDirectories(lockFile.toAbsolutePath().getParent());
+		FileLock fileLock = new FileLock(lockFile);
+		fileLock.lock();
+		return fileLock;
+	}
+
+	private List<Lease> read() throws IOException {
+		List<Lease> leases = new ArrayList<>();
+		if (Files.exists(this.leaseFile)) {
+			for (String line : Files.readAllLines(this.leaseFile, StandardCharsets.UTF_8)) {
+				Lease lease = Lease.parse(line);
+				if (lease != null && ProcessUtils.isAlive(lease.pid)) {
+					leases.add(lease);
+				}
+			}
+		}
+		return leases;
+	}
+
+	private void write(List<Lease> leases) throws IOException {
+		Files.write(this.leaseFile, leases.stream().map(Lease::toString).collect(Collectors.toList()),
+				StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Allocated cores.
+	 */
+	static final class Lease {
+
+		private final long pid;
+
+		private final long id;
+
+		private final List<Integer> cores;
+
+		Lease(long pid, long id, List<Integer> cores) {
+			this.pid = pid;
+			this.id = id;
+			this.cores = Collections.unmodifiableList(new ArrayList<>(cores));
+		}
+
+		/**
+		 * Returns the allocated cores.
+		 *
+		 * @return the cores
+		 */
+		List<Integer> getCores() {
+			return this.cores;
+		}
+
+		/**
+		 * Returns the cores in the {@code taskset} list format (e.g. {@code 6,7}).
+		 *
+		 * @return the cores list
+		 */
+		String getCpuList() {
+			return this.cores.stream().map(String::valueOf).collect(Collectors.joining(","));
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d %d %s", this.pid, this.id, getCpuList());
+		}
+
+		@Nullable
+		static Lease parse(String line) {
+			String[] parts = line.trim().split("\\s+");
+			if (parts.length != 3) {
+				return null;
+			}
+			try {
+				List<Integer> cores = new ArrayList<>();
+				for (String core : parts[2].split(",")) {
+					cores.add(Integer.parseInt(core));
+				}
+				return new Lease(Long.parseLong(parts[0]), Long.parseLong(parts[1]), cores);
+			}
+			catch (NumberFormatException ex) {
+				return null;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.yaml.snakeyaml.Yaml;
+
+import com.github.nosan.embedded.cassandra.Version;
+import com.github.nosan.embedded.cassandra.util.StringUtils;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * {@link Initializer} that applies the fast start profile to a {@code cassandra.yaml}: a single token and no
+ * {@code Thrift} (before {@code 4.0}). The {@code JVM} part of the profile is provided by
+ * {@link #getJvmOptions(Version, List)}. Every change is logged.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class FastStartInitializer extends AbstractFileInitializer {
+
+	FastStartInitializer() {
+		super((workDir, version) -> workDir.resolve("conf/cassandra.yaml"));
+	}
+
+	/**
+	 * Returns the {@code JVM} options of the fast start profile which are not overridden by the given options.
+	 *
+	 * @param version a version
+	 * @param jvmOptions the user's {@code JVM} options
+	 * @return the options to add
+	 */
+	List<String> getJvmOptions(Version version, List<String> jvmOptions) {
+		List<String> options = new ArrayList<>();
+		if (version.getMajor() > 2 || (version.getMajor() == 2 && version.getMinor() > 0)) {
+			addOption("-Dcassandra.skip_wait_for_gossip_to_settle", "0", jvmOptions, options);
+		}
+		addOption("-Dcassandra.ring_delay_ms", "1000", jvmOptions, options);
+		addOption("-XX:TieredStopAtLevel", "1", jvmOptions, options);
+		if (!options.isEmpty()) {
+			this.log.info("Fast start profile adds JVM options: {}", String.join(" ", options));
+		}
+		return options;
+	}
+
+	@Override
+	protected void initialize(Path file, Path workingDirectory, Version version) throws IOException {
+		if (Files.exists(file)) {
+			Yaml yaml = new Yaml();
+			Map<Object, Object> originalSource = new LinkedHashMap<>(getProperties(yaml, file));
+			Map<Object, Object> newSource = new LinkedHashMap<>(originalSource);
+			List<String> changes = new ArrayList<>();
+
+			if (!StringUtils.hasText(getString("initial_token", newSource))) {
+				setProperty("num_tokens", 1, newSource, changes);
+				String token = getInitialToken(getString("partitioner", newSource));
+				if (token != null) {
+					setProperty("initial_token", token, newSource, changes);
+				}
+			}
+			if (version.getMajor() < 4) {
+				setProperty("start_rpc", false, newSource, changes);
+			}
+
+			if (!newSource.equals(originalSource)) {
+				try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+					yaml.dump(newSource, writer);
+				}
+			}
+			if (!changes.isEmpty()) {
+				this.log.info("Fast start profile changes '{}': {}", file, String.join(", ", changes));
+			}
+		}
+	}
+
+	private static void addOption(String name, String value, List<String> jvmOptions, List<String> options) {
+		for (String option : jvmOptions) {
+			String trimmed = option.trim();
+			if (trimmed.equals(name) || trimmed.startsWith(name + "=")) {
+				return;
+			}
+		}
+		options.add(name + "=" + value);
+	}
+
+	private static void setProperty(String name, Object value, Map<Object, Object> source, List<String> changes) {
+		Object oldValue = source.get(name);
+		if (!Objects.equals(String.valueOf(oldValue), String.valueOf(value))) {
+			source.put(name, value);
+			changes.add(String.format("%s: %s -> %s", name, oldValue, value));
+		}
+	}
+
+	@Nullable
+	private static String getInitialToken(@Nullable String partitioner) {
+		if (!StringUtils.hasText(partitioner) || partitioner.endsWith("Murmur3Partitioner")) {
+			return String.valueOf(Long.MIN_VALUE);
+		}
+		if (partitioner.endsWith("RandomPartitioner")) {
+			return "0";
+		}
+		return null;
+	}
+
+	@Nullable
+	private static String getString(String name, Map<?, ?> source) {
+		Object value = source.get(name);
+		return (value != null) ? String.valueOf(value) : null;
+	}
+
+	private Map<?, ?> getProperties(Yaml yaml, Path file) {
+		try (InputStream is = Files.newInputStream(file)) {
+			Map<?, ?> values = yaml.loadAs(is, Map.class);
+			return (values != null) ? values : Collections.emptyMap();
+		}
+		catch (IOException ex) {
+			if (this.log.isDebugEnabled()) {
+				this.log.error(String.format("Could not read properties from '%s'", file), ex);
+			}
+			return Collections.emptyMap();
+		}
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.Settings;
+
+/**
+ * Utility class to record a block of code with Java Flight Recorder of a running node. The recording is started and
+ * stopped through the {@code DiagnosticCommand} MBean of the node, available on its {@link Settings#getJmxLocalPort()
+ * JMX port}.
+ *
+ * @author Dmytro Nosan
+ * @see LocalCassandraFactory#getFlightRecording()
+ * @since 1.4.3
+ */
+@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+public final class FlightRecorder {
+
+	private static final Logger log = LoggerFactory.getLogger(FlightRecorder.class);
+
+	private static final String DIAGNOSTIC_COMMAND = "com.sun.management:type=DiagnosticCommand";
+
+	private static final AtomicLong idCounter = new AtomicLong();
+
+	private FlightRecorder() {
+	}
+
+	/**
+	 * Records the given action with Java Flight Recorder of the node and dumps the recording to the given file.
+	 *
+	 * @param settings the settings of the running node
+	 * @param recordingSettings Java Flight Recorder settings (e.g. {@code default} or {@code profile})
+	 * @param file the file to dump the recording to
+	 * @param action the action to record
+	 * @throws IOException if the node cannot be connected or the recording cannot be started or stopped
+	 */
+	public static void record(Settings settings, String recordingSettings, Path file, Runnable action)
+			throws IOException {
+		Objects.requireNonNull(settings, "Settings must not be null");
+		Objects.requireNonNull(recordingSettings, "Recording Settings must not be null");
+		Objects.requireNonNull(file, "File must not be null");
+		Objects.requireNonNull(action, "Action must not be null");
+		int port = settings.getJmxLocalPort();
+		if (port <= 0) {
+			throw new IllegalArgumentException(String.format("JMX port '%s' is not valid", port));
+		}
+		JMXServiceURL url = new JMXServiceURL(
+				String.format("service:jmx:rmi:///jndi/rmi://localhost:%d/jmxrmi", port));
+		String name = "embedded-cassandra-" + idCounter.incrementAndGet();
+		Path target = file.toAbsolutePath();
+		Path directory = target.getParent();
+		if (directory != null) {
+			Files.createDirectories(directory);
+		}
+		try (JMXConnector connector = JMXConnectorFactory.connect(url)) {
+			MBeanServerConnection connection = connector.getMBeanServerConnection();
+			execute(connection, "jfrStart", "name=" + name, "settings=" + recordingSettings);
+			if (log.isDebugEnabled()) {
+				log.debug("Flight recording '{}' has been started", name);
+			}
+			try {
+				action.run();
+			}
+			finally {
+				execute(connection, "jfrStop", "name=" + name, "filename=" + target);
+				log.info("Flight recording '{}' has been saved to '{}'", name, target);
+			}
+		}
+	}
+
+	private static void execute(MBeanServerConnection connection, String command, String... arguments)
+			throws IOException {
+		try {
+			connection.invoke(new ObjectName(DIAGNOSTIC_COMMAND), command, new Object[]{arguments},
+					new String[]{String[].class.getName()});
+		}
+		catch (JMException ex) {
+			throw new IOException(String.format("Command '%s' has been failed", command), ex);
+		}
+	}
+
+}
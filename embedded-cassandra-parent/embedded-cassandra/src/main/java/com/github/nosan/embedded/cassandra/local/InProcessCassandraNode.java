@@ -0,0 +1,376 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.NodeStatus;
+import com.github.nosan.embedded.cassandra.Settings;
+import com.github.nosan.embedded.cassandra.Version;
+import com.github.nosan.embedded.cassandra.util.MDCUtils;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * {@link CassandraNode} that runs {@code CassandraDaemon} within the current {@code JVM}. The distribution's
+ * {@code lib/*.jar} are loaded by an isolated {@link ChildFirstClassLoader}, and the daemon is started via
+ * {@code activate()} and stopped via {@code deactivate()}.
+ * <p>
+ * {@code Cassandra} is configured through system properties, therefore only one in-process node can be running
+ * within the {@code JVM} at a time, and {@code JVM} options other than {@code -D} system properties are ignored.
+ * <p>
+ * {@code Cassandra} can be activated only once per {@code JVM}: {@code deactivate()} leaves its non-daemon stage
+ * threads and JVM-wide native state bound to the discarded class loader, so a second activation (including a
+ * restart) is refused. The {@code org.apache.cassandra.*} MBeans are unregistered once the node has been stopped.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class InProcessCassandraNode implements CassandraNode {
+
+	private static final String DAEMON_CLASS = "org.apache.cassandra.service.CassandraDaemon";
+
+	private static final AtomicLong instanceCounter = new AtomicLong();
+
+	private static final Object monitor = new Object();
+
+	private static final String MBEAN_DOMAINS = "org.apache.cassandra*:*";
+
+	@Nullable
+	private static InProcessCassandraNode running;
+
+	private static long activated;
+
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	private final long instance = instanceCounter.incrementAndGet();
+
+	private final Path workingDirectory;
+
+	private final Version version;
+
+	private final Duration timeout;
+
+	private final List<String> jvmOptions;
+
+	private final int jmxPort;
+
+	private final Map<String, String> previousProperties = new LinkedHashMap<>();
+
+	@Nullable
+	private ChildFirstClassLoader classLoader;
+
+	@Nullable
+	private Object daemon;
+
+	@Nullable
+	private JvmParameters jvmParameters;
+
+	/**
+	 * Creates a {@link InProcessCassandraNode}.
+	 *
+	 * @param workingDirectory a configured base directory
+	 * @param version a version
+	 * @param timeout a startup timeout
+	 * @param jvmOptions additional {@code JVM} options
+	 * @param jmxPort JMX port
+	 */
+	InProcessCassandraNode(Path workingDirectory, Version version, Duration timeout, List<String> jvmOptions,
+			int jmxPort) {
+		this.workingDirectory = workingDirectory.toAbsolutePath();
+		this.version = version;
+		this.timeout = timeout;
+		this.jmxPort = jmxPort;
+		this.jvmOptions = Collections.unmodifiableList(new ArrayList<>(jvmOptions));
+	}
+
+	@Override
+	public Settings start() throws IOException, InterruptedException {
+		synchronized (monitor) {
+			if (running != null) {
+				throw new IllegalStateException(String.format("In-process Cassandra Node '%d' is already running. "
+						+ "Only one in-process node can be run within the JVM", running.instance));
+			}
+			if (activated != 0) {
+				throw new IllegalStateException(String.format("In-process Cassandra Node '%d' has already been "
+						+ "activated within the JVM. Cassandra cannot be activated twice within the same JVM, "
+						+ "please use '%s' launch mode to start (or restart) Cassandra more than once", activated,
+						LaunchMode.JVM));
+			}
+			running = this;
+		}
+		try {
+			return doStart();
+		}
+		catch (IOException | InterruptedException | RuntimeException | Error ex) {
+			try {
+				stop();
+			}
+			catch (Throwable suppressed) {
+				ex.addSuppressed(suppressed);
+			}
+			throw ex;
+		}
+	}
+
+	@Override
+	public void stop() throws IOException, InterruptedException {
+		ChildFirstClassLoader classLoader = this.classLoader;
+		Object daemon = this.daemon;
+		try {
+			if (classLoader != null && daemon != null) {
+				this.log.info("Stops in-process Cassandra Node '{}'", this.instance);
+				invoke(daemon, "deactivate", classLoader, Duration.ofSeconds(30));
+				this.log.info("In-process Cassandra Node '{}' has been stopped", this.instance);
+			}
+		}
+		finally {
+			this.daemon = null;
+			this.classLoader = null;
+			if (daemon != null) {
+				unregisterMBeans(ManagementFactory.getPlatformMBeanServer());
+			}
+			if (classLoader != null) {
+				classLoader.close();
+			}
+			restoreSystemProperties();
+			synchronized (monitor) {
+				if (running == this) {
+					running = null;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void kill() throws IOException, InterruptedException {
+		if (this.daemon != null) {
+			this.log.warn("In-process Cassandra Node '{}' cannot be killed and is stopped instead", this.instance);
+		}
+		stop();
+	}
+
+	@Override
+	public void suspend() throws IOException {
+		throw new IOException(String.format("In-process Cassandra Node '%d' cannot be suspended", this.instance));
+	}
+
+	@Override
+	public void resume() {
+	}
+
+	@Override
+	public long getPid() {
+		return -1;
+	}
+
+	@Override
+	public NodeStatus getStatus() throws IOException {
+		if (this.daemon == null) {
+			throw new IOException(String.format("In-process Cassandra Node '%d' is not started", this.instance));
+		}
+		return new StorageServiceClient(ManagementFactory.getPlatformMBeanServer()).getStatus();
+	}
+
+	private Settings doStart() throws IOException, InterruptedException {
+		Path workingDirectory = this.workingDirectory;
+		Map<?, ?> properties = ConfigurationUtils.getProperties(this.workingDirectory);
+		JvmParameters jvmParameters = this.jvmParameters;
+		if (jvmParameters == null) {
+			jvmParameters = new JvmParameters(this.jvmOptions, this.jmxPort,
+					new NodeSettings(this.version, properties), PortAllocator.create(workingDirectory));
+			this.jvmParameters = jvmParameters;
+		}
+		RuntimeNodeSettings settings = new RuntimeNodeSettings(this.version, properties, jvmParameters);
+
+		Map<String, String> systemProperties = new LinkedHashMap<>();
+		systemProperties.put("cassandra.config", workingDirectory.resolve("conf/cassandra.yaml").toUri().toString());
+		systemProperties.put("cassandra.logdir", workingDirectory.resolve("logs").toString());
+		systemProperties.put("cassandra.storagedir", workingDirectory.resolve("data").toString());
+		systemProperties.put("cassandra-foreground", "yes");
+		systemProperties.put("logback.configurationFile", workingDirectory.resolve("conf/logback.xml").toString());
+		for (String option : jvmParameters.getOptions()) {
+			if (option.startsWith("-D")) {
+				int index = option.indexOf('=');
+				String name = (index != -1) ? option.substring(2, index) : option.substring(2);
+				systemProperties.put(name, (index != -1) ? option.substring(index + 1) : "");
+			}
+			else {
+				this.log.warn("JVM option '{}' can not be applied to in-process Cassandra Node and is ignored",
+						option);
+			}
+		}
+		setSystemProperties(systemProperties);
+
+		ChildFirstClassLoader classLoader = new ChildFirstClassLoader(getClasspath(),
+				InProcessCassandraNode.class.getClassLoader());
+		this.classLoader = classLoader;
+		Object daemon = createDaemon(classLoader);
+		this.daemon = daemon;
+
+		long start = System.nanoTime();
+		synchronized (monitor) {
+			activated = this.instance;
+		}
+		invoke(daemon, "activate", classLoader, this.timeout);
+		TransportReadiness transportReadiness = new TransportReadiness(settings);
+		long rem = this.timeout.toNanos() - (System.nanoTime() - start);
+		if (!transportReadiness.await(rem, null)) {
+			throw new IOException(String.format("In-process Cassandra Node '%d' has not been started, "
+					+ "seems like (%d) milliseconds is not enough.", this.instance, this.timeout.toMillis()));
+		}
+		this.log.info("In-process Cassandra Node '{}' has been started", this.instance);
+		return settings;
+	}
+
+	/**
+	 * Unregisters the {@code org.apache.cassandra.*} MBeans. Failures are logged and never propagated.
+	 *
+	 * @param server the MBean server
+	 */
+	static void unregisterMBeans(MBeanServer server) {
+		Set<ObjectName> names;
+		try {
+			names = server.queryNames(new ObjectName(MBEAN_DOMAINS), null);
+		}
+		catch (MalformedObjectNameException ex) {
+			throw new IllegalStateException(ex);
+		}
+		for (ObjectName name : names) {
+			try {
+				server.unregisterMBean(name);
+			}
+			catch (InstanceNotFoundException ex) {
+				//already unregistered
+			}
+			catch (Throwable ex) {
+				LoggerFactory.getLogger(InProcessCassandraNode.class)
+						.error(String.format("MBean '%s' has not been unregistered", name), ex);
+			}
+		}
+	}
+
+	private Object createDaemon(ClassLoader classLoader) throws IOException {
+		try {
+			Class<?> daemonClass = Class.forName(DAEMON_CLASS, false, classLoader);
+			try {
+				//a managed daemon throws an exception instead of calling System.exit()
+				Constructor<?> constructor = daemonClass.getConstructor(boolean.class);
+				return constructor.newInstance(true);
+			}
+			catch (NoSuchMethodException ex) {
+				Field field = daemonClass.getField("instance");
+				return field.get(null);
+			}
+		}
+		catch (ReflectiveOperationException | LinkageError ex) {
+			throw new IOException(String.format("'%s' can not be instantiated", DAEMON_CLASS), ex);
+		}
+	}
+
+	private void invoke(Object daemon, String name, ClassLoader classLoader, Duration timeout)
+			throws IOException, InterruptedException {
+		Throwable[] failure = new Throwable[1];
+		Map<String, String> context = MDCUtils.getContext();
+		Thread thread = new Thread(() -> {
+			MDCUtils.setContext(context);
+			try {
+				Method method = daemon.getClass().getMethod(name);
+				method.invoke(daemon);
+			}
+			catch (InvocationTargetException ex) {
+				failure[0] = ex.getTargetException();
+			}
+			catch (Throwable ex) {
+				failure[0] = ex;
+			}
+		}, String.format("cassandra-%d", this.instance));
+		thread.setContextClassLoader(classLoader);
+		thread.setDaemon(true);
+		thread.start();
+		thread.join(Math.max(timeout.toMillis(), 1));
+		if (thread.isAlive()) {
+			throw new IOException(String.format("In-process Cassandra Node '%d': '%s()' has not been completed, "
+					+ "seems like (%d) milliseconds is not enough.", this.instance, name, timeout.toMillis()));
+		}
+		if (failure[0] != null) {
+			throw new IOException(String.format("In-process Cassandra Node '%d': '%s()' has been failed",
+					this.instance, name), failure[0]);
+		}
+	}
+
+	private URL[] getClasspath() throws IOException {
+		Path lib = this.workingDirectory.resolve("lib");
+		List<URL> urls = new ArrayList<>();
+		urls.add(this.workingDirectory.resolve("conf").toUri().toURL());
+		try (Stream<Path> jars = Files.walk(lib, 3)) {
+			for (Path jar : jars.filter(path -> path.getFileName().toString().endsWith(".jar")).sorted()
+					.collect(Collectors.toList())) {
+				urls.add(jar.toUri().toURL());
+			}
+		}
+		return urls.toArray(new URL[0]);
+	}
+
+	private void setSystemProperties(Map<String, String> properties) {
+		for (Map.Entry<String, String> entry : properties.entrySet()) {
+			String name = entry.getKey();
+			if (!this.previousProperties.containsKey(name)) {
+				this.previousProperties.put(name, System.getProperty(name));
+			}
+			System.setProperty(name, entry.getValue());
+		}
+	}
+
+	private void restoreSystemProperties() {
+		for (Map.Entry<String, String> entry : this.previousProperties.entrySet()) {
+			if (entry.getValue() != null) {
+				System.setProperty(entry.getKey(), entry.getValue());
+			}
+			else {
+				System.clearProperty(entry.getKey());
+			}
+		}
+		this.previousProperties.clear();
+	}
+
+}
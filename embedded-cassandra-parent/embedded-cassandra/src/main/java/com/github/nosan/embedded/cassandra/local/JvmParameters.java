@@ -16,6 +16,7 @@
 
 package com.github.nosan.embedded.cassandra.local;
 
+import java.io.IOException;
 import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -32,7 +33,6 @@ import org.slf4j.LoggerFactory;
 
 import com.github.nosan.embedded.cassandra.Settings;
 import com.github.nosan.embedded.cassandra.util.NetworkUtils;
-import com.github.nosan.embedded.cassandra.util.PortUtils;
 import com.github.nosan.embedded.cassandra.util.StringUtils;
 
 /**
@@ -47,12 +47,24 @@ class JvmParameters {
 
 	private final Map<String, String> jvmOptions;
 
-	JvmParameters(List<String> jvmOptions, int jmxPort, Settings settings) {
-		this.jvmOptions = Collections.unmodifiableMap(setPorts(parse(normalize(jvmOptions, jmxPort)), settings));
+	JvmParameters(List<String> jvmOptions, int jmxPort, Settings settings, PortAllocator portAllocator)
+			throws IOException {
+		this.jvmOptions = Collections.unmodifiableMap(setPorts(parse(normalize(jvmOptions, jmxPort)), settings,
+				portAllocator));
 	}
 
 	@Override
 	public String toString() {
+		return String.join(" ", getOptions());
+	}
+
+	/**
+	 * Return the {@code JVM} options.
+	 *
+	 * @return the options
+	 * @since 1.4.3
+	 */
+	List<String> getOptions() {
 		List<String> result = new ArrayList<>();
 		for (Map.Entry<String, String> entry : this.jvmOptions.entrySet()) {
 			String name = entry.getKey();
@@ -64,8 +76,7 @@ class JvmParameters {
 				result.add(name + "=" + value);
 			}
 		}
-
-		return String.join(" ", result);
+		return result;
 	}
 
 	/**
@@ -159,28 +170,36 @@ class JvmParameters {
 		return result;
 	}
 
-	private static Map<String, String> setPorts(Map<String, String> options, Settings settings) {
-		Map<String, String> jvmOptions = new LinkedHashMap<>(options);
-		setPort("-Dcassandra.native_transport_port", jvmOptions, settings::getRealAddress);
-		setPort("-Dcassandra.rpc_port", jvmOptions, settings::getRealAddress);
-		setPort("-Dcassandra.storage_port", jvmOptions, settings::getRealListenAddress);
-		setPort("-Dcassandra.ssl_storage_port", jvmOptions, settings::getRealListenAddress);
-		setPort("-Dcassandra.jmx.local.port", jvmOptions, InetAddress::getLoopbackAddress);
-		setPort("-Dcassandra.jmx.remote.port", jvmOptions,
+	private static Map<String, String> setPorts(Map<String, String> options, Settings settings,
+			PortAllocator portAllocator) throws IOException {
+		Map<String, Supplier<InetAddress>> addresses = new LinkedHashMap<>();
+		addresses.put("-Dcassandra.native_transport_port", settings::getRealAddress);
+		addresses.put("-Dcassandra.rpc_port", settings::getRealAddress);
+		addresses.put("-Dcassandra.storage_port", settings::getRealListenAddress);
+		addresses.put("-Dcassandra.ssl_storage_port", settings::getRealListenAddress);
+		addresses.put("-Dcassandra.jmx.local.port", InetAddress::getLoopbackAddress);
+		addresses.put("-Dcassandra.jmx.remote.port",
 				() -> getString("java.rmi.server.hostname", options).map(NetworkUtils::getInetAddress)
 						.orElseGet(InetAddress::getLoopbackAddress));
-		return jvmOptions;
-	}
-
-	private static void setPort(String name, Map<String, String> source, Supplier<InetAddress> addressSupplier) {
-		getInteger(name, source).filter(port -> port == 0).ifPresent(port -> {
-			InetAddress address = addressSupplier.get();
-			int newPort = PortUtils.getPort(address);
-			if (log.isDebugEnabled()) {
-				log.debug("Replace {}: {} as {}: {}", name, port, name, newPort);
+		List<String> names = new ArrayList<>();
+		List<InetAddress> bindAddresses = new ArrayList<>();
+		addresses.forEach((name, addressSupplier) -> {
+			if (getInteger(name, options).filter(port -> port == 0).isPresent()) {
+				names.add(name);
+				bindAddresses.add(addressSupplier.get());
 			}
-			source.put(name, String.valueOf(newPort));
 		});
+		Map<String, String> jvmOptions = new LinkedHashMap<>(options);
+		List<Integer> ports = portAllocator.allocate(bindAddresses);
+		for (int i = 0; i < names.size(); i++) {
+			String name = names.get(i);
+			int newPort = ports.get(i);
+			if (log.isDebugEnabled()) {
+				log.debug("Replace {}: {} as {}: {}", name, 0, name, newPort);
+			}
+			jvmOptions.put(name, String.valueOf(newPort));
+		}
+		return jvmOptions;
 	}
 
 	private static Optional<Integer> getInteger(String name, Map<String, String> source) {
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import org.apiguardian.api.API;
+
+/**
+ * Enumeration of the ways how a local {@code Cassandra} node can be launched.
+ *
+ * @author Dmytro Nosan
+ * @see LocalCassandraFactory#setLaunchMode(LaunchMode)
+ * @since 1.4.3
+ */
+@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+public enum LaunchMode {
+
+	/**
+	 * Launches the node through the {@code bin/cassandra} ({@code bin/cassandra.ps1}) script.
+	 */
+	SCRIPT,
+
+	/**
+	 * Launches {@code org.apache.cassandra.service.CassandraDaemon} directly, without the shell scripts. The command
+	 * line is built from {@code lib/*.jar}, {@code conf}, the {@code jvm.options} file and the {@code JVM} options.
+	 */
+	JVM,
+
+	/**
+	 * Runs {@code CassandraDaemon} within the current {@code JVM}. The distribution's {@code lib/*.jar} are loaded by
+	 * an isolated child-first class loader. Only one in-process node can be running at a time, and only {@code -D}
+	 * {@code JVM} options are applied (as system properties). {@code Cassandra} can be started only once per
+	 * {@code JVM}, a second start (including a restart) fails.
+	 */
+	IN_PROCESS
+
+}
@@ -21,12 +21,22 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.FileLockInterruptionException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +44,9 @@ import org.slf4j.LoggerFactory;
 import com.github.nosan.embedded.cassandra.Cassandra;
 import com.github.nosan.embedded.cassandra.CassandraException;
 import com.github.nosan.embedded.cassandra.CassandraInterruptedException;
+import com.github.nosan.embedded.cassandra.NodeEvent;
+import com.github.nosan.embedded.cassandra.NodeMetrics;
+import com.github.nosan.embedded.cassandra.NodeStatus;
 import com.github.nosan.embedded.cassandra.Settings;
 import com.github.nosan.embedded.cassandra.Version;
 import com.github.nosan.embedded.cassandra.local.artifact.Artifact;
@@ -54,6 +67,10 @@ class LocalCassandra implements Cassandra {
 
 	private static final Logger log = LoggerFactory.getLogger(LocalCassandra.class);
 
+	private static final String RECORDING_NAME = "embedded-cassandra";
+
+	private static final String RECORDING_FILE = "embedded-cassandra.jfr";
+
 	private final boolean registerShutdownHook;
 
 	private final boolean deleteWorkingDirectory;
@@ -62,8 +79,45 @@ class LocalCassandra implements Cassandra {
 
 	private final boolean allowRoot;
 
+	private final LaunchMode launchMode;
+
+	private final boolean classDataSharing;
+
+	private final boolean fastStart;
+
+	private final int concurrentNodes;
+
+	private final int cpus;
+
+	private final Path reportDirectory;
+
+	private final double diagnosticsThreshold;
+
+	@Nullable
+	private final String flightRecording;
+
+	private final String recordingName;
+
+	@Nullable
+	private final Duration metricsInterval;
+
+	@Nullable
+	private volatile ProcessSampler sampler;
+
+	private volatile NodeMetrics metrics = NodeMetrics.empty();
+
+	private final ReadinessMode readinessMode;
+
+	private final OutputOverflow outputOverflow;
+
+	private final int outputTailLines;
+
+	private final OutputPolicy outputPolicy;
+
 	private final Object lock = new Object();
 
+	private final NodeEventBus events = new NodeEventBus();
+
 	private final Version version;
 
 	private final ArtifactFactory artifactFactory;
@@ -94,7 +148,7 @@ class LocalCassandra implements Cassandra {
 	@Nullable
 	private final Path javaHome;
 
-	private volatile State state = State.NEW;
+	private final AtomicReference<State> state = new AtomicReference<>(State.NEW);
 
 	@Nullable
 	private volatile Thread startThread;
@@ -103,7 +157,10 @@ class LocalCassandra implements Cassandra {
 	private CassandraNode node;
 
 	@Nullable
-	private Settings settings;
+	private volatile Settings settings;
+
+	@Nullable
+	private ResourcePlan resourcePlan;
 
 	private boolean shutdownHookRegistered = false;
 
@@ -126,12 +183,31 @@ class LocalCassandra implements Cassandra {
 	 * @param allowRoot allow running as a root
 	 * @param registerShutdownHook whether shutdown hook should be registered or not
 	 * @param deleteWorkingDirectory delete the working directory after success Cassandra stop
+	 * @param launchMode the way how the node is launched
+	 * @param classDataSharing whether class data sharing archive should be used or not
+	 * @param fastStart whether the fast start profile should be applied or not
+	 * @param concurrentNodes the number of nodes running concurrently on the host ({@code 0} disables autosizing)
+	 * @param cpus the number of CPU cores to pin the node to ({@code 0} disables CPU affinity)
+	 * @param reportDirectory a directory to write reports to
+	 * @param diagnosticsThreshold the share of the startup timeout after which diagnostics are collected ({@code 0}
+	 * disables diagnostics)
+	 * @param flightRecording Java Flight Recorder settings
+	 * @param recordingName the name of the flight recording file ({@code null} to detect the test class)
+	 * @param metricsInterval interval to sample the resource usage of the node process at
+	 * @param readinessMode the way how the readiness of the node is detected
+	 * @param outputOverflow the way how lines of the node output are handled when the output is logged too slowly
+	 * @param outputTailLines the number of the last lines of the node output to report if the node has not been started
+	 * @param outputPolicy the way how the output of the node is handled
 	 */
 	LocalCassandra(Version version, ArtifactFactory artifactFactory, Path workingDirectory, Path artifactDirectory,
 			Duration startupTimeout, @Nullable URL configurationFile, @Nullable URL logbackFile, @Nullable URL rackFile,
 			@Nullable URL topologyFile, @Nullable URL commitLogArchivingFile, List<String> jvmOptions,
 			@Nullable Path javaHome, int jmxPort, boolean allowRoot, boolean registerShutdownHook,
-			boolean deleteWorkingDirectory) {
+			boolean deleteWorkingDirectory, LaunchMode launchMode, boolean classDataSharing,
+			boolean fastStart, int concurrentNodes, int cpus, Path reportDirectory,
+			double diagnosticsThreshold, @Nullable String flightRecording, @Nullable String recordingName,
+			@Nullable Duration metricsInterval, ReadinessMode readinessMode, OutputOverflow outputOverflow,
+			int outputTailLines, OutputPolicy outputPolicy) {
 		this.artifactFactory = artifactFactory;
 		this.workingDirectory = workingDirectory;
 		this.artifactDirectory = artifactDirectory;
@@ -148,12 +224,29 @@ class LocalCassandra implements Cassandra {
 		this.version = version;
 		this.registerShutdownHook = registerShutdownHook;
 		this.deleteWorkingDirectory = deleteWorkingDirectory;
+		this.launchMode = launchMode;
+		this.classDataSharing = classDataSharing;
+		this.fastStart = fastStart;
+		this.concurrentNodes = concurrentNodes;
+		this.cpus = cpus;
+		this.reportDirectory = reportDirectory;
+		this.diagnosticsThreshold = diagnosticsThreshold;
+		this.flightRecording = flightRecording;
+		this.recordingName = StringUtils.hasText(recordingName) ? recordingName : getRecordingName();
+		this.metricsInterval = metricsInterval;
+		this.readinessMode = readinessMode;
+		this.outputOverflow = outputOverflow;
+		this.outputTailLines = outputTailLines;
+		this.outputPolicy = outputPolicy;
 	}
 
 	@Override
 	public void start() throws CassandraException {
 		synchronized (this.lock) {
-			if (this.state != State.STARTED) {
+			if (this.state.get() == State.SUSPENDED) {
+				resume();
+			}
+			else if (this.state.get() != State.STARTED) {
 				try {
 					registerShutdownHook();
 				}
@@ -162,15 +255,15 @@ class LocalCassandra implements Cassandra {
 				}
 				try {
 					this.startThread = Thread.currentThread();
-					this.state = State.STARTING;
+					this.state.set(State.STARTING);
 					initialize();
 					startInternal();
-					this.state = State.STARTED;
+					this.state.set(State.STARTED);
 					this.startThread = null;
 				}
 				catch (InterruptedException | ClosedByInterruptException | FileLockInterruptionException ex) {
 					this.startThread = null;
-					this.state = State.START_INTERRUPTED;
+					this.state.set(State.START_INTERRUPTED);
 					boolean interrupted = Thread.interrupted();
 					stopInternalSilently();
 					if (interrupted) {
@@ -180,7 +273,7 @@ class LocalCassandra implements Cassandra {
 				}
 				catch (Throwable ex) {
 					this.startThread = null;
-					this.state = State.START_FAILED;
+					this.state.set(State.START_FAILED);
 					stopInternalSilently();
 					throw new CassandraException("Unable to start Cassandra", ex);
 				}
@@ -191,18 +284,18 @@ class LocalCassandra implements Cassandra {
 	@Override
 	public void stop() throws CassandraException {
 		synchronized (this.lock) {
-			if (this.state != State.STOPPED) {
+			if (this.state.get() != State.STOPPED) {
 				try {
-					this.state = State.STOPPING;
+					this.state.set(State.STOPPING);
 					stopInternal();
-					this.state = State.STOPPED;
+					this.state.set(State.STOPPED);
 				}
 				catch (InterruptedException | ClosedByInterruptException | FileLockInterruptionException ex) {
-					this.state = State.STOP_INTERRUPTED;
+					this.state.set(State.STOP_INTERRUPTED);
 					throw new CassandraInterruptedException(ex);
 				}
 				catch (Throwable ex) {
-					this.state = State.STOP_FAILED;
+					this.state.set(State.STOP_FAILED);
 					throw new CassandraException("Unable to stop Cassandra", ex);
 				}
 			}
@@ -210,22 +303,127 @@ class LocalCassandra implements Cassandra {
 	}
 
 	@Override
-	public Settings getSettings() throws CassandraException {
+	public void restart(boolean kill) throws CassandraException {
 		synchronized (this.lock) {
-			if (this.state == State.STARTED) {
-				Settings settings = this.settings;
-				if (settings != null) {
-					return settings;
+			CassandraNode node = this.node;
+			if ((this.state.get() != State.STARTED && this.state.get() != State.SUSPENDED) || node == null) {
+				stop();
+				start();
+				return;
+			}
+			try {
+				this.startThread = Thread.currentThread();
+				this.state.set(State.STOPPING);
+				restartInternal(node, kill);
+				this.state.set(State.STARTED);
+				this.startThread = null;
+			}
+			catch (InterruptedException | ClosedByInterruptException | FileLockInterruptionException ex) {
+				this.startThread = null;
+				this.state.set(State.START_INTERRUPTED);
+				boolean interrupted = Thread.interrupted();
+				stopInternalSilently();
+				if (interrupted) {
+					Thread.currentThread().interrupt();
 				}
-				throw new IllegalStateException("Settings cannot be null if Cassandra is running.");
+				throw new CassandraInterruptedException(ex);
+			}
+			catch (Throwable ex) {
+				this.startThread = null;
+				this.state.set(State.START_FAILED);
+				stopInternalSilently();
+				throw new CassandraException("Unable to restart Cassandra", ex);
+			}
+		}
+	}
+
+	@Override
+	public void suspend() throws CassandraException {
+		synchronized (this.lock) {
+			if (this.state.get() != State.SUSPENDED) {
+				CassandraNode node = this.node;
+				if (this.state.get() != State.STARTED || node == null) {
+					throw new CassandraException(
+							"Cassandra is not started. Please start it before calling this method.");
+				}
+				try {
+					node.suspend();
+					this.state.set(State.SUSPENDED);
+					log.info("Apache Cassandra '{}' has been suspended", this.version);
+				}
+				catch (InterruptedException | ClosedByInterruptException | FileLockInterruptionException ex) {
+					throw new CassandraInterruptedException(ex);
+				}
+				catch (Throwable ex) {
+					throw new CassandraException("Unable to suspend Cassandra", ex);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void resume() throws CassandraException {
+		synchronized (this.lock) {
+			CassandraNode node = this.node;
+			if (this.state.get() == State.SUSPENDED && node != null) {
+				try {
+					node.resume();
+					this.state.set(State.STARTED);
+					log.info("Apache Cassandra '{}' has been resumed", this.version);
+				}
+				catch (InterruptedException | ClosedByInterruptException | FileLockInterruptionException ex) {
+					throw new CassandraInterruptedException(ex);
+				}
+				catch (Throwable ex) {
+					throw new CassandraException("Unable to resume Cassandra", ex);
+				}
+			}
+		}
+	}
+
+	@Override
+	public Settings getSettings() throws CassandraException {
+		State state = this.state.get();
+		if (state == State.STARTED || state == State.SUSPENDED) {
+			Settings settings = this.settings;
+			if (settings != null) {
+				return settings;
 			}
-			throw new CassandraException("Cassandra is not started. Please start it before calling this method.");
+			throw new IllegalStateException("Settings cannot be null if Cassandra is running.");
 		}
+		throw new CassandraException("Cassandra is not started. Please start it before calling this method.");
 	}
 
 	@Override
 	public State getState() {
-		return this.state;
+		return this.state.get();
+	}
+
+	@Override
+	public NodeStatus getStatus() throws CassandraException {
+		CassandraNode node = this.node;
+		State state = this.state.get();
+		if ((state == State.STARTED || state == State.SUSPENDED) && node != null) {
+			try {
+				return node.getStatus();
+			}
+			catch (Throwable ex) {
+				throw new CassandraException("Unable to get the status of Cassandra", ex);
+			}
+		}
+		throw new CassandraException("Cassandra is not started. Please start it before calling this method.");
+	}
+
+	@Override
+	public NodeEvent.Subscription subscribe(Predicate<? super NodeEvent> filter,
+			Consumer<? super NodeEvent> subscriber) {
+		return this.events.subscribe(filter, subscriber);
+	}
+
+	@Override
+	public NodeMetrics getMetrics() {
+		ProcessSampler sampler = this.sampler;
+		return (sampler != null) ? sampler.getMetrics() : this.metrics;
 	}
 
 	@Override
@@ -252,6 +450,15 @@ class LocalCassandra implements Cassandra {
 		initializers.add(new RackFileInitializer(this.rackFile));
 		initializers.add(new TopologyFileInitializer(this.topologyFile));
 		initializers.add(new CommitLogFileInitializer(this.commitLogArchivingFile));
+		if (this.fastStart) {
+			initializers.add(new FastStartInitializer());
+		}
+		if (this.concurrentNodes > 0) {
+			ResourcePlan resourcePlan = ResourcePlan.create(this.concurrentNodes);
+			log.info("Resource plan: {}", resourcePlan);
+			this.resourcePlan = resourcePlan;
+			initializers.add(new ResourcePlanInitializer(resourcePlan, this.configurationFile != null));
+		}
 		initializers.add(new ConfigurationFileRandomPortInitializer());
 		if (!isWindows()) {
 			initializers.add(new CassandraFileExecutableInitializer());
@@ -270,18 +477,49 @@ class LocalCassandra implements Cassandra {
 		CassandraNode node = createNode();
 		this.node = node;
 		this.settings = node.start();
+		startSampler(node);
 		long elapsed = System.currentTimeMillis() - start;
 		log.info("Apache Cassandra '{}' has been started ({} ms)", version, elapsed);
 	}
 
+	private void restartInternal(CassandraNode node, boolean kill) throws IOException, InterruptedException {
+		Version version = this.version;
+		log.info("Restarts Apache Cassandra '{}'", version);
+		long start = System.currentTimeMillis();
+		stopSampler();
+		if (kill) {
+			node.kill();
+		}
+		else {
+			node.stop();
+		}
+		saveRecording();
+		this.state.set(State.STARTING);
+		this.settings = node.start();
+		startSampler(node);
+		long elapsed = System.currentTimeMillis() - start;
+		log.info("Apache Cassandra '{}' has been restarted ({} ms)", version, elapsed);
+	}
+
 	private void stopInternal() throws IOException, InterruptedException {
 		Version version = this.version;
 		CassandraNode node = this.node;
 		if (node != null) {
 			long start = System.currentTimeMillis();
 			log.info("Stops Apache Cassandra '{}'", version);
-			node.stop();
+			stopSampler();
+			if (isDiscard()) {
+				if (log.isDebugEnabled()) {
+					log.debug("The '{}' directory is deleted afterwards. Apache Cassandra '{}' is killed",
+							this.workingDirectory, version);
+				}
+				node.kill();
+			}
+			else {
+				node.stop();
+			}
 			this.node = null;
+			saveRecording();
 			if (this.deleteWorkingDirectory) {
 				Path workingDirectory = this.workingDirectory;
 				FileUtils.delete(workingDirectory);
@@ -290,15 +528,126 @@ class LocalCassandra implements Cassandra {
 			long elapsed = System.currentTimeMillis() - start;
 			log.info("Apache Cassandra '{}' has been stopped ({} ms)", version, elapsed);
 		}
+		releasePorts();
+	}
+
+	private void releasePorts() {
+		try {
+			PortAllocator.create(this.workingDirectory).release();
+		}
+		catch (IOException ex) {
+			log.error(String.format("Ports of '%s' have not been released", this.workingDirectory), ex);
+		}
+	}
+
+	private boolean isDiscard() {
+		return this.deleteWorkingDirectory && this.launchMode != LaunchMode.IN_PROCESS && !this.classDataSharing
+				&& this.flightRecording == null;
+	}
+
+	private void startSampler(CassandraNode node) {
+		Duration interval = this.metricsInterval;
+		long pid = node.getPid();
+		if (interval != null && pid > 0) {
+			ProcessSampler sampler = new ProcessSampler(Paths.get("/proc", Long.toString(pid)), interval, 3600);
+			sampler.start();
+			this.sampler = sampler;
+		}
+	}
+
+	private void stopSampler() {
+		ProcessSampler sampler = this.sampler;
+		if (sampler != null) {
+			this.sampler = null;
+			NodeMetrics metrics = sampler.stop();
+			this.metrics = metrics;
+			log.info("Apache Cassandra '{}' resource usage: {}", this.version, metrics);
+		}
+	}
+
+	private void saveRecording() {
+		Path recording = this.workingDirectory.resolve(RECORDING_FILE);
+		if (!Files.exists(recording)) {
+			return;
+		}
+		String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date());
+		Path target = this.reportDirectory.resolve(String.format("%s-%s.jfr", this.recordingName, timestamp));
+		try {
+			Files.createDirectories(this.reportDirectory);
+			Files.move(recording, target, StandardCopyOption.REPLACE_EXISTING);
+			log.info("Flight recording of Apache Cassandra '{}' has been saved to '{}'", this.version, target);
+		}
+		catch (IOException ex) {
+			log.error(String.format("Flight recording '%s' cannot be saved to '%s'", recording, target), ex);
+		}
+	}
+
+	private static String getRecordingName() {
+		for (StackTraceElement element : new Throwable().getStackTrace()) {
+			String name = element.getClassName();
+			name = name.substring(name.lastIndexOf('.') + 1);
+			if (name.contains("$")) {
+				name = name.substring(0, name.indexOf('$'));
+			}
+			if (name.endsWith("Test") || name.endsWith("Tests") || name.endsWith("IT") || name.endsWith("TestCase")) {
+				return name;
+			}
+		}
+		return "cassandra";
 	}
 
 	private CassandraNode createNode() {
+		List<String> jvmOptions = new ArrayList<>();
+		if (this.fastStart) {
+			jvmOptions.addAll(new FastStartInitializer().getJvmOptions(this.version, this.jvmOptions));
+		}
+		jvmOptions.addAll(this.jvmOptions);
+		ResourcePlan resourcePlan = this.resourcePlan;
+		Map<String, String> environment = (resourcePlan != null) ? resourcePlan.getEnvironment()
+				: Collections.emptyMap();
+		String flightRecording = this.flightRecording;
+		if (this.launchMode == LaunchMode.IN_PROCESS) {
+			if (flightRecording != null) {
+				log.warn("Flight recording is not supported by '{}' launch mode and is ignored", LaunchMode.IN_PROCESS);
+			}
+			if (this.readinessMode == ReadinessMode.JMX) {
+				log.warn("'{}' readiness mode is not supported by '{}' launch mode and is ignored", ReadinessMode.JMX,
+						LaunchMode.IN_PROCESS);
+			}
+			if (this.outputPolicy != OutputPolicy.FORWARD) {
+				log.warn("'{}' output policy is not supported by '{}' launch mode and is ignored", this.outputPolicy,
+						LaunchMode.IN_PROCESS);
+			}
+			return new InProcessCassandraNode(this.workingDirectory, this.version, this.startupTimeout, jvmOptions,
+					this.jmxPort);
+		}
+		ClassDataSharing classDataSharing = null;
+		if (this.classDataSharing) {
+			if (this.launchMode == LaunchMode.JVM) {
+				classDataSharing = new ClassDataSharing(this.artifactDirectory);
+			}
+			else {
+				log.warn("Class data sharing is supported only by '{}' launch mode and is ignored", LaunchMode.JVM);
+			}
+		}
+		if (flightRecording != null) {
+			jvmOptions.add(String.format("-XX:StartFlightRecording=name=%s,settings=%s,dumponexit=true,filename=%s",
+					RECORDING_NAME, flightRecording, RECORDING_FILE));
+		}
+		NodeOutput output = new NodeOutput(this.outputPolicy, this.outputOverflow, this.outputTailLines, this.events);
+		StartupDiagnostics diagnostics = (this.diagnosticsThreshold > 0)
+				? new StartupDiagnostics(this.workingDirectory, this.reportDirectory, this.diagnosticsThreshold) : null;
 		if (isWindows()) {
-			return new WindowsCassandraNode(this.workingDirectory, this.version, this.startupTimeout, this.jvmOptions,
-					this.javaHome, this.jmxPort);
+			if (this.cpus > 0) {
+				log.warn("CPU affinity is not supported on Windows and is ignored");
+			}
+			return new WindowsCassandraNode(this.workingDirectory, this.version, this.startupTimeout, jvmOptions,
+					this.javaHome, this.jmxPort, this.launchMode, classDataSharing, environment, diagnostics,
+					this.readinessMode, output);
 		}
-		return new UnixCassandraNode(this.workingDirectory, this.version, this.startupTimeout, this.jvmOptions,
-				this.javaHome, this.jmxPort, this.allowRoot);
+		return new UnixCassandraNode(this.workingDirectory, this.version, this.startupTimeout, jvmOptions,
+				this.javaHome, this.jmxPort, this.allowRoot, this.launchMode, classDataSharing, environment,
+				this.cpus, diagnostics, this.readinessMode, output);
 	}
 
 	private void registerShutdownHook() {
@@ -87,6 +87,42 @@ public final class LocalCassandraFactory implements CassandraFactory {
 
 	private boolean deleteWorkingDirectory = false;
 
+	@Nullable
+	private LaunchMode launchMode;
+
+	private boolean classDataSharing = false;
+
+	private boolean fastStart = false;
+
+	private int concurrentNodes = 0;
+
+	private int cpus = 0;
+
+	@Nullable
+	private Path reportDirectory;
+
+	private double diagnosticsThreshold;
+
+	@Nullable
+	private String flightRecording;
+
+	@Nullable
+	private String recordingName;
+
+	@Nullable
+	private Duration metricsInterval;
+
+	@Nullable
+	private ReadinessMode readinessMode;
+
+	@Nullable
+	private OutputOverflow outputOverflow;
+
+	private int outputTailLines = 10;
+
+	@Nullable
+	private OutputPolicy outputPolicy;
+
 	/**
 	 * Whether to allow running Cassandra as a {@code root} or not.
 	 * <p>
@@ -388,7 +424,9 @@ public final class LocalCassandraFactory implements CassandraFactory {
 	}
 
 	/**
-	 * Delete the working directory after success {@code Cassandra} stop.
+	 * Delete the working directory after success {@code Cassandra} stop. Since the data is discarded anyway, the
+	 * node is killed rather than shut down gracefully (unless {@link #isClassDataSharing() class data sharing} is
+	 * enabled, which requires a graceful shutdown).
 	 *
 	 * @return The value of the {@code deleteWorkingDirectory} attribute
 	 * @since 1.4.3
@@ -409,6 +447,353 @@ public final class LocalCassandraFactory implements CassandraFactory {
 		this.deleteWorkingDirectory = deleteWorkingDirectory;
 	}
 
+	/**
+	 * The way how {@code Cassandra} is launched. Default value is {@link LaunchMode#SCRIPT}.
+	 *
+	 * @return The value of the {@code launchMode} attribute
+	 * @since 1.4.3
+	 */
+	@Nullable
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LaunchMode getLaunchMode() {
+		return this.launchMode;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getLaunchMode} attribute.
+	 *
+	 * @param launchMode The value for launchMode
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setLaunchMode(@Nullable LaunchMode launchMode) {
+		this.launchMode = launchMode;
+	}
+
+	/**
+	 * Whether to use an {@code AppCDS} (class data sharing) archive or not. The archive is generated by the first
+	 * start and kept next to the extracted artifact; later starts reuse it to speed up class loading. Requires
+	 * {@link LaunchMode#JVM} and Java 10+.
+	 *
+	 * @return The value of the {@code classDataSharing} attribute
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public boolean isClassDataSharing() {
+		return this.classDataSharing;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#isClassDataSharing} attribute.
+	 *
+	 * @param classDataSharing The value for classDataSharing
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setClassDataSharing(boolean classDataSharing) {
+		this.classDataSharing = classDataSharing;
+	}
+
+	/**
+	 * Whether to apply the fast start profile or not. The profile is meant for a single-node test cluster: it sets
+	 * {@code num_tokens: 1} with an {@code initial_token}, {@code start_rpc: false} (before {@code 4.0}),
+	 * {@code -Dcassandra.skip_wait_for_gossip_to_settle=0}, {@code -Dcassandra.ring_delay_ms=1000} and {@code
+	 * -XX:TieredStopAtLevel=1}. Options which are explicitly configured are not overridden. Applied changes are
+	 * logged.
+	 *
+	 * @return The value of the {@code fastStart} attribute
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public boolean isFastStart() {
+		return this.fastStart;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#isFastStart} attribute.
+	 *
+	 * @param fastStart The value for fastStart
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setFastStart(boolean fastStart) {
+		this.fastStart = fastStart;
+	}
+
+	/**
+	 * The number of nodes which run concurrently on the host (e.g. one per test fork). If positive, every node gets
+	 * a {@code 1/concurrentNodes} share of the memory (limited by a container memory limit) and the available cores:
+	 * {@code MAX_HEAP_SIZE} and {@code HEAP_NEWSIZE} are passed as environment variables and {@code concurrent_reads},
+	 * {@code concurrent_writes}, {@code concurrent_compactors} and {@code native_transport_max_threads} are set in
+	 * {@code cassandra.yaml} unless they are set by the {@code configurationFile}. The computed plan is logged.
+	 * Default value is {@code 0} (autosizing is disabled).
+	 *
+	 * @return The value of the {@code concurrentNodes} attribute
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public int getConcurrentNodes() {
+		return this.concurrentNodes;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getConcurrentNodes} attribute.
+	 *
+	 * @param concurrentNodes The value for concurrentNodes
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setConcurrentNodes(int concurrentNodes) {
+		this.concurrentNodes = concurrentNodes;
+	}
+
+	/**
+	 * The number of CPU cores to pin the node process to ({@code Linux} only, requires {@code taskset}). Cores are
+	 * handed out by a cross-process allocator (starting from the highest cores) and {@code
+	 * -XX:ActiveProcessorCount} is set to match (Java 10+). If there are not enough free cores, the node is not
+	 * pinned. Default value is {@code 0} (CPU affinity is disabled).
+	 *
+	 * @return The value of the {@code cpus} attribute
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public int getCpus() {
+		return this.cpus;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getCpus} attribute.
+	 *
+	 * @param cpus The value for cpus
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setCpus(int cpus) {
+		this.cpus = cpus;
+	}
+
+	/**
+	 * Directory to write reports to (e.g. startup diagnostics). Default value is {@link FileUtils#getTmpDirectory()
+	 * tmp.dir}{@code /embedded-cassandra/reports}.
+	 *
+	 * @return The value of the {@code reportDirectory} attribute
+	 * @since 1.4.3
+	 */
+	@Nullable
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public Path getReportDirectory() {
+		return this.reportDirectory;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getReportDirectory} attribute.
+	 *
+	 * @param reportDirectory The value for reportDirectory
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setReportDirectory(@Nullable Path reportDirectory) {
+		this.reportDirectory = reportDirectory;
+	}
+
+	/**
+	 * The share of the startup timeout after which diagnostics of a not yet started node are collected: a thread
+	 * dump ({@code jcmd Thread.print}), GC statistics ({@code jstat -gcutil}) and the tails of {@code
+	 * logs/system.log} and {@code logs/debug.log}. The diagnostics are written to the {@link #getReportDirectory()
+	 * report directory} and attached to the startup exception. The diagnostics are collected on a separate thread and
+	 * do not shorten the startup timeout. Default value is {@code 0}, which disables diagnostics.
+	 *
+	 * @return The value of the {@code diagnosticsThreshold} attribute
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public double getDiagnosticsThreshold() {
+		return this.diagnosticsThreshold;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getDiagnosticsThreshold} attribute.
+	 *
+	 * @param diagnosticsThreshold The value for diagnosticsThreshold
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setDiagnosticsThreshold(double diagnosticsThreshold) {
+		this.diagnosticsThreshold = diagnosticsThreshold;
+	}
+
+	/**
+	 * Java Flight Recorder settings (e.g. {@code default} or {@code profile}) to record the node with. If set, the
+	 * node is started with {@code -XX:StartFlightRecording}, the recording is dumped when the node stops and is copied
+	 * to the {@link #getReportDirectory() report directory} as {@code <recording name>-<timestamp>.jfr} (see {@link
+	 * #getRecordingName()}). Default value is {@code null} (no recording).
+	 * <p>
+	 * Not supported by {@link LaunchMode#IN_PROCESS} launch mode. Java 8 builds of Oracle JDK also require
+	 * {@code -XX:+UnlockCommercialFeatures} to be added to the {@link #getJvmOptions() JVM options}.
+	 *
+	 * @return The value of the {@code flightRecording} attribute
+	 * @since 1.4.3
+	 */
+	@Nullable
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public String getFlightRecording() {
+		return this.flightRecording;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getFlightRecording} attribute.
+	 *
+	 * @param flightRecording The value for flightRecording
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setFlightRecording(@Nullable String flightRecording) {
+		this.flightRecording = flightRecording;
+	}
+
+	/**
+	 * The name of the {@link #getFlightRecording() flight recording} file (e.g. the name of the test class). If not
+	 * set, the name of the first test class ({@code *Test}, {@code *Tests}, {@code *IT} or {@code *TestCase}) which
+	 * creates the node is used, or {@code cassandra} if there is no such class. Default value is {@code null}.
+	 *
+	 * @return The value of the {@code recordingName} attribute
+	 * @since 1.4.3
+	 */
+	@Nullable
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public String getRecordingName() {
+		return this.recordingName;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getRecordingName} attribute.
+	 *
+	 * @param recordingName The value for recordingName
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setRecordingName(@Nullable String recordingName) {
+		this.recordingName = recordingName;
+	}
+
+	/**
+	 * Interval to sample the resource usage (CPU time, RSS, threads, I/O and context switches) of the node process
+	 * at. Samples are read from {@code /proc/<pid>} (Linux only) and are available through {@link
+	 * Cassandra#getMetrics()}, a summary is logged when the node stops. Default value is {@code null} (no sampling).
+	 *
+	 * @return The value of the {@code metricsInterval} attribute
+	 * @since 1.4.3
+	 */
+	@Nullable
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public Duration getMetricsInterval() {
+		return this.metricsInterval;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getMetricsInterval} attribute.
+	 *
+	 * @param metricsInterval The value for metricsInterval
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setMetricsInterval(@Nullable Duration metricsInterval) {
+		this.metricsInterval = metricsInterval;
+	}
+
+	/**
+	 * The way how the readiness of the node is detected. Default value is {@link ReadinessMode#LOG}.
+	 *
+	 * @return The value of the {@code readinessMode} attribute
+	 * @since 1.4.3
+	 */
+	@Nullable
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public ReadinessMode getReadinessMode() {
+		return this.readinessMode;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getReadinessMode} attribute.
+	 *
+	 * @param readinessMode The value for readinessMode
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setReadinessMode(@Nullable ReadinessMode readinessMode) {
+		this.readinessMode = readinessMode;
+	}
+
+	/**
+	 * The way how lines of the node output are handled when the output is logged or written to a file slower than the
+	 * node prints it. Default value is {@link OutputOverflow#DROP}.
+	 *
+	 * @return The value of the {@code outputOverflow} attribute
+	 * @since 1.4.3
+	 */
+	@Nullable
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public OutputOverflow getOutputOverflow() {
+		return this.outputOverflow;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getOutputOverflow} attribute.
+	 *
+	 * @param outputOverflow The value for outputOverflow
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setOutputOverflow(@Nullable OutputOverflow outputOverflow) {
+		this.outputOverflow = outputOverflow;
+	}
+
+	/**
+	 * The number of the last lines of the node output which are reported if the node has not been started. Default
+	 * value is {@code 10}.
+	 *
+	 * @return The value of the {@code outputTailLines} attribute
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public int getOutputTailLines() {
+		return this.outputTailLines;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getOutputTailLines} attribute.
+	 *
+	 * @param outputTailLines The value for outputTailLines
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setOutputTailLines(int outputTailLines) {
+		this.outputTailLines = outputTailLines;
+	}
+
+	/**
+	 * The way how the output of the node is handled. Default value is {@link OutputPolicy#FORWARD}.
+	 *
+	 * @return The value of the {@code outputPolicy} attribute
+	 * @since 1.4.3
+	 */
+	@Nullable
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public OutputPolicy getOutputPolicy() {
+		return this.outputPolicy;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getOutputPolicy} attribute.
+	 *
+	 * @param outputPolicy The value for outputPolicy
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public void setOutputPolicy(@Nullable OutputPolicy outputPolicy) {
+		this.outputPolicy = outputPolicy;
+	}
+
 	@Override
 	public LocalCassandra create() {
 		ArtifactFactory artifactFactory = getArtifactFactory();
@@ -433,6 +818,26 @@ public final class LocalCassandraFactory implements CassandraFactory {
 			artifactDirectory = FileUtils.getTmpDirectory()
 					.resolve(String.format("embedded-cassandra/%1$s/apache-cassandra-%1$s", version));
 		}
+		Path reportDirectory = getReportDirectory();
+		if (reportDirectory == null) {
+			reportDirectory = FileUtils.getTmpDirectory().resolve("embedded-cassandra/reports");
+		}
+		LaunchMode launchMode = getLaunchMode();
+		if (launchMode == null) {
+			launchMode = LaunchMode.SCRIPT;
+		}
+		ReadinessMode readinessMode = getReadinessMode();
+		if (readinessMode == null) {
+			readinessMode = ReadinessMode.LOG;
+		}
+		OutputPolicy outputPolicy = getOutputPolicy();
+		if (outputPolicy == null) {
+			outputPolicy = OutputPolicy.FORWARD;
+		}
+		OutputOverflow outputOverflow = getOutputOverflow();
+		if (outputOverflow == null) {
+			outputOverflow = OutputOverflow.DROP;
+		}
 		if (artifactDirectory.equals(workingDirectory)) {
 			throw new IllegalArgumentException(
 					String.format("Artifact Directory '%s' must not be the same as Working Directory '%s'",
@@ -441,7 +846,10 @@ public final class LocalCassandraFactory implements CassandraFactory {
 		return new LocalCassandra(version, artifactFactory, workingDirectory, artifactDirectory, startupTimeout,
 				getConfigurationFile(), getLogbackFile(), getRackFile(), getTopologyFile(), getCommitLogArchivingFile(),
 				getJvmOptions(), getJavaHome(), getJmxPort(), isAllowRoot(), isRegisterShutdownHook(),
-				isDeleteWorkingDirectory());
+				isDeleteWorkingDirectory(), launchMode, isClassDataSharing(),
+				isFastStart(), getConcurrentNodes(), getCpus(), reportDirectory, getDiagnosticsThreshold(),
+				getFlightRecording(), getRecordingName(), getMetricsInterval(), readinessMode, outputOverflow,
+				getOutputTailLines(), outputPolicy);
 	}
 
 }
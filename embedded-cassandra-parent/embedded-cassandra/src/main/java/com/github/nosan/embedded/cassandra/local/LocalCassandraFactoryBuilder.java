@@ -84,6 +84,42 @@ public final class LocalCassandraFactoryBuilder {
 
 	private boolean deleteWorkingDirectory = false;
 
+	@Nullable
+	private LaunchMode launchMode;
+
+	private boolean classDataSharing = false;
+
+	private boolean fastStart = false;
+
+	private int concurrentNodes = 0;
+
+	private int cpus = 0;
+
+	@Nullable
+	private Path reportDirectory;
+
+	private double diagnosticsThreshold;
+
+	@Nullable
+	private String flightRecording;
+
+	@Nullable
+	private String recordingName;
+
+	@Nullable
+	private Duration metricsInterval;
+
+	@Nullable
+	private ReadinessMode readinessMode;
+
+	@Nullable
+	private OutputOverflow outputOverflow;
+
+	private int outputTailLines = 10;
+
+	@Nullable
+	private OutputPolicy outputPolicy;
+
 	/**
 	 * Initializes the value for the {@link LocalCassandraFactory#isAllowRoot() allowRoot} attribute.
 	 *
@@ -487,6 +523,200 @@ public final class LocalCassandraFactoryBuilder {
 		return this;
 	}
 
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getLaunchMode} attribute.
+	 *
+	 * @param launchMode The value for launchMode
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setLaunchMode(@Nullable LaunchMode launchMode) {
+		this.launchMode = launchMode;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#isClassDataSharing} attribute.
+	 *
+	 * @param classDataSharing The value for classDataSharing
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setClassDataSharing(boolean classDataSharing) {
+		this.classDataSharing = classDataSharing;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#isFastStart} attribute.
+	 *
+	 * @param fastStart The value for fastStart
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setFastStart(boolean fastStart) {
+		this.fastStart = fastStart;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getConcurrentNodes} attribute.
+	 *
+	 * @param concurrentNodes The value for concurrentNodes
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setConcurrentNodes(int concurrentNodes) {
+		this.concurrentNodes = concurrentNodes;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getCpus} attribute.
+	 *
+	 * @param cpus The value for cpus
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setCpus(int cpus) {
+		this.cpus = cpus;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getReportDirectory} attribute.
+	 *
+	 * @param reportDirectory The value for reportDirectory
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setReportDirectory(@Nullable Path reportDirectory) {
+		this.reportDirectory = reportDirectory;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getReportDirectory} attribute.
+	 *
+	 * @param reportDirectory The value for reportDirectory
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setReportDirectory(@Nullable File reportDirectory) {
+		return setReportDirectory((reportDirectory != null) ? reportDirectory.toPath() : null);
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getDiagnosticsThreshold} attribute.
+	 *
+	 * @param diagnosticsThreshold The value for diagnosticsThreshold
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setDiagnosticsThreshold(double diagnosticsThreshold) {
+		this.diagnosticsThreshold = diagnosticsThreshold;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getFlightRecording} attribute.
+	 *
+	 * @param flightRecording The value for flightRecording
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setFlightRecording(@Nullable String flightRecording) {
+		this.flightRecording = flightRecording;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getRecordingName} attribute.
+	 *
+	 * @param recordingName The value for recordingName
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setRecordingName(@Nullable String recordingName) {
+		this.recordingName = recordingName;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getMetricsInterval} attribute.
+	 *
+	 * @param metricsInterval The value for metricsInterval
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setMetricsInterval(@Nullable Duration metricsInterval) {
+		this.metricsInterval = metricsInterval;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getReadinessMode} attribute.
+	 *
+	 * @param readinessMode The value for readinessMode
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setReadinessMode(@Nullable ReadinessMode readinessMode) {
+		this.readinessMode = readinessMode;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getOutputOverflow} attribute.
+	 *
+	 * @param outputOverflow The value for outputOverflow
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setOutputOverflow(@Nullable OutputOverflow outputOverflow) {
+		this.outputOverflow = outputOverflow;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getOutputTailLines} attribute.
+	 *
+	 * @param outputTailLines The value for outputTailLines
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setOutputTailLines(int outputTailLines) {
+		this.outputTailLines = outputTailLines;
+		return this;
+	}
+
+	/**
+	 * Initializes the value for the {@link LocalCassandraFactory#getOutputPolicy} attribute.
+	 *
+	 * @param outputPolicy The value for outputPolicy
+	 * @return {@code this} builder for use in a chained invocation
+	 * @since 1.4.3
+	 */
+	@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+	public LocalCassandraFactoryBuilder setOutputPolicy(@Nullable OutputPolicy outputPolicy) {
+		this.outputPolicy = outputPolicy;
+		return this;
+	}
+
 	/**
 	 * Builds a new {@link LocalCassandraFactory}.
 	 *
@@ -510,6 +740,20 @@ public final class LocalCassandraFactoryBuilder {
 		factory.setCommitLogArchivingFile(this.commitLogArchivingFile);
 		factory.setArtifactDirectory(this.artifactDirectory);
 		factory.setDeleteWorkingDirectory(this.deleteWorkingDirectory);
+		factory.setLaunchMode(this.launchMode);
+		factory.setClassDataSharing(this.classDataSharing);
+		factory.setFastStart(this.fastStart);
+		factory.setConcurrentNodes(this.concurrentNodes);
+		factory.setCpus(this.cpus);
+		factory.setReportDirectory(this.reportDirectory);
+		factory.setDiagnosticsThreshold(this.diagnosticsThreshold);
+		factory.setFlightRecording(this.flightRecording);
+		factory.setRecordingName(this.recordingName);
+		factory.setMetricsInterval(this.metricsInterval);
+		factory.setReadinessMode(this.readinessMode);
+		factory.setOutputOverflow(this.outputOverflow);
+		factory.setOutputTailLines(this.outputTailLines);
+		factory.setOutputPolicy(this.outputPolicy);
 		return factory;
 	}
 
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * {@link Consumer} that scans every line for the keywords of its {@link Rule rules} in a single pass. Keywords are
+ * matched case-insensitively by an Aho-Corasick automaton built once, so no regular expression is evaluated per line.
+ * A {@link Rule} is applied as soon as one of its keyword sequences occurs in order within a line, and is retired once
+ * it has been satisfied. Rules are applied once the whole line has been scanned, in the order they have been given,
+ * so a rule can rely on the preceding rules having handled the same line. When every rule is retired, lines are no
+ * longer scanned.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class LogScanner implements Consumer<String> {
+
+	private final State root = new State();
+
+	private final List<Rule> rules;
+
+	private final boolean[] retired;
+
+	/**
+	 * Keyword indexes of each sequence.
+	 */
+	private final int[][] sequences;
+
+	/**
+	 * Rule index of each sequence.
+	 */
+	private final int[] owners;
+
+	/**
+	 * Sequences and positions in the sequence of each keyword.
+	 */
+	private final int[][] references;
+
+	private final int[] next;
+
+	private final int[] ends;
+
+	private int active;
+
+	/**
+	 * Matches of the current line as {@code (rule, start, end)} triples.
+	 */
+	private int[] matches = new int[24];
+
+	private int matchCount;
+
+	/**
+	 * Creates a {@link LogScanner}.
+	 *
+	 * @param rules the rules
+	 */
+	LogScanner(List<? extends Rule> rules) {
+		this.rules = new ArrayList<>(rules);
+		this.retired = new boolean[this.rules.size()];
+		this.active = this.rules.size();
+		Map<String, Integer> keywords = new LinkedHashMap<>();
+		List<int[]> sequences = new ArrayList<>();
+		List<Integer> owners = new ArrayList<>();
+		for (int i = 0; i < this.rules.size(); i++) {
+			for (String[] sequence : this.rules.get(i).getKeywords()) {
+				int[] indexes = new int[sequence.length];
+				for (int j = 0; j < sequence.length; j++) {
+					String keyword = sequence[j].toLowerCase(Locale.ENGLISH);
+					if (keyword.isEmpty()) {
+						throw new IllegalArgumentException("Keyword must not be empty");
+					}
+					indexes[j] = keywords.computeIfAbsent(keyword, k -> keywords.size());
+				}
+				if (indexes.length > 0) {
+					sequences.add(indexes);
+					owners.add(i);
+				}
+			}
+		}
+		this.sequences = sequences.toArray(new int[0][]);
+		this.owners = owners.stream().mapToInt(Integer::intValue).toArray();
+		this.next = new int[this.sequences.length];
+		this.ends = new int[this.sequences.length];
+		List<List<int[]>> references = new ArrayList<>();
+		for (int i = 0; i < keywords.size(); i++) {
+			references.add(new ArrayList<>());
+		}
+		for (int i = 0; i < this.sequences.length; i++) {
+			for (int j = 0; j < this.sequences[i].length; j++) {
+				references.get(this.sequences[i][j]).add(new int[]{i, j});
+			}
+		}
+		this.references = new int[keywords.size()][];
+		for (int i = 0; i < keywords.size(); i++) {
+			List<int[]> refs = references.get(i);
+			int[] flat = new int[refs.size() * 2];
+			for (int j = 0; j < refs.size(); j++) {
+				flat[j * 2] = refs.get(j)[0];
+				flat[j * 2 + 1] = refs.get(j)[1];
+			}
+			this.references[i] = flat;
+		}
+		keywords.forEach(this::add);
+		link();
+	}
+
+	@Override
+	public synchronized void accept(String line) {
+		if (this.active == 0) {
+			return;
+		}
+		Arrays.fill(this.next, 0);
+		Arrays.fill(this.ends, 0);
+		this.matchCount = 0;
+		State root = this.root;
+		State state = root;
+		for (int i = 0; i < line.length(); i++) {
+			char c = Character.toLowerCase(line.charAt(i));
+			State target = state.get(c);
+			while (target == null && state != root) {
+				state = state.failure;
+				target = state.get(c);
+			}
+			state = (target != null) ? target : root;
+			for (State output = (state.keyword >= 0) ? state : state.output; output != null;
+					output = output.output) {
+				hit(output.keyword, i + 1 - output.depth, i + 1);
+			}
+		}
+		if (this.matchCount > 0) {
+			apply(line);
+		}
+	}
+
+	/**
+	 * Tells whether every rule has been satisfied.
+	 *
+	 * @return {@code true} if there is nothing to scan for
+	 */
+	synchronized boolean isDone() {
+		return this.active == 0;
+	}
+
+	private void hit(int keyword, int start, int end) {
+		int[] references = this.references[keyword];
+		for (int i = 0; i < references.length; i += 2) {
+			int sequence = references[i];
+			int position = references[i + 1];
+			int owner = this.owners[sequence];
+			if (this.retired[owner] || this.next[sequence] != position || start < this.ends[sequence]) {
+				continue;
+			}
+			if (position < this.sequences[sequence].length - 1) {
+				this.next[sequence]++;
+				this.ends[sequence] = end;
+			}
+			else {
+				int[] matches = this.matches;
+				int index = this.matchCount * 3;
+				if (index == matches.length) {
+					matches = Arrays.copyOf(matches, matches.length * 2);
+					this.matches = matches;
+				}
+				matches[index] = owner;
+				matches[index + 1] = start;
+				matches[index + 2] = end;
+				this.matchCount++;
+			}
+		}
+	}
+
+	private void apply(String line) {
+		int[] matches = this.matches;
+		for (int owner = 0; owner < this.rules.size(); owner++) {
+			for (int i = 0; i < this.matchCount * 3 && !this.retired[owner]; i += 3) {
+				if (matches[i] == owner && this.rules.get(owner).apply(line, matches[i + 1], matches[i + 2])) {
+					this.retired[owner] = true;
+					this.active--;
+				}
+			}
+		}
+	}
+
+	private void add(String keyword, int index) {
+		State state = this.root;
+		for (int i = 0; i < keyword.length(); i++) {
+			char c = keyword.charAt(i);
+			State child = state.get(c);
+			if (child == null) {
+				child = state.put(c);
+			}
+			state = child;
+		}
+		state.keyword = index;
+	}
+
+	private void link() {
+		State root = this.root;
+		Deque<State> queue = new ArrayDeque<>();
+		for (int i = 0; i < root.size; i++) {
+			State child = root.children[i];
+			child.failure = root;
+			queue.add(child);
+		}
+		while (!queue.isEmpty()) {
+			State state = queue.poll();
+			for (int i = 0; i < state.size; i++) {
+				char c = state.chars[i];
+				State child = state.children[i];
+				State failure = state.failure;
+				State target = failure.get(c);
+				while (target == null && failure != root) {
+					failure = failure.failure;
+					target = failure.get(c);
+				}
+				child.failure = (target != null) ? target : root;
+				child.output = (child.failure.keyword >= 0) ? child.failure : child.failure.output;
+				queue.add(child);
+			}
+		}
+	}
+
+	/**
+	 * A rule of the {@link LogScanner}.
+	 */
+	interface Rule {
+
+		/**
+		 * Returns the keyword sequences of this rule. A sequence occurs within a line if its keywords occur in the
+		 * given order without overlapping.
+		 *
+		 * @return the keyword sequences
+		 */
+		String[][] getKeywords();
+
+		/**
+		 * Applies this rule to a line that contains one of its keyword sequences.
+		 *
+		 * @param line the line
+		 * @param start the start index of the last keyword of the sequence
+		 * @param end the end index (exclusive) of the last keyword of the sequence
+		 * @return {@code true} if this rule has been satisfied and should be retired
+		 */
+		boolean apply(String line, int start, int end);
+
+	}
+
+	/**
+	 * A state of the automaton. Children are kept in small arrays, which are searched linearly.
+	 */
+	private static final class State {
+
+		private char[] chars = new char[0];
+
+		private State[] children = new State[0];
+
+		private int size;
+
+		private int depth;
+
+		private int keyword = -1;
+
+		@Nullable
+		private State failure;
+
+		@Nullable
+		private State output;
+
+		@Nullable
+		State get(char c) {
+			char[] chars = this.chars;
+			for (int i = 0; i < this.size; i++) {
+				if (chars[i] == c) {
+					return this.children[i];
+				}
+			}
+			return null;
+		}
+
+		State put(char c) {
+			if (this.size == this.chars.length) {
+				int capacity = Math.max(2, this.size * 2);
+				this.chars = Arrays.copyOf(this.chars, capacity);
+				this.children = Arrays.copyOf(this.children, capacity);
+			}
+			State child = new State();
+			child.depth = this.depth + 1;
+			this.chars[this.size] = c;
+			this.children[this.size] = child;
+			this.size++;
+			return child;
+		}
+
+	}
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.Version;
+
+/**
+ * Checks whether the node serves CQL on the native transport port. Sends an {@code OPTIONS} request, expects
+ * {@code SUPPORTED}, then sends {@code STARTUP} and expects {@code READY} (or {@code AUTHENTICATE}). The protocol
+ * version is negotiated from the highest version supported by the Cassandra version downwards.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class NativeProtocolProbe {
+
+	private static final Logger log = LoggerFactory.getLogger(NativeProtocolProbe.class);
+
+	private static final int ERROR = 0x00;
+
+	private static final int STARTUP = 0x01;
+
+	private static final int READY = 0x02;
+
+	private static final int AUTHENTICATE = 0x03;
+
+	private static final int OPTIONS = 0x05;
+
+	private static final int SUPPORTED = 0x06;
+
+	private static final int PROTOCOL_ERROR = 0x000A;
+
+	private static final int MAX_BODY_LENGTH = 1024 * 1024;
+
+	private final InetSocketAddress address;
+
+	private final int maxProtocolVersion;
+
+	/**
+	 * Creates a {@link NativeProtocolProbe}.
+	 *
+	 * @param address the address of the native transport
+	 * @param version the Cassandra version
+	 */
+	NativeProtocolProbe(InetSocketAddress address, Version version) {
+		this.address = address;
+		this.maxProtocolVersion = getMaxProtocolVersion(version);
+	}
+
+	/**
+	 * Returns the address of the native transport.
+	 *
+	 * @return the address
+	 */
+	InetSocketAddress getAddress() {
+		return this.address;
+	}
+
+	/**
+	 * Performs the handshake.
+	 *
+	 * @param timeout the maximum time to wait in nanoseconds
+	 * @return the negotiated protocol version, or {@code -1} if the node does not serve CQL yet
+	 */
+	int probe(long timeout) {
+		long deadline = System.nanoTime() + timeout;
+		for (int version = this.maxProtocolVersion; version >= 1; version--) {
+			try {
+				if (handshake(version, deadline)) {
+					if (log.isDebugEnabled()) {
+						log.debug("Native transport '{}' serves CQL (protocol version {})", this.address, version);
+					}
+					return version;
+				}
+				return -1;
+			}
+			catch (ProtocolVersionException | EOFException ex) {
+				if (log.isDebugEnabled()) {
+					log.debug("Native transport '{}' does not support protocol version {}", this.address, version);
+				}
+			}
+			catch (IOException ex) {
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	private boolean handshake(int version, long deadline) throws IOException {
+		try (SocketChannel channel = SocketChannel.open(); Selector selector = Selector.open()) {
+			channel.configureBlocking(false);
+			SelectionKey key = channel.register(selector, SelectionKey.OP_CONNECT);
+			if (!channel.connect(this.address)) {
+				await(key, deadline);
+				channel.finishConnect();
+			}
+			write(key, encode(version, OPTIONS, new byte[0]), deadline);
+			if (read(key, version, deadline) != SUPPORTED) {
+				return false;
+			}
+			write(key, encode(version, STARTUP, encodeStringMap("CQL_VERSION", "3.0.0")), deadline);
+			int opcode = read(key, version, deadline);
+			return opcode == READY || opcode == AUTHENTICATE;
+		}
+	}
+
+	private static ByteBuffer encode(int version, int opcode, byte[] body) {
+		ByteBuffer buffer = ByteBuffer.allocate(getHeaderLength(version) + body.length);
+		buffer.put((byte) version);
+		buffer.put((byte) 0);
+		if (version >= 3) {
+			buffer.putShort((short) 0);
+		}
+		else {
+			buffer.put((byte) 0);
+		}
+		buffer.put((byte) opcode);
+		buffer.putInt(body.length);
+		buffer.put(body);
+		buffer.flip();
+		return buffer;
+	}
+
+	private static byte[] encodeStringMap(String name, String value) {
+		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+		byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.allocate(2 + 2 + nameBytes.length + 2 + valueBytes.length);
+		buffer.putShort((short) 1);
+		buffer.putShort((short) nameBytes.length);
+		buffer.put(nameBytes);
+		buffer.putShort((short) valueBytes.length);
+		buffer.put(valueBytes);
+		return buffer.array();
+	}
+
+	private static int read(SelectionKey key, int version, long deadline) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(getHeaderLength(version));
+		read(key, header, deadline);
+		header.flip();
+		int responseVersion = header.get() & 0xFF;
+		header.get();
+		if (version >= 3) {
+			header.getShort();
+		}
+		else {
+			header.get();
+		}
+		int opcode = header.get() & 0xFF;
+		int length = header.getInt();
+		if (responseVersion != (0x80 | version) || length < 0 || length > MAX_BODY_LENGTH) {
+			throw new ProtocolVersionException();
+		}
+		ByteBuffer body = ByteBuffer.allocate(length);
+		read(key, body, deadline);
+		body.flip();
+		if (opcode == ERROR) {
+			int code = (body.remaining() >= 4) ? body.getInt() : -1;
+			if (code == PROTOCOL_ERROR) {
+				throw new ProtocolVersionException();
+			}
+		}
+		return opcode;
+	}
+
+	private static void read(SelectionKey key, ByteBuffer buffer, long deadline) throws IOException {
+		SocketChannel channel = (SocketChannel) key.channel();
+		while (buffer.hasRemaining()) {
+			int count = channel.read(buffer);
+			if (count == -1) {
+				throw new EOFException();
+			}
+			if (count == 0) {
+				key.interestOps(SelectionKey.OP_READ);
+				await(key, deadline);
+			}
+		}
+	}
+
+	private static void write(SelectionKey key, ByteBuffer buffer, long deadline) throws IOException {
+		SocketChannel channel = (SocketChannel) key.channel();
+		while (buffer.hasRemaining()) {
+			if (channel.write(buffer) == 0) {
+				key.interestOps(SelectionKey.OP_WRITE);
+				await(key, deadline);
+			}
+		}
+	}
+
+	private static void await(SelectionKey key, long deadline) throws IOException {
+		Selector selector = key.selector();
+		selector.selectedKeys().clear();
+		long rem = deadline - System.nanoTime();
+		if (rem <= 0 || selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(rem))) == 0) {
+			throw new SocketTimeoutException("Native protocol handshake has been timed out");
+		}
+	}
+
+	private static int getHeaderLength(int version) {
+		return (version >= 3) ? 9 : 8;
+	}
+
+	private static int getMaxProtocolVersion(Version version) {
+		int major = version.getMajor();
+		int minor = version.getMinor();
+		if (major > 2 || (major == 2 && minor >= 2)) {
+			return 4;
+		}
+		if (major == 2) {
+			return (minor == 1) ? 3 : 2;
+		}
+		return 1;
+	}
+
+	/**
+	 * The node does not support the requested protocol version.
+	 */
+	private static final class ProtocolVersionException extends IOException {
+
+	}
+
+}
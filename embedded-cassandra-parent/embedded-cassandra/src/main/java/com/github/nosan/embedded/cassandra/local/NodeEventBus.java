@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.NodeEvent;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * {@link Consumer} that parses lines of the node output into {@link NodeEvent events} and publishes them to the
+ * subscribers. Lines are parsed only while there is at least one subscription.
+ * <p>
+ * Slow queries are logged by {@code MonitoringTask} as a header followed by one line per query, each of these lines
+ * is published as a separate {@link NodeEvent.Kind#SLOW_QUERY} event with the attributes of the header.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class NodeEventBus implements Consumer<String> {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeEventBus.class);
+
+	private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss,SSS");
+
+	private static final int TIMESTAMP_LENGTH = 23;
+
+	private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+	@Nullable
+	private NodeEvent slowQueries;
+
+	@Override
+	public void accept(String line) {
+		List<Subscriber> subscribers = this.subscribers;
+		if (subscribers.isEmpty()) {
+			this.slowQueries = null;
+			return;
+		}
+		NodeEvent event = parse(line);
+		if (event != null) {
+			this.slowQueries = isSlowQueries(event) ? event : null;
+		}
+		else {
+			NodeEvent slowQueries = this.slowQueries;
+			if (slowQueries != null && line.startsWith("<")) {
+				event = new NodeEvent(NodeEvent.Kind.SLOW_QUERY, slowQueries.getLevel(), slowQueries.getThread(),
+						slowQueries.getTimestamp(), slowQueries.getLogger(), line);
+			}
+		}
+		if (event != null) {
+			for (Subscriber subscriber : subscribers) {
+				subscriber.accept(event);
+			}
+		}
+	}
+
+	/**
+	 * Subscribes to the events.
+	 *
+	 * @param filter the filter of the events
+	 * @param consumer the subscriber
+	 * @return the subscription
+	 */
+	NodeEvent.Subscription subscribe(Predicate<? super NodeEvent> filter, Consumer<? super NodeEvent> consumer) {
+		Subscriber subscriber = new Subscriber(Objects.requireNonNull(filter, "Filter must not be null"),
+				Objects.requireNonNull(consumer, "Subscriber must not be null"));
+		this.subscribers.add(subscriber);
+		return () -> this.subscribers.remove(subscriber);
+	}
+
+	/**
+	 * Parses a line of the standard {@code Cassandra} log layout ({@code %-5level [%thread] %date{ISO8601} %F:%L -
+	 * %msg}).
+	 *
+	 * @param line the line
+	 * @return the event, or {@code null} if the line does not match the layout
+	 */
+	@Nullable
+	static NodeEvent parse(String line) {
+		int levelEnd = line.indexOf(' ');
+		String level = (levelEnd > 0) ? line.substring(0, levelEnd) : "";
+		if (!isLevel(level)) {
+			return null;
+		}
+		int threadStart = levelEnd;
+		while (threadStart < line.length() && line.charAt(threadStart) == ' ') {
+			threadStart++;
+		}
+		if (threadStart >= line.length() || line.charAt(threadStart) != '[') {
+			return null;
+		}
+		int threadEnd = line.indexOf("] ", threadStart);
+		if (threadEnd == -1) {
+			return null;
+		}
+		int timestampStart = threadEnd + 2;
+		int timestampEnd = timestampStart + TIMESTAMP_LENGTH;
+		int sourceEnd = line.indexOf(" - ", timestampEnd);
+		if (sourceEnd == -1 || line.charAt(timestampEnd) != ' ') {
+			return null;
+		}
+		String source = line.substring(timestampEnd + 1, sourceEnd);
+		int loggerEnd = source.indexOf('.');
+		if (loggerEnd == -1) {
+			loggerEnd = source.indexOf(':');
+		}
+		String logger = (loggerEnd != -1) ? source.substring(0, loggerEnd) : source;
+		String message = line.substring(sourceEnd + 3);
+		return new NodeEvent(getKind(logger, message), level,
+				line.substring(threadStart + 1, threadEnd), getTimestamp(line.substring(timestampStart, timestampEnd)),
+				logger, message);
+	}
+
+	private static boolean isSlowQueries(NodeEvent event) {
+		return event.getLogger().equals("MonitoringTask") && event.getMessage().contains("operations were slow");
+	}
+
+	private static boolean isLevel(String level) {
+		switch (level) {
+			case "TRACE":
+			case "DEBUG":
+			case "INFO":
+			case "WARN":
+			case "ERROR":
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	@Nullable
+	private static LocalDateTime getTimestamp(String timestamp) {
+		try {
+			return LocalDateTime.parse(timestamp, TIMESTAMP);
+		}
+		catch (DateTimeParseException ex) {
+			return null;
+		}
+	}
+
+	private static NodeEvent.Kind getKind(String logger, String message) {
+		switch (logger) {
+			case "GCInspector":
+				return NodeEvent.Kind.GC_PAUSE;
+			case "CompactionTask":
+				return NodeEvent.Kind.COMPACTION;
+			case "Memtable":
+				return NodeEvent.Kind.FLUSH;
+			case "ColumnFamilyStore":
+				return message.startsWith("Enqueuing flush") ? NodeEvent.Kind.FLUSH : NodeEvent.Kind.OTHER;
+			case "MigrationManager":
+				return NodeEvent.Kind.SCHEMA_CHANGE;
+			default:
+				return NodeEvent.Kind.OTHER;
+		}
+	}
+
+	private static final class Subscriber implements Consumer<NodeEvent> {
+
+		private final Predicate<? super NodeEvent> filter;
+
+		private final Consumer<? super NodeEvent> consumer;
+
+		Subscriber(Predicate<? super NodeEvent> filter, Consumer<? super NodeEvent> consumer) {
+			this.filter = filter;
+			this.consumer = consumer;
+		}
+
+		@Override
+		public void accept(NodeEvent event) {
+			try {
+				if (this.filter.test(event)) {
+					this.consumer.accept(event);
+				}
+			}
+			catch (Throwable ex) {
+				log.error(String.format("Event '%s' is not handled by subscriber '%s'", event, this.consumer), ex);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+/**
+ * Settings of the output pipeline of a node.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class NodeOutput {
+
+	/**
+	 * The capacity of the buffer between the output reader and the logger.
+	 */
+	static final int BUFFER_SIZE = 4096;
+
+	/**
+	 * The maximum size of an output file.
+	 */
+	static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+
+	/**
+	 * The maximum number of output files.
+	 */
+	static final int MAX_FILES = 5;
+
+	private final OutputPolicy policy;
+
+	private final OutputOverflow overflow;
+
+	private final int tailLines;
+
+	private final NodeEventBus events;
+
+	/**
+	 * Creates a {@link NodeOutput}.
+	 *
+	 * @param policy the way how the output is handled
+	 * @param overflow the way how lines that do not fit into the buffer are handled
+	 * @param tailLines the number of the last lines to report if the node has not been started
+	 * @param events the bus to publish the events of the node to
+	 */
+	NodeOutput(OutputPolicy policy, OutputOverflow overflow, int tailLines, NodeEventBus events) {
+		this.policy = policy;
+		this.overflow = overflow;
+		this.tailLines = tailLines;
+		this.events = events;
+	}
+
+	/**
+	 * Returns the way how the output is handled.
+	 *
+	 * @return the output policy
+	 */
+	OutputPolicy getPolicy() {
+		return this.policy;
+	}
+
+	/**
+	 * Returns the way how lines that do not fit into the buffer are handled.
+	 *
+	 * @return the overflow policy
+	 */
+	OutputOverflow getOverflow() {
+		return this.overflow;
+	}
+
+	/**
+	 * Returns the number of the last lines to report if the node has not been started.
+	 *
+	 * @return the number of lines
+	 */
+	int getTailLines() {
+		return this.tailLines;
+	}
+
+	/**
+	 * Returns the bus to publish the events of the node to.
+	 *
+	 * @return the event bus
+	 */
+	NodeEventBus getEvents() {
+		return this.events;
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package com.github.nosan.embedded.cassandra.local;
 
+import java.net.InetAddress;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -28,7 +29,8 @@ import com.github.nosan.embedded.cassandra.util.StringUtils;
 import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
 
 /**
- * Basic implementation of the {@link Settings}.
+ * Basic implementation of the {@link Settings}. The properties are immutable, so the {@link #getRealAddress() real
+ * addresses} are resolved only once.
  *
  * @author Dmytro Nosan
  * @since 1.2.10
@@ -39,6 +41,12 @@ class NodeSettings implements Settings {
 
 	private final Map<Object, Object> properties;
 
+	@Nullable
+	private volatile InetAddress resolvedListenAddress;
+
+	@Nullable
+	private volatile InetAddress resolvedAddress;
+
 	/**
 	 * Creates a new {@link NodeSettings}.
 	 *
@@ -157,6 +165,26 @@ class NodeSettings implements Settings {
 				.orElseGet(Settings.super::isRpcInterfacePreferIpv6);
 	}
 
+	@Override
+	public InetAddress getRealAddress() {
+		InetAddress address = this.resolvedAddress;
+		if (address == null) {
+			address = Settings.super.getRealAddress();
+			this.resolvedAddress = address;
+		}
+		return address;
+	}
+
+	@Override
+	public InetAddress getRealListenAddress() {
+		InetAddress address = this.resolvedListenAddress;
+		if (address == null) {
+			address = Settings.super.getRealListenAddress();
+			this.resolvedListenAddress = address;
+		}
+		return address;
+	}
+
 	@Override
 	public String toString() {
 		Map<Object, Object> properties = new LinkedHashMap<>(getProperties());
@@ -184,6 +212,14 @@ class NodeSettings implements Settings {
 				.collect(Collectors.joining(",", "{", "}"));
 	}
 
+	/**
+	 * Discards the resolved {@link #getRealAddress() real addresses}, so they are resolved again on the next call.
+	 */
+	void resetRealAddresses() {
+		this.resolvedAddress = null;
+		this.resolvedListenAddress = null;
+	}
+
 	private static Optional<Integer> getInteger(String name, Map<?, ?> source) {
 		return getString(name, source).filter(StringUtils::hasText).map(Integer::parseInt);
 	}
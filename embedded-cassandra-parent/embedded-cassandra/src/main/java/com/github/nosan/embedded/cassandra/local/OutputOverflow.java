@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import org.apiguardian.api.API;
+
+/**
+ * Enumeration of the ways how the output of a local {@code Cassandra} node is handled when it is logged or written to
+ * a file slower than the node prints it. The output is logged and written asynchronously through a bounded buffer;
+ * readiness detection is never affected.
+ *
+ * @author Dmytro Nosan
+ * @see LocalCassandraFactory#setOutputOverflow(OutputOverflow)
+ * @since 1.4.3
+ */
+@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+public enum OutputOverflow {
+
+	/**
+	 * Waits until there is free space in the buffer. The node is blocked on writing its output meanwhile.
+	 */
+	BLOCK,
+
+	/**
+	 * Drops lines that do not fit into the buffer and logs the number of dropped lines. The node is never blocked.
+	 */
+	DROP
+
+}
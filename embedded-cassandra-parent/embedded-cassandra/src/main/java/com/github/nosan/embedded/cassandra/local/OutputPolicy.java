@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import org.apiguardian.api.API;
+
+/**
+ * Enumeration of the ways how the output of a local {@code Cassandra} node is handled. Readiness detection and the
+ * output reported on a startup failure do not depend on the policy.
+ *
+ * @author Dmytro Nosan
+ * @see LocalCassandraFactory#setOutputPolicy(OutputPolicy)
+ * @since 1.4.3
+ */
+@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+public enum OutputPolicy {
+
+	/**
+	 * Forwards the whole output to the {@code com.github.nosan.embedded.cassandra.Cassandra} logger.
+	 */
+	FORWARD,
+
+	/**
+	 * Forwards the output to the {@code com.github.nosan.embedded.cassandra.Cassandra} logger until the node has been
+	 * started.
+	 */
+	FORWARD_UNTIL_READY,
+
+	/**
+	 * Writes the output to {@code logs/output.log} within the working directory. The file is rotated when it reaches
+	 * 10 MB, and at most 5 files are kept.
+	 */
+	FILE,
+
+	/**
+	 * Discards the output.
+	 */
+	DISCARD
+
+}
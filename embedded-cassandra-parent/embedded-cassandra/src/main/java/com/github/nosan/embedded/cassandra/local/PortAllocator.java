@@ -0,0 +1,266 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.util.FileLock;
+import com.github.nosan.embedded.cassandra.util.FileUtils;
+import com.github.nosan.embedded.cassandra.util.StringUtils;
+import com.github.nosan.embedded.cassandra.util.SystemProperty;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Cross-process allocator of {@code TCP} ports. Leases are kept in a file (one {@code <pid> <ports> <owner>} line per
+ * lease) which is modified under an exclusive {@link FileLock}, so a port stays reserved until the node that uses it
+ * is stopped, even if it is not bound yet. Leases of dead processes are reclaimed. Ports are handed out from the
+ * ranges of the {@code embedded.cassandra.port-ranges} system property (e.g. {@code 20000-29999,40000-49999}).
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class PortAllocator {
+
+	private static final Logger log = LoggerFactory.getLogger(PortAllocator.class);
+
+	private static final String DEFAULT_RANGES = "1024-65535";
+
+	private final Path leaseFile;
+
+	private final List<int[]> ranges;
+
+	private final String owner;
+
+	/**
+	 * Creates a {@link PortAllocator}.
+	 *
+	 * @param leaseFile the file to keep leases
+	 * @param ranges the port ranges (e.g. {@code 20000-29999,40000-49999})
+	 * @param owner the owner of the leases
+	 */
+	PortAllocator(Path leaseFile, String ranges, String owner) {
+		this.leaseFile = leaseFile;
+		this.ranges = parseRanges(ranges);
+		this.owner = owner.replaceAll("\\s+", "_");
+	}
+
+	/**
+	 * Creates a {@link PortAllocator} for a node with the given working directory.
+	 *
+	 * @param workingDirectory the working directory of the node
+	 * @return the port allocator
+	 */
+	static PortAllocator create(Path workingDirectory) {
+		String ranges = new SystemProperty("embedded.cassandra.port-ranges").get();
+		return new PortAllocator(FileUtils.getTmpDirectory().resolve("embedded-cassandra/port.leases"),
+				StringUtils.hasText(ranges) ? ranges : DEFAULT_RANGES, workingDirectory.toAbsolutePath().toString());
+	}
+
+	/**
+	 * Allocates a free port for each of the given addresses in one batch.
+	 *
+	 * @param addresses the addresses to bind the ports to ({@code null} means any address)
+	 * @return the ports in the order of the addresses
+	 * @throws IOException in the case of I/O errors
+	 * @throws IllegalStateException if there are not enough free ports
+	 */
+	List<Integer> allocate(List<? extends InetAddress> addresses) throws IOException {
+		if (addresses.isEmpty()) {
+			return Collections.emptyList();
+		}
+		try (FileLock fileLock = lock()) {
+			List<Lease> leases = read();
+			Set<Integer> busy = new HashSet<>();
+			leases.forEach(lease -> busy.addAll(lease.ports));
+			int size = this.ranges.stream().mapToInt(range -> range[1] - range[0] + 1).sum();
+			int offset = ThreadLocalRandom.current().nextInt(size);
+			List<Integer> ports = new ArrayList<>();
+			int index = 0;
+			for (InetAddress address : addresses) {
+				int port = -1;
+				while (port == -1 && index < size) {
+					int candidate = getPort((offset + index) % size);
+					index++;
+					if (!busy.contains(candidate) && isAvailable(address, candidate)) {
+						port = candidate;
+					}
+				}
+				if (port == -1) {
+					throw new IllegalStateException(String.format(
+							"Could not find '%d' available ports in the ranges %s", addresses.size(),
+							toString(this.ranges)));
+				}
+				ports.add(port);
+			}
+			leases.add(new Lease(ProcessUtils.getCurrentPid(), ports, this.owner));
+			write(leases);
+			if (log.isDebugEnabled()) {
+				log.debug("Ports '{}' have been leased by '{}'", ports, this.owner);
+			}
+			return ports;
+		}
+	}
+
+	/**
+	 * Releases all leases of the owner.
+	 *
+	 * @throws IOException in the case of I/O errors
+	 */
+	void release() throws IOException {
+		if (!Files.exists(this.leaseFile)) {
+			return;
+		}
+		long pid = ProcessUtils.getCurrentPid();
+		try (FileLock fileLock = lock()) {
+			List<Lease> leases = read();
+			if (leases.removeIf(lease -> lease.pid == pid && lease.owner.equals(this.owner))) {
+				write(leases);
+			}
+		}
+	}
+
+	private int getPort(int index) {
+		int rem = index;
+		for (int[] range : this.ranges) {
+			int size = range[1] - range[0] + 1;
+			if (rem < size) {
+				return range[0] + rem;
+			}
+			rem -= size;
+		}
+		throw new IndexOutOfBoundsException(Integer.toString(index));
+	}
+
+	private FileLock lock() throws IOException {
+		Path lockFile = this.leaseFile.resolveSibling(this.leaseFile.getFileName() + ".lock");
+		Files.createDirectories(lockFile.toAbsolutePath().getParent());
+		FileLock fileLock = new FileLock(lockFile);
+		fileLock.lock();
+		return fileLock;
+	}
+
+	private List<Lease> read() throws IOException {
+		List<Lease> leases = new ArrayList<>();
+		if (Files.exists(this.leaseFile)) {
+			for (String line : Files.readAllLines(this.leaseFile, StandardCharsets.UTF_8)) {
+				Lease lease = Lease.parse(line);
+				if (lease != null && ProcessUtils.isAlive(lease.pid)) {
+					leases.add(lease);
+				}
+			}
+		}
+		return leases;
+	}
+
+	private void write(List<Lease> leases) throws IOException {
+		Files.write(this.leaseFile, leases.stream().map(Lease::toString).collect(Collectors.toList()),
+				StandardCharsets.UTF_8);
+	}
+
+	private static boolean isAvailable(@Nullable InetAddress address, int port) {
+		try (ServerSocket ss = new ServerSocket()) {
+			ss.bind(new InetSocketAddress(address, port), 1);
+			return true;
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	private static List<int[]> parseRanges(String ranges) {
+		List<int[]> result = new ArrayList<>();
+		for (String range : ranges.split(",")) {
+			String[] bounds = range.trim().split("-");
+			try {
+				int min = Integer.parseInt(bounds[0].trim());
+				int max = (bounds.length > 1) ? Integer.parseInt(bounds[1].trim()) : min;
+				if (bounds.length > 2 || min < 1 || max > 65535 || min > max) {
+					throw new IllegalArgumentException(String.format("Port range '%s' is invalid", range));
+				}
+				result.add(new int[]{min, max});
+			}
+			catch (NumberFormatException ex) {
+				throw new IllegalArgumentException(String.format("Port range '%s' is invalid", range), ex);
+			}
+		}
+		return result;
+	}
+
+	private static String toString(List<int[]> ranges) {
+		return ranges.stream().map(range -> range[0] + "-" + range[1]).collect(Collectors.joining(",", "[", "]"));
+	}
+
+	/**
+	 * Leased ports.
+	 */
+	private static final class Lease {
+
+		private final long pid;
+
+		private final List<Integer> ports;
+
+		private final String owner;
+
+		Lease(long pid, List<Integer> ports, String owner) {
+			this.pid = pid;
+			this.ports = Collections.unmodifiableList(new ArrayList<>(ports));
+			this.owner = owner;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d %s %s", this.pid,
+					this.ports.stream().map(String::valueOf).collect(Collectors.joining(",")), this.owner);
+		}
+
+		@Nullable
+		static Lease parse(String line) {
+			String[] parts = line.trim().split("\\s+", 3);
+			if (parts.length != 3) {
+				return null;
+			}
+			try {
+				List<Integer> ports = new ArrayList<>();
+				for (String port : parts[1].split(",")) {
+					ports.add(Integer.parseInt(port));
+				}
+				return new Lease(Long.parseLong(parts[0]), ports, parts[2]);
+			}
+			catch (NumberFormatException ex) {
+				return null;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.NodeMetrics;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Periodically samples the resource usage of a process from {@code /proc/<pid>/stat}, {@code status} and {@code io}.
+ * Only the most recent samples are kept. Processes without a {@code /proc} entry (e.g. on macOS or Windows) produce no
+ * samples.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class ProcessSampler {
+
+	private static final Logger log = LoggerFactory.getLogger(ProcessSampler.class);
+
+	/**
+	 * {@code USER_HZ}, the unit of {@code utime} and {@code stime}. It is {@code 100} on all mainstream platforms.
+	 */
+	private static final long CLOCK_TICKS = 100;
+
+	private final Path processDirectory;
+
+	private final Duration interval;
+
+	private final int capacity;
+
+	private final Deque<NodeMetrics.Sample> samples = new ArrayDeque<>();
+
+	@Nullable
+	private ScheduledExecutorService executor;
+
+	/**
+	 * Creates a {@link ProcessSampler}.
+	 *
+	 * @param processDirectory the {@code /proc/<pid>} directory
+	 * @param interval the sampling interval
+	 * @param capacity the maximum number of samples to keep
+	 */
+	ProcessSampler(Path processDirectory, Duration interval, int capacity) {
+		this.processDirectory = processDirectory;
+		this.interval = interval;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Starts sampling in a daemon thread.
+	 */
+	synchronized void start() {
+		if (this.executor == null) {
+			ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "cassandra-sampler");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long interval = Math.max(1, this.interval.toMillis());
+			executor.scheduleAtFixedRate(this::sample, 0, interval, TimeUnit.MILLISECONDS);
+			this.executor = executor;
+		}
+	}
+
+	/**
+	 * Stops sampling and takes the final sample.
+	 *
+	 * @return the collected metrics
+	 */
+	NodeMetrics stop() {
+		ScheduledExecutorService executor;
+		synchronized (this) {
+			executor = this.executor;
+			this.executor = null;
+		}
+		if (executor != null) {
+			executor.shutdownNow();
+			try {
+				executor.awaitTermination(1, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		sample();
+		return getMetrics();
+	}
+
+	/**
+	 * Returns the metrics collected so far.
+	 *
+	 * @return the metrics
+	 */
+	NodeMetrics getMetrics() {
+		synchronized (this.samples) {
+			return new NodeMetrics(new ArrayList<>(this.samples));
+		}
+	}
+
+	/**
+	 * Takes a sample and adds it to the series.
+	 */
+	void sample() {
+		NodeMetrics.Sample sample = read();
+		if (sample != null) {
+			synchronized (this.samples) {
+				if (this.samples.size() == this.capacity) {
+					this.samples.removeFirst();
+				}
+				this.samples.addLast(sample);
+			}
+		}
+	}
+
+	@Nullable
+	private NodeMetrics.Sample read() {
+		Path directory = this.processDirectory;
+		try {
+			String stat = read(directory.resolve("stat"));
+			if (stat == null) {
+				return null;
+			}
+			String[] fields = stat.substring(stat.lastIndexOf(')') + 2).trim().split("\\s+");
+			long ticks = Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+			Map<String, String> status = parse(read(directory.resolve("status")));
+			Map<String, String> io = parse(read(directory.resolve("io")));
+			return new NodeMetrics.Sample(Instant.now(), Duration.ofMillis(ticks * 1000 / CLOCK_TICKS),
+					getLong("VmRSS", status) * 1024, (int) getLong("Threads", status), getLong("read_bytes", io),
+					getLong("write_bytes", io), getLong("voluntary_ctxt_switches", status),
+					getLong("nonvoluntary_ctxt_switches", status));
+		}
+		catch (Exception ex) {
+			if (log.isDebugEnabled()) {
+				log.error(String.format("Process '%s' has not been sampled", directory), ex);
+			}
+			return null;
+		}
+	}
+
+	@Nullable
+	private static String read(Path file) {
+		try {
+			return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+		}
+		catch (IOException ex) {
+			// the process has gone or the file is not readable (e.g. 'io' of another user's process)
+			return null;
+		}
+	}
+
+	private static Map<String, String> parse(@Nullable String content) {
+		if (content == null) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> values = new HashMap<>();
+		for (String line : content.split("\n")) {
+			int index = line.indexOf(':');
+			if (index != -1) {
+				values.put(line.substring(0, index).trim(), line.substring(index + 1).trim());
+			}
+		}
+		return values;
+	}
+
+	private static long getLong(String name, Map<String, String> values) {
+		String value = values.get(name);
+		if (value == null) {
+			return 0;
+		}
+		return Long.parseLong(value.split("\\s+")[0]);
+	}
+
+}
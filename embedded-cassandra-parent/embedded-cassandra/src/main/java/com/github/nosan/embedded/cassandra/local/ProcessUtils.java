@@ -16,13 +16,25 @@
 
 package com.github.nosan.embedded.cassandra.local;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import com.github.nosan.embedded.cassandra.util.StringUtils;
+import com.github.nosan.embedded.cassandra.util.SystemProperty;
 import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
 
 /**
@@ -36,6 +48,12 @@ abstract class ProcessUtils {
 	@Nullable
 	private static final Method PID_METHOD;
 
+	@Nullable
+	private static final Method ON_EXIT_METHOD;
+
+	@Nullable
+	private static final Method PROCESS_HANDLE_OF_METHOD;
+
 	static {
 		Method method = null;
 		try {
@@ -45,6 +63,22 @@ abstract class ProcessUtils {
 		catch (Throwable ignore) {
 		}
 		PID_METHOD = method;
+		method = null;
+		try {
+			//java >= 9
+			method = Process.class.getMethod("onExit");
+		}
+		catch (Throwable ignore) {
+		}
+		ON_EXIT_METHOD = method;
+		method = null;
+		try {
+			//java >= 9
+			method = Class.forName("java.lang.ProcessHandle").getMethod("of", long.class);
+		}
+		catch (Throwable ignore) {
+		}
+		PROCESS_HANDLE_OF_METHOD = method;
 	}
 
 	/**
@@ -91,4 +125,167 @@ abstract class ProcessUtils {
 		return -1;
 	}
 
+	/**
+	 * Returns the pid of the current {@code JVM}.
+	 *
+	 * @return the pid (or {@code -1})
+	 * @since 1.4.3
+	 */
+	static long getCurrentPid() {
+		try {
+			String name = ManagementFactory.getRuntimeMXBean().getName();
+			int index = name.indexOf('@');
+			return Long.parseLong((index != -1) ? name.substring(0, index) : name);
+		}
+		catch (Throwable ex) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Tells whether a process with the given pid is alive. Uses {@code ProcessHandle} (Java 9+), {@code /proc} or
+	 * {@code kill -0} (Unix). If it cannot be determined, the process is considered to be alive.
+	 *
+	 * @param pid the pid
+	 * @return {@code false} if the process is known to be dead
+	 * @since 1.4.3
+	 */
+	static boolean isAlive(long pid) {
+		if (pid <= 0) {
+			return false;
+		}
+		Object handle = getProcessHandle(pid);
+		if (handle != null) {
+			return invoke(handle, "isAlive");
+		}
+		if (PROCESS_HANDLE_OF_METHOD != null) {
+			return false;
+		}
+		Path proc = Paths.get("/proc");
+		if (Files.isDirectory(proc.resolve("self"))) {
+			return Files.exists(proc.resolve(Long.toString(pid)));
+		}
+		if (!isWindows()) {
+			return isAliveBySignal(pid);
+		}
+		return true;
+	}
+
+	/**
+	 * Tells whether a process with the given pid is alive by sending it a {@code 0} signal ({@code kill -0}). A
+	 * process which cannot be signalled because of missing permissions is alive.
+	 *
+	 * @param pid the pid
+	 * @return {@code false} if the process is known to be dead
+	 * @since 1.4.3
+	 */
+	static boolean isAliveBySignal(long pid) {
+		try {
+			Process process = new ProcessBuilder("kill", "-0", Long.toString(pid)).redirectErrorStream(true).start();
+			String output;
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+				output = reader.lines().collect(Collectors.joining(System.lineSeparator()));
+			}
+			if (!process.waitFor(5, TimeUnit.SECONDS)) {
+				process.destroyForcibly();
+				return true;
+			}
+			return process.exitValue() == 0 || output.toLowerCase(Locale.ENGLISH).contains("not permitted");
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return true;
+		}
+		catch (Throwable ex) {
+			return true;
+		}
+	}
+
+	/**
+	 * Sends a termination signal to the process with the given pid directly through {@code ProcessHandle} (Java 9+),
+	 * without spawning a {@code kill} subprocess.
+	 *
+	 * @param pid the pid
+	 * @param force whether the process should be killed forcibly
+	 * @return {@code true} if the signal has been sent, {@code false} if {@code ProcessHandle} is not available, the
+	 * process does not exist or a normal termination is not supported
+	 * @since 1.4.3
+	 */
+	static boolean destroy(long pid, boolean force) {
+		Object handle = getProcessHandle(pid);
+		if (handle == null) {
+			return false;
+		}
+		if (!force && !invoke(handle, "supportsNormalTermination")) {
+			return false;
+		}
+		return invoke(handle, force ? "destroyForcibly" : "destroy");
+	}
+
+	/**
+	 * Returns a {@link CompletableFuture} which is completed once the process has exited. Uses
+	 * {@code Process.onExit()} (Java 9+), otherwise waits for the process in a thread created by the given factory.
+	 *
+	 * @param process the process
+	 * @param threadFactory thread factory to create a waiting thread (Java 8)
+	 * @return the exit future
+	 * @since 1.4.3
+	 */
+	static CompletableFuture<?> onExit(Process process, ThreadFactory threadFactory) {
+		if (ON_EXIT_METHOD != null) {
+			try {
+				return (CompletableFuture<?>) ON_EXIT_METHOD.invoke(process);
+			}
+			catch (Throwable ignore) {
+			}
+		}
+		CompletableFuture<Process> future = new CompletableFuture<>();
+		if (!process.isAlive()) {
+			future.complete(process);
+			return future;
+		}
+		threadFactory.newThread(() -> {
+			try {
+				process.waitFor();
+				future.complete(process);
+			}
+			catch (InterruptedException ex) {
+				future.completeExceptionally(ex);
+			}
+		}).start();
+		return future;
+	}
+
+	private static boolean isWindows() {
+		String os = new SystemProperty("os.name").get();
+		if (StringUtils.hasText(os)) {
+			return os.toLowerCase(Locale.ENGLISH).contains("windows");
+		}
+		return File.separatorChar == '\\';
+	}
+
+	@Nullable
+	private static Object getProcessHandle(long pid) {
+		if (PROCESS_HANDLE_OF_METHOD == null || pid <= 0) {
+			return null;
+		}
+		try {
+			Optional<?> handle = (Optional<?>) PROCESS_HANDLE_OF_METHOD.invoke(null, pid);
+			return handle.orElse(null);
+		}
+		catch (Throwable ex) {
+			return null;
+		}
+	}
+
+	private static boolean invoke(Object handle, String name) {
+		try {
+			return (Boolean) PROCESS_HANDLE_OF_METHOD.getDeclaringClass().getMethod(name).invoke(handle);
+		}
+		catch (Throwable ex) {
+			return false;
+		}
+	}
+
 }
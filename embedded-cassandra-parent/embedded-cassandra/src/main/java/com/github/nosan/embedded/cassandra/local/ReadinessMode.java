@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import org.apiguardian.api.API;
+
+/**
+ * Enumeration of the ways how the readiness of a local {@code Cassandra} node is detected. In all modes the enabled
+ * transports have to accept connections as well.
+ *
+ * @author Dmytro Nosan
+ * @see LocalCassandraFactory#setReadinessMode(ReadinessMode)
+ * @since 1.4.3
+ */
+@API(since = "1.4.3", status = API.Status.EXPERIMENTAL)
+public enum ReadinessMode {
+
+	/**
+	 * Waits for the node to log that it is listening for clients. If no such line is logged within 20 seconds (e.g.
+	 * because of a customized {@code logback.xml}), the node is considered to be ready.
+	 */
+	LOG,
+
+	/**
+	 * Polls the {@code StorageService} MBean through the JMX port of the node until it is initialized, its operation
+	 * mode is {@code NORMAL} and the enabled transports are running. Not supported by {@link LaunchMode#IN_PROCESS}
+	 * launch mode.
+	 */
+	JMX
+
+}
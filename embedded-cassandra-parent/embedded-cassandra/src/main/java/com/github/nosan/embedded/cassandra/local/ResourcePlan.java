@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Heap and thread pool sizes of a node that shares the host with {@code n} concurrent nodes. Every node gets an
+ * {@code 1/n} share of the memory and the available cores; the heap is computed from the memory share the
+ * same way {@code cassandra-env.sh} computes it from the whole memory. The memory is the physical memory of the host
+ * limited by the memory limit of the {@code cgroup} (e.g. a container) if there is one.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class ResourcePlan {
+
+	private static final long MB = 1024 * 1024;
+
+	private final int nodes;
+
+	private final long totalMemory;
+
+	private final int cores;
+
+	private final long maxHeapSize;
+
+	private final long heapNewSize;
+
+	private final int coresShare;
+
+	/**
+	 * Creates a {@link ResourcePlan}.
+	 *
+	 * @param nodes the number of nodes which run concurrently on the host
+	 * @param totalMemory the memory of the host (in bytes)
+	 * @param cores the available cores
+	 */
+	ResourcePlan(int nodes, long totalMemory, int cores) {
+		this.nodes = Math.max(nodes, 1);
+		this.totalMemory = totalMemory;
+		this.cores = Math.max(cores, 1);
+		long memoryShare = Math.max(totalMemory / MB / this.nodes, 1);
+		this.coresShare = Math.max(this.cores / this.nodes, 1);
+		this.maxHeapSize = Math.max(256, Math.max(Math.min(memoryShare / 2, 1024), Math.min(memoryShare / 4, 8192)));
+		this.heapNewSize = Math.max(32, Math.min(100L * this.coresShare, this.maxHeapSize / 4));
+	}
+
+	/**
+	 * Creates a {@link ResourcePlan} for the current host.
+	 *
+	 * @param nodes the number of nodes which run concurrently on the host
+	 * @return the plan
+	 */
+	static ResourcePlan create(int nodes) {
+		return new ResourcePlan(nodes, getTotalMemory(), Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Returns the physical memory of the host limited by the {@code cgroup} memory limit.
+	 *
+	 * @return the total memory (in bytes)
+	 */
+	static long getTotalMemory() {
+		long memory = getPhysicalMemory();
+		long limit = getMemoryLimit(Paths.get("/sys/fs/cgroup"));
+		return (limit > 0) ? Math.min(memory, limit) : memory;
+	}
+
+	/**
+	 * Returns the memory limit of the {@code cgroup} ({@code v2} or {@code v1}).
+	 *
+	 * @param cgroup the {@code cgroup} mount point
+	 * @return the limit (in bytes) or {@code -1} if there is no limit
+	 */
+	static long getMemoryLimit(Path cgroup) {
+		long limit = readLimit(cgroup.resolve("memory.max"));
+		return (limit > 0) ? limit : readLimit(cgroup.resolve("memory/memory.limit_in_bytes"));
+	}
+
+	private static long getPhysicalMemory() {
+		try {
+			OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+			Method method = Class.forName("com.sun.management.OperatingSystemMXBean")
+					.getMethod("getTotalPhysicalMemorySize");
+			return ((Number) method.invoke(bean)).longValue();
+		}
+		catch (Throwable ex) {
+			return 2048 * MB;
+		}
+	}
+
+	private static long readLimit(Path file) {
+		if (!Files.isRegularFile(file)) {
+			return -1;
+		}
+		try {
+			String value = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+			long limit = Long.parseLong(value);
+			// cgroup v1 reports an unlimited memory as a huge value rounded to a page size
+			return (limit > 0 && limit < Long.MAX_VALUE / 2) ? limit : -1;
+		}
+		catch (IOException | NumberFormatException ex) {
+			// 'max' means there is no limit
+			return -1;
+		}
+	}
+
+	/**
+	 * Returns the environment variables ({@code MAX_HEAP_SIZE} and {@code HEAP_NEWSIZE}).
+	 *
+	 * @return the environment
+	 */
+	Map<String, String> getEnvironment() {
+		Map<String, String> environment = new LinkedHashMap<>();
+		environment.put("MAX_HEAP_SIZE", this.maxHeapSize + "M");
+		environment.put("HEAP_NEWSIZE", this.heapNewSize + "M");
+		return Collections.unmodifiableMap(environment);
+	}
+
+	/**
+	 * Returns the {@code cassandra.yaml} properties.
+	 *
+	 * @return the properties
+	 */
+	Map<String, Object> getProperties() {
+		int cores = this.coresShare;
+		Map<String, Object> properties = new LinkedHashMap<>();
+		properties.put("concurrent_reads", Math.max(2, Math.min(32, 4 * cores)));
+		properties.put("concurrent_writes", Math.max(2, Math.min(32, 8 * cores)));
+		properties.put("concurrent_compactors", Math.max(1, Math.min(4, cores)));
+		properties.put("native_transport_max_threads", Math.max(8, Math.min(128, 16 * cores)));
+		return Collections.unmodifiableMap(properties);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d node(s) on %d MB / %d core(s) -> %d core(s) per node, %s, %s", this.nodes,
+				this.totalMemory / MB, this.cores, this.coresShare, getEnvironment(), getProperties());
+	}
+
+}
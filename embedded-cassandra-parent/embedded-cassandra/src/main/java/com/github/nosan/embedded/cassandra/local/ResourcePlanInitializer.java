@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.yaml.snakeyaml.Yaml;
+
+import com.github.nosan.embedded.cassandra.Version;
+
+/**
+ * {@link Initializer} to apply the thread pool sizes of a {@link ResourcePlan} to a {@code cassandra.yaml}. Sizes which
+ * are set by a user-provided {@code cassandra.yaml} are kept. Every change is logged.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class ResourcePlanInitializer extends AbstractFileInitializer {
+
+	private final ResourcePlan resourcePlan;
+
+	private final boolean keepConfigured;
+
+	/**
+	 * Creates a {@link ResourcePlanInitializer}.
+	 *
+	 * @param resourcePlan the plan to apply
+	 * @param keepConfigured whether the sizes which are already set should be kept (e.g. {@code cassandra.yaml} is
+	 * provided by a user)
+	 */
+	ResourcePlanInitializer(ResourcePlan resourcePlan, boolean keepConfigured) {
+		super((workDir, version) -> workDir.resolve("conf/cassandra.yaml"));
+		this.resourcePlan = resourcePlan;
+		this.keepConfigured = keepConfigured;
+	}
+
+	@Override
+	protected void initialize(Path file, Path workingDirectory, Version version) throws IOException {
+		if (Files.exists(file)) {
+			Yaml yaml = new Yaml();
+			Map<Object, Object> originalSource = new LinkedHashMap<>(getProperties(yaml, file));
+			Map<Object, Object> newSource = new LinkedHashMap<>(originalSource);
+			List<String> changes = new ArrayList<>();
+			for (Map.Entry<String, Object> entry : this.resourcePlan.getProperties().entrySet()) {
+				if (!this.keepConfigured || newSource.get(entry.getKey()) == null) {
+					setProperty(entry.getKey(), entry.getValue(), newSource, changes);
+				}
+			}
+			if (!newSource.equals(originalSource)) {
+				try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+					yaml.dump(newSource, writer);
+				}
+			}
+			if (!changes.isEmpty()) {
+				this.log.info("Resource plan changes '{}': {}", file, String.join(", ", changes));
+			}
+		}
+	}
+
+	private static void setProperty(String name, Object value, Map<Object, Object> source, List<String> changes) {
+		Object oldValue = source.get(name);
+		if (!Objects.equals(String.valueOf(oldValue), String.valueOf(value))) {
+			source.put(name, value);
+			changes.add(String.format("%s: %s -> %s", name, oldValue, value));
+		}
+	}
+
+	private Map<?, ?> getProperties(Yaml yaml, Path file) {
+		try (InputStream is = Files.newInputStream(file)) {
+			Map<?, ?> values = yaml.loadAs(is, Map.class);
+			return (values != null) ? values : Collections.emptyMap();
+		}
+		catch (IOException ex) {
+			if (this.log.isDebugEnabled()) {
+				this.log.error(String.format("Could not read properties from '%s'", file), ex);
+			}
+			return Collections.emptyMap();
+		}
+	}
+
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * {@link Consumer} that writes lines to a file through a buffered {@link FileChannel}. The buffer is flushed when it
+ * is full, at least once a second by a separate thread (so the last lines are visible while the output is quiet),
+ * and on {@link #close()}. Lines accepted after {@link #close()} are ignored. The file is rotated ({@code
+ * file.1}, {@code file.2}, ...) once it reaches the maximum size.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class RollingFileConsumer implements Consumer<String>, Closeable {
+
+	private static final Logger log = LoggerFactory.getLogger(RollingFileConsumer.class);
+
+	private static final long FLUSH_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	private static final byte[] NEW_LINE = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+	private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+	private final Path file;
+
+	private final long maxFileSize;
+
+	private final int maxFiles;
+
+	private final Thread thread;
+
+	@Nullable
+	private FileChannel channel;
+
+	private long size;
+
+	private long lastFlush = System.nanoTime();
+
+	private boolean failed;
+
+	private boolean closed;
+
+	/**
+	 * Creates a {@link RollingFileConsumer} and starts its flush thread.
+	 *
+	 * @param file the file to write to
+	 * @param maxFileSize the maximum size of a file in bytes
+	 * @param maxFiles the maximum number of files including the current one
+	 * @param threadFactory the factory to create a flush thread
+	 */
+	RollingFileConsumer(Path file, long maxFileSize, int maxFiles, ThreadFactory threadFactory) {
+		this.file = file;
+		this.maxFileSize = maxFileSize;
+		this.maxFiles = Math.max(1, maxFiles);
+		this.thread = threadFactory.newThread(this::flushPeriodically);
+		this.thread.start();
+	}
+
+	@Override
+	public synchronized void accept(String line) {
+		if (this.failed || this.closed) {
+			return;
+		}
+		try {
+			getChannel();
+			byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+			int length = bytes.length + NEW_LINE.length;
+			if (this.size + this.buffer.position() + length > this.maxFileSize && this.size + this.buffer
+					.position() > 0) {
+				flush();
+				rotate();
+			}
+			if (length > this.buffer.remaining()) {
+				flush();
+			}
+			if (length > this.buffer.capacity()) {
+				write(ByteBuffer.wrap(bytes));
+				write(ByteBuffer.wrap(NEW_LINE));
+			}
+			else {
+				this.buffer.put(bytes).put(NEW_LINE);
+			}
+			if (System.nanoTime() - this.lastFlush >= FLUSH_INTERVAL) {
+				flush();
+			}
+		}
+		catch (IOException ex) {
+			fail(ex);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		this.closed = true;
+		notifyAll();
+		try {
+			if (!this.failed) {
+				flush();
+			}
+		}
+		catch (IOException ex) {
+			log.error(String.format("Could not write to '%s'", this.file), ex);
+		}
+		finally {
+			closeChannel();
+		}
+	}
+
+	private synchronized void flushPeriodically() {
+		long interval = TimeUnit.NANOSECONDS.toMillis(FLUSH_INTERVAL);
+		while (!this.closed) {
+			try {
+				wait(interval);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			if (!this.closed && !this.failed && this.buffer.position() > 0) {
+				try {
+					flush();
+				}
+				catch (IOException ex) {
+					fail(ex);
+				}
+			}
+		}
+	}
+
+	private void fail(IOException ex) {
+		this.failed = true;
+		log.error(String.format("Could not write to '%s'. The output is not written anymore", this.file), ex);
+	}
+
+	private void flush() throws IOException {
+		this.lastFlush = System.nanoTime();
+		if (this.buffer.position() > 0) {
+			this.buffer.flip();
+			write(this.buffer);
+			this.buffer.clear();
+		}
+	}
+
+	private void write(ByteBuffer buffer) throws IOException {
+		FileChannel channel = getChannel();
+		while (buffer.hasRemaining()) {
+			this.size += channel.write(buffer);
+		}
+	}
+
+	private FileChannel getChannel() throws IOException {
+		FileChannel channel = this.channel;
+		if (channel == null) {
+			Files.createDirectories(this.file.toAbsolutePath().getParent());
+			channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.APPEND);
+			this.size = channel.size();
+			this.channel = channel;
+		}
+		return channel;
+	}
+
+	private void rotate() throws IOException {
+		closeChannel();
+		Path file = this.file;
+		if (this.maxFiles > 1) {
+			Files.deleteIfExists(file.resolveSibling(file.getFileName() + "." + (this.maxFiles - 1)));
+		}
+		for (int i = this.maxFiles - 2; i >= 1; i--) {
+			Path source = file.resolveSibling(file.getFileName() + "." + i);
+			if (Files.exists(source)) {
+				Files.move(source, file.resolveSibling(file.getFileName() + "." + (i + 1)),
+						StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		if (this.maxFiles > 1 && Files.exists(file)) {
+			Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+		}
+		else {
+			Files.deleteIfExists(file);
+		}
+		this.size = 0;
+	}
+
+	private void closeChannel() {
+		FileChannel channel = this.channel;
+		this.channel = null;
+		if (channel != null) {
+			try {
+				channel.close();
+			}
+			catch (IOException ex) {
+				if (log.isDebugEnabled()) {
+					log.error(String.format("Could not close '%s'", this.file), ex);
+				}
+			}
+		}
+	}
+
+}
@@ -16,10 +16,10 @@
 
 package com.github.nosan.embedded.cassandra.local;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
@@ -101,20 +101,26 @@ class RunProcess {
 	}
 
 	private static void read(Process process, Consumer<? super String> consumer) {
-		try (BufferedReader reader = new BufferedReader(
-				new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-			String line;
-			while ((line = readline(reader)) != null) {
-				if (StringUtils.hasText(line)) {
-					try {
-						consumer.accept(line);
-					}
-					catch (Throwable ex) {
-						if (log.isDebugEnabled()) {
-							log.error(String.format("Line '%s' is not handled by consumer '%s'", line, consumer), ex);
-						}
+		try (InputStream is = process.getInputStream()) {
+			byte[] buffer = new byte[8192];
+			byte[] line = new byte[512];
+			int length = 0;
+			int count;
+			while ((count = read(is, buffer)) != -1) {
+				int start = 0;
+				for (int i = 0; i < count; i++) {
+					if (buffer[i] == '\n') {
+						line = append(line, length, buffer, start, i - start);
+						accept(consumer, line, length + i - start);
+						length = 0;
+						start = i + 1;
 					}
 				}
+				line = append(line, length, buffer, start, count - start);
+				length += count - start;
+			}
+			if (length > 0) {
+				accept(consumer, line, length);
 			}
 		}
 		catch (IOException ex) {
@@ -122,13 +128,36 @@ class RunProcess {
 		}
 	}
 
-	@Nullable
-	private static String readline(BufferedReader reader) {
+	private static int read(InputStream is, byte[] buffer) {
 		try {
-			return reader.readLine();
+			return is.read(buffer);
 		}
 		catch (IOException ex) {
-			return null;
+			return -1;
+		}
+	}
+
+	private static byte[] append(byte[] target, int length, byte[] source, int offset, int count) {
+		byte[] result = target;
+		if (length + count > result.length) {
+			result = Arrays.copyOf(result, Math.max(result.length * 2, length + count));
+		}
+		System.arraycopy(source, offset, result, length, count);
+		return result;
+	}
+
+	private static void accept(Consumer<? super String> consumer, byte[] bytes, int length) {
+		int end = (length > 0 && bytes[length - 1] == '\r') ? length - 1 : length;
+		String line = new String(bytes, 0, end, StandardCharsets.UTF_8);
+		if (StringUtils.hasText(line)) {
+			try {
+				consumer.accept(line);
+			}
+			catch (Throwable ex) {
+				if (log.isDebugEnabled()) {
+					log.error(String.format("Line '%s' is not handled by consumer '%s'", line, consumer), ex);
+				}
+			}
 		}
 	}
 
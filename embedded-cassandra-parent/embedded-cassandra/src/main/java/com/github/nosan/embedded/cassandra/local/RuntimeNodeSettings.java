@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.net.InetAddress;
+import java.util.Map;
+
+import com.github.nosan.embedded.cassandra.Version;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * {@link NodeSettings} of the running node. The {@code JVM} parameters take precedence over {@code cassandra.yaml}
+ * and the real addresses can be overridden once they are known.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class RuntimeNodeSettings extends NodeSettings {
+
+	private final JvmParameters jvmParameters;
+
+	@Nullable
+	private volatile InetAddress realListenAddress;
+
+	@Nullable
+	private volatile InetAddress realAddress;
+
+	/**
+	 * Creates a {@link RuntimeNodeSettings}.
+	 *
+	 * @param version a version
+	 * @param properties the properties of {@code cassandra.yaml}
+	 * @param jvmParameters {@code JVM} parameters that take precedence over the properties
+	 */
+	RuntimeNodeSettings(Version version, @Nullable Map<?, ?> properties, JvmParameters jvmParameters) {
+		super(version, properties);
+		this.jvmParameters = jvmParameters;
+	}
+
+	@Override
+	public int getStoragePort() {
+		return this.jvmParameters.getStoragePort().orElseGet(super::getStoragePort);
+	}
+
+	@Override
+	public int getSslStoragePort() {
+		return this.jvmParameters.getSslStoragePort().orElseGet(super::getSslStoragePort);
+	}
+
+	@Override
+	public boolean isStartNativeTransport() {
+		return this.jvmParameters.isStartNativeTransport().orElseGet(super::isStartNativeTransport);
+	}
+
+	@Override
+	public int getPort() {
+		return this.jvmParameters.getPort().orElseGet(super::getPort);
+	}
+
+	@Override
+	public boolean isStartRpc() {
+		if (getVersion().getMajor() < 4) {
+			return this.jvmParameters.isStartRpc().orElseGet(super::isStartRpc);
+		}
+		return super.isStartRpc();
+	}
+
+	@Override
+	public int getRpcPort() {
+		if (getVersion().getMajor() < 4) {
+			return this.jvmParameters.getRpcPort().orElseGet(super::getRpcPort);
+		}
+		return super.getRpcPort();
+	}
+
+	@Override
+	public int getJmxLocalPort() {
+		return this.jvmParameters.getJmxLocalPort().orElseGet(super::getJmxLocalPort);
+	}
+
+	@Override
+	public InetAddress getRealAddress() {
+		InetAddress address = this.realAddress;
+		if (address != null) {
+			return address;
+		}
+		return super.getRealAddress();
+	}
+
+	/**
+	 * Initializes the value for the {@link #getRealAddress()} attribute.
+	 *
+	 * @param realAddress The value for realAddress
+	 */
+	void setRealAddress(@Nullable InetAddress realAddress) {
+		this.realAddress = realAddress;
+		resetRealAddresses();
+	}
+
+	@Override
+	public InetAddress getRealListenAddress() {
+		InetAddress address = this.realListenAddress;
+		if (address != null) {
+			return address;
+		}
+		return super.getRealListenAddress();
+	}
+
+	/**
+	 * Initializes the value for the {@link #getRealListenAddress()}  attribute.
+	 *
+	 * @param realListenAddress The value for realListenAddress
+	 */
+	void setRealListenAddress(@Nullable InetAddress realListenAddress) {
+		this.realListenAddress = realListenAddress;
+		resetRealAddresses();
+	}
+
+}
+
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.util.StringUtils;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Collects diagnostics of a Cassandra Node which has not been started in time: a thread dump ({@code jcmd
+ * Thread.print}), GC statistics ({@code jstat -gcutil}) and the tails of {@code logs/system.log} and {@code
+ * logs/debug.log}. The diagnostics are written to a report file in the report directory.
+ * <p>
+ * The diagnostics of a starting node are {@link #schedule(Duration, long, String, ThreadFactory) collected} on a
+ * separate thread, so that the collection does not consume the time the node has to start.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class StartupDiagnostics {
+
+	private static final Logger log = LoggerFactory.getLogger(StartupDiagnostics.class);
+
+	private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+	private static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(30);
+
+	private static final int TAIL_LINES = 100;
+
+	private final Path workingDirectory;
+
+	private final Path reportDirectory;
+
+	private final double threshold;
+
+	/**
+	 * Creates a {@link StartupDiagnostics}.
+	 *
+	 * @param workingDirectory a configured base directory
+	 * @param reportDirectory a directory to write report files to
+	 * @param threshold the share of the startup timeout after which diagnostics are collected
+	 */
+	StartupDiagnostics(Path workingDirectory, Path reportDirectory, double threshold) {
+		this.workingDirectory = workingDirectory;
+		this.reportDirectory = reportDirectory;
+		this.threshold = Math.max(0, Math.min(1, threshold));
+	}
+
+	/**
+	 * Returns the time after which the diagnostics of a not yet started node have to be collected.
+	 *
+	 * @param timeout the startup timeout
+	 * @return the delay
+	 */
+	Duration getDelay(Duration timeout) {
+		return Duration.ofNanos((long) (timeout.toNanos() * this.threshold));
+	}
+
+	/**
+	 * Schedules the collection of the diagnostics once the {@link #getDelay(Duration) delay} has elapsed. The
+	 * diagnostics are collected on a separate thread unless the schedule is {@link Schedule#cancel() cancelled}
+	 * before.
+	 *
+	 * @param timeout the startup timeout
+	 * @param pid the pid of the node process
+	 * @param javaHome java home directory to look up {@code jcmd} and {@code jstat}
+	 * @param threadFactory thread factory to create a collecting thread
+	 * @return the schedule
+	 */
+	Schedule schedule(Duration timeout, long pid, @Nullable String javaHome, ThreadFactory threadFactory) {
+		Schedule schedule = new Schedule(getDelay(timeout).toNanos(), pid, javaHome);
+		threadFactory.newThread(schedule).start();
+		return schedule;
+	}
+
+	/**
+	 * Collects the diagnostics of the node and writes them to a report file.
+	 *
+	 * @param pid the pid of the node process, or {@code -1} if the process is not alive
+	 * @param javaHome java home directory to look up {@code jcmd} and {@code jstat}
+	 * @return the report
+	 */
+	Report collect(long pid, @Nullable String javaHome) {
+		String lineSeparator = System.lineSeparator();
+		StringBuilder content = new StringBuilder();
+		content.append(String.format("Startup diagnostics of Cassandra Node '%s' (%s)", pid, LocalDateTime.now()))
+				.append(lineSeparator);
+		if (pid > 0) {
+			append(content, "Thread dump", execute(javaHome, "jcmd", Long.toString(pid), "Thread.print"));
+			append(content, "GC statistics", execute(javaHome, "jstat", "-gcutil", Long.toString(pid)));
+		}
+		Path logs = this.workingDirectory.resolve("logs");
+		append(content, "logs/system.log", tail(logs.resolve("system.log")));
+		append(content, "logs/debug.log", tail(logs.resolve("debug.log")));
+		Path file = write(pid, content.toString());
+		return new Report(file, content.toString());
+	}
+
+	@Nullable
+	private Path write(long pid, String content) {
+		Path file = this.reportDirectory.resolve(String.format("cassandra-%s-startup-%s.txt",
+				(pid > 0) ? pid : "unknown", TIMESTAMP.format(LocalDateTime.now())));
+		try {
+			Files.createDirectories(this.reportDirectory);
+			Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+			return file;
+		}
+		catch (IOException ex) {
+			log.error(String.format("Startup diagnostics have not been written to '%s'", file), ex);
+			return null;
+		}
+	}
+
+	private static void append(StringBuilder content, String title, String section) {
+		String lineSeparator = System.lineSeparator();
+		content.append(lineSeparator).append("===== ").append(title).append(" =====").append(lineSeparator)
+				.append(section).append(lineSeparator);
+	}
+
+	private static String execute(@Nullable String javaHome, String tool, String... args) {
+		Path executable = getTool(javaHome, tool);
+		if (executable == null) {
+			return String.format("'%s' is not found in '%s'", tool, javaHome);
+		}
+		List<String> command = new ArrayList<>();
+		command.add(executable.toString());
+		command.addAll(Arrays.asList(args));
+		Path output = null;
+		try {
+			output = Files.createTempFile("cassandra-diagnostics-", ".txt");
+			Process process = new ProcessBuilder(command).redirectErrorStream(true)
+					.redirectOutput(output.toFile()).start();
+			if (!process.waitFor(COMMAND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+				process.destroyForcibly();
+				return String.format("'%s' has not been completed in (%d) milliseconds", String.join(" ", command),
+						COMMAND_TIMEOUT.toMillis());
+			}
+			return new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return String.format("'%s' has been interrupted", String.join(" ", command));
+		}
+		catch (IOException ex) {
+			return String.format("'%s' has failed: %s", String.join(" ", command), ex);
+		}
+		finally {
+			if (output != null) {
+				try {
+					Files.deleteIfExists(output);
+				}
+				catch (IOException ex) {
+					if (log.isDebugEnabled()) {
+						log.error(String.format("'%s' has not been deleted", output), ex);
+					}
+				}
+			}
+		}
+	}
+
+	@Nullable
+	private static Path getTool(@Nullable String javaHome, String tool) {
+		if (!StringUtils.hasText(javaHome)) {
+			return null;
+		}
+		String name = (File.separatorChar == '\\') ? tool + ".exe" : tool;
+		Path home = Paths.get(javaHome);
+		List<Path> candidates = new ArrayList<>();
+		candidates.add(home.resolve("bin").resolve(name));
+		if (home.getParent() != null) {
+			//java 8 'jre' directory
+			candidates.add(home.getParent().resolve("bin").resolve(name));
+		}
+		return candidates.stream().filter(Files::isExecutable).findFirst().orElse(null);
+	}
+
+	private static String tail(Path file) {
+		if (!Files.isRegularFile(file)) {
+			return String.format("'%s' does not exist", file);
+		}
+		Deque<String> lines = new ArrayDeque<>(TAIL_LINES);
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (lines.size() == TAIL_LINES) {
+					lines.removeFirst();
+				}
+				lines.addLast(line);
+			}
+		}
+		catch (IOException ex) {
+			lines.addLast(String.format("'%s' cannot be read: %s", file, ex));
+		}
+		return String.join(System.lineSeparator(), lines);
+	}
+
+	/**
+	 * Scheduled collection of the diagnostics.
+	 */
+	final class Schedule implements Runnable {
+
+		private final CompletableFuture<Report> report = new CompletableFuture<>();
+
+		private final long delay;
+
+		private final long pid;
+
+		@Nullable
+		private final String javaHome;
+
+		private boolean cancelled;
+
+		Schedule(long delay, long pid, @Nullable String javaHome) {
+			this.delay = delay;
+			this.pid = pid;
+			this.javaHome = javaHome;
+		}
+
+		@Override
+		public void run() {
+			synchronized (this) {
+				long deadline = System.nanoTime() + this.delay;
+				while (!this.cancelled && deadline - System.nanoTime() > 0) {
+					try {
+						TimeUnit.NANOSECONDS.timedWait(this, deadline - System.nanoTime());
+					}
+					catch (InterruptedException ex) {
+						this.cancelled = true;
+					}
+				}
+				if (this.cancelled) {
+					this.report.complete(null);
+					return;
+				}
+			}
+			try {
+				Report report = collect(this.pid, this.javaHome);
+				if (!isCancelled()) {
+					log.warn("Cassandra Node '{}' has not been started yet. Startup diagnostics: '{}'", this.pid,
+							report.getFile());
+				}
+				this.report.complete(report);
+			}
+			catch (Throwable ex) {
+				this.report.completeExceptionally(ex);
+			}
+		}
+
+		/**
+		 * Cancels the collection unless it has already been started. Never blocks.
+		 */
+		synchronized void cancel() {
+			this.cancelled = true;
+			notifyAll();
+		}
+
+		/**
+		 * Cancels the collection unless it has already been started, and waits for the collected diagnostics.
+		 *
+		 * @return the report, or {@code null} if the diagnostics have not been collected
+		 * @throws InterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another
+		 * thread
+		 */
+		@Nullable
+		Report getReport() throws InterruptedException {
+			cancel();
+			try {
+				return this.report.get();
+			}
+			catch (ExecutionException ex) {
+				log.error(String.format("Startup diagnostics of Cassandra Node '%s' have not been collected",
+						this.pid), ex.getCause());
+				return null;
+			}
+		}
+
+		private synchronized boolean isCancelled() {
+			return this.cancelled;
+		}
+
+	}
+
+	/**
+	 * Collected diagnostics.
+	 */
+	static final class Report {
+
+		@Nullable
+		private final Path file;
+
+		private final String content;
+
+		Report(@Nullable Path file, String content) {
+			this.file = file;
+			this.content = content;
+		}
+
+		/**
+		 * Returns the report file.
+		 *
+		 * @return the file, or {@code null} if the report has not been written
+		 */
+		@Nullable
+		Path getFile() {
+			return this.file;
+		}
+
+		/**
+		 * Returns the content of the report.
+		 *
+		 * @return the content
+		 */
+		String getContent() {
+			return this.content;
+		}
+
+		/**
+		 * Attaches this report to the given exception as a suppressed exception.
+		 *
+		 * @param ex the exception
+		 * @param <T> the type of the exception
+		 * @return the same exception
+		 */
+		<T extends Throwable> T attach(T ex) {
+			IOException diagnostics = new IOException(String.format("Startup diagnostics%s:%n%s",
+					(this.file != null) ? String.format(" ('%s')", this.file) : "", this.content));
+			diagnostics.setStackTrace(new StackTraceElement[0]);
+			ex.addSuppressed(diagnostics);
+			return ex;
+		}
+
+	}
+
+}
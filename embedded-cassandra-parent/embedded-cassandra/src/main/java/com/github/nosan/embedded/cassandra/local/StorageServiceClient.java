@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.NodeStatus;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Reads the {@link NodeStatus status} of the node from its {@code StorageService} MBean. A remote node is connected
+ * lazily through its JMX port, and reconnected after a failure. {@link #close()} does not wait for a pending call, it
+ * closes the connection and the pending call fails.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class StorageServiceClient implements Closeable {
+
+	private static final Logger log = LoggerFactory.getLogger(StorageServiceClient.class);
+
+	private static final String STORAGE_SERVICE = "org.apache.cassandra.db:type=StorageService";
+
+	private static final String[] ATTRIBUTES = {"OperationMode", "Initialized", "Joined", "GossipRunning",
+			"NativeTransportRunning", "RPCServerRunning"};
+
+	@Nullable
+	private final JMXServiceURL url;
+
+	private final Object connectorLock = new Object();
+
+	@Nullable
+	private MBeanServerConnection connection;
+
+	@Nullable
+	private JMXConnector connector;
+
+	/**
+	 * Creates a {@link StorageServiceClient} of a node listening on the given JMX port (loopback only).
+	 *
+	 * @param jmxPort the JMX port
+	 * @throws IOException if the JMX service URL is malformed
+	 */
+	StorageServiceClient(int jmxPort) throws IOException {
+		this.url = new JMXServiceURL(String.format("service:jmx:rmi:///jndi/rmi://localhost:%d/jmxrmi", jmxPort));
+	}
+
+	/**
+	 * Creates a {@link StorageServiceClient} using the given connection (e.g. the platform {@code MBeanServer} of an
+	 * in-process node).
+	 *
+	 * @param connection the connection
+	 */
+	StorageServiceClient(MBeanServerConnection connection) {
+		this.url = null;
+		this.connection = connection;
+	}
+
+	/**
+	 * Returns the current status of the node.
+	 *
+	 * @return the status
+	 * @throws IOException if the node cannot be connected or its {@code StorageService} is not registered yet
+	 */
+	synchronized NodeStatus getStatus() throws IOException {
+		MBeanServerConnection connection = connect();
+		Map<String, Object> values = new HashMap<>();
+		try {
+			for (Attribute attribute : connection.getAttributes(new ObjectName(STORAGE_SERVICE), ATTRIBUTES)
+					.asList()) {
+				values.put(attribute.getName(), attribute.getValue());
+			}
+		}
+		catch (JMException ex) {
+			throw new IOException(String.format("'%s' is not available", STORAGE_SERVICE), ex);
+		}
+		catch (IOException ex) {
+			close();
+			throw ex;
+		}
+		Object operationMode = values.get("OperationMode");
+		return new NodeStatus((operationMode != null) ? operationMode.toString() : null,
+				isTrue("Initialized", values), isTrue("Joined", values), isTrue("GossipRunning", values),
+				isTrue("NativeTransportRunning", values), isTrue("RPCServerRunning", values));
+	}
+
+	@Override
+	public void close() {
+		JMXConnector connector;
+		synchronized (this.connectorLock) {
+			connector = this.connector;
+			if (connector == null) {
+				return;
+			}
+			this.connector = null;
+			this.connection = null;
+		}
+		close(connector);
+	}
+
+	private MBeanServerConnection connect() throws IOException {
+		MBeanServerConnection connection;
+		synchronized (this.connectorLock) {
+			connection = this.connection;
+		}
+		JMXServiceURL url = this.url;
+		if (connection == null && url != null) {
+			JMXConnector connector = JMXConnectorFactory.connect(url);
+			try {
+				connection = connector.getMBeanServerConnection();
+			}
+			catch (IOException ex) {
+				close(connector);
+				throw ex;
+			}
+			synchronized (this.connectorLock) {
+				this.connector = connector;
+				this.connection = connection;
+			}
+		}
+		if (connection == null) {
+			throw new IOException("There is no connection to the node");
+		}
+		return connection;
+	}
+
+	private void close(JMXConnector connector) {
+		try {
+			connector.close();
+		}
+		catch (IOException ex) {
+			if (log.isDebugEnabled()) {
+				log.error(String.format("JMX connector '%s' has not been closed", this.url), ex);
+			}
+		}
+	}
+
+	private static boolean isTrue(String name, Map<String, Object> values) {
+		return Boolean.TRUE.equals(values.get(name));
+	}
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.github.nosan.embedded.cassandra.Settings;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Checks whether the enabled transports of the node accept connections. All ports are probed at once with
+ * non-blocking connects multiplexed on a {@link Selector}; a refused port is probed again shortly after. Unless the
+ * client encryption is enforced, the native transport is ready only once it passes a {@link NativeProtocolProbe
+ * native protocol handshake}. Addresses are resolved on every {@link #await(long, CompletableFuture) wait}, because
+ * the node may have logged a bound address which differs from the configured one.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+class TransportReadiness {
+
+	private static final long RETRY_INTERVAL = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private final Settings settings;
+
+	private final boolean handshake;
+
+	/**
+	 * Creates a {@link TransportReadiness}.
+	 *
+	 * @param settings the settings of the node
+	 */
+	TransportReadiness(Settings settings) {
+		this(settings, true);
+	}
+
+	/**
+	 * Creates a {@link TransportReadiness}.
+	 *
+	 * @param settings the settings of the node
+	 * @param handshake whether the native transport has to pass a {@link NativeProtocolProbe native protocol
+	 * handshake} or an open port is enough
+	 */
+	TransportReadiness(Settings settings, boolean handshake) {
+		this.settings = settings;
+		this.handshake = handshake && settings.isStartNativeTransport() && !isClientEncryption(settings);
+	}
+
+	/**
+	 * Waits until all enabled transports accept connections.
+	 *
+	 * @param timeout the maximum time to wait in nanoseconds
+	 * @param abort completes if waiting has to be given up (e.g. the process has exited)
+	 * @return {@code true} if the transports accept connections, {@code false} if the timeout has elapsed or waiting
+	 * has been aborted
+	 * @throws IOException if the probes cannot be opened
+	 * @throws InterruptedException if the current thread is {@link Thread#interrupt() interrupted} by another thread
+	 */
+	boolean await(long timeout, @Nullable CompletableFuture<?> abort) throws IOException, InterruptedException {
+		long start = System.nanoTime();
+		Settings settings = this.settings;
+		InetAddress address = settings.getRealAddress();
+		Map<InetSocketAddress, Long> pending = getAddresses(address);
+		NativeProtocolProbe probe = this.handshake
+				? new NativeProtocolProbe(new InetSocketAddress(address, settings.getPort()), settings.getVersion())
+				: null;
+		Object lock = new Object();
+		Selector selector = Selector.open();
+		try {
+			if (abort != null) {
+				abort.thenRun(() -> {
+					synchronized (lock) {
+						if (selector.isOpen()) {
+							selector.wakeup();
+						}
+					}
+				});
+			}
+			while (true) {
+				if (abort != null && abort.isDone()) {
+					return false;
+				}
+				long now = System.nanoTime();
+				long next = Long.MAX_VALUE;
+				Iterator<Map.Entry<InetSocketAddress, Long>> entries = pending.entrySet().iterator();
+				while (entries.hasNext()) {
+					Map.Entry<InetSocketAddress, Long> entry = entries.next();
+					Long retryAt = entry.getValue();
+					if (retryAt == null) {
+						continue;
+					}
+					if (retryAt - now > 0) {
+						next = Math.min(next, retryAt - now);
+						continue;
+					}
+					try {
+						if (!connect(entry.getKey(), selector)) {
+							entry.setValue(null);
+						}
+						else if (isServing(probe, entry.getKey(), timeout - (System.nanoTime() - start))) {
+							entries.remove();
+						}
+						else {
+							entry.setValue(System.nanoTime() + RETRY_INTERVAL);
+							next = Math.min(next, RETRY_INTERVAL);
+						}
+					}
+					catch (IOException ex) {
+						entry.setValue(now + RETRY_INTERVAL);
+						next = Math.min(next, RETRY_INTERVAL);
+					}
+				}
+				if (pending.isEmpty()) {
+					return true;
+				}
+				long rem = timeout - (System.nanoTime() - start);
+				if (rem <= 0) {
+					return false;
+				}
+				selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(Math.min(rem, next))));
+				if (Thread.interrupted()) {
+					throw new InterruptedException();
+				}
+				Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+					InetSocketAddress target = (InetSocketAddress) key.attachment();
+					SocketChannel channel = (SocketChannel) key.channel();
+					boolean connected;
+					try {
+						connected = channel.finishConnect();
+					}
+					catch (IOException ex) {
+						connected = false;
+					}
+					finally {
+						key.cancel();
+						close(channel);
+					}
+					if (connected && isServing(probe, target, timeout - (System.nanoTime() - start))) {
+						pending.remove(target);
+					}
+					else {
+						pending.put(target, System.nanoTime() + RETRY_INTERVAL);
+					}
+				}
+			}
+		}
+		finally {
+			for (SelectionKey key : selector.keys()) {
+				close(key.channel());
+			}
+			synchronized (lock) {
+				selector.close();
+			}
+		}
+	}
+
+	private static boolean isServing(@Nullable NativeProtocolProbe probe, InetSocketAddress address, long timeout) {
+		if (probe != null && probe.getAddress().equals(address)) {
+			return probe.probe(timeout) != -1;
+		}
+		return true;
+	}
+
+	private Map<InetSocketAddress, Long> getAddresses(InetAddress address) {
+		Settings settings = this.settings;
+		Map<InetSocketAddress, Long> addresses = new LinkedHashMap<>();
+		if (settings.isStartNativeTransport()) {
+			addAddress(address, settings.getPort(), addresses);
+			addAddress(address, settings.getSslPort(), addresses);
+		}
+		if (settings.isStartRpc()) {
+			addAddress(address, settings.getRpcPort(), addresses);
+		}
+		return addresses;
+	}
+
+	private static void addAddress(InetAddress address, @Nullable Integer port, Map<InetSocketAddress, Long> target) {
+		if (port != null && port != -1) {
+			target.put(new InetSocketAddress(address, port), 0L);
+		}
+	}
+
+	private static boolean isClientEncryption(Settings settings) {
+		Object options = settings.getProperties().get("client_encryption_options");
+		if (options instanceof Map) {
+			Map<?, ?> values = (Map<?, ?>) options;
+			return Boolean.parseBoolean(String.valueOf(values.get("enabled")))
+					&& !Boolean.parseBoolean(String.valueOf(values.get("optional")));
+		}
+		return false;
+	}
+
+	private static boolean connect(InetSocketAddress address, Selector selector) throws IOException {
+		SocketChannel channel = SocketChannel.open();
+		try {
+			channel.configureBlocking(false);
+			if (channel.connect(address)) {
+				close(channel);
+				return true;
+			}
+			channel.register(selector, SelectionKey.OP_CONNECT, address);
+			return false;
+		}
+		catch (IOException | RuntimeException ex) {
+			close(channel);
+			throw ex;
+		}
+	}
+
+	private static void close(Channel channel) {
+		try {
+			channel.close();
+		}
+		catch (IOException ex) {
+			//ignore
+		}
+	}
+
+}
@@ -19,7 +19,9 @@ package com.github.nosan.embedded.cassandra.local;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
@@ -50,10 +52,20 @@ class UnixCassandraNode extends AbstractCassandraNode {
 	 * @param javaHome java home directory
 	 * @param jmxPort JMX port
 	 * @param allowRoot allow running as a root
+	 * @param launchMode the way how the node is launched
+	 * @param classDataSharing class data sharing archive or {@code null}
+	 * @param environment additional environment variables of the node process
+	 * @param cpus the number of CPU cores to pin the node process to ({@code 0} disables CPU affinity)
+	 * @param diagnostics startup diagnostics or {@code null}
+	 * @param readinessMode the way how the readiness of the node is detected
+	 * @param output the settings of the output pipeline
 	 */
 	UnixCassandraNode(Path workingDirectory, Version version, Duration timeout, List<String> jvmOptions,
-			@Nullable Path javaHome, int jmxPort, boolean allowRoot) {
-		super(workingDirectory, version, timeout, jvmOptions, javaHome, jmxPort);
+			@Nullable Path javaHome, int jmxPort, boolean allowRoot, LaunchMode launchMode,
+			@Nullable ClassDataSharing classDataSharing, Map<String, String> environment, int cpus,
+			@Nullable StartupDiagnostics diagnostics, ReadinessMode readinessMode, NodeOutput output) {
+		super(workingDirectory, version, timeout, jvmOptions, javaHome, jmxPort, launchMode, classDataSharing,
+				environment, cpus, diagnostics, readinessMode, output);
 		this.workingDirectory = workingDirectory;
 		this.version = version;
 		this.allowRoot = allowRoot;
@@ -64,7 +76,10 @@ class UnixCassandraNode extends AbstractCassandraNode {
 			throws IOException {
 		Path workingDirectory = this.workingDirectory;
 		Version version = this.version;
-		builder.command(workingDirectory.resolve("bin/cassandra").toString(), "-f");
+		List<String> command = new ArrayList<>(getLauncher());
+		command.add(workingDirectory.resolve("bin/cassandra").toString());
+		command.add("-f");
+		builder.command(command);
 		if (this.allowRoot && (version.getMajor() > 3 || (version.getMajor() == 3 && version.getMinor() > 1))) {
 			builder.command().add("-R");
 		}
@@ -76,6 +91,9 @@ class UnixCassandraNode extends AbstractCassandraNode {
 	protected int terminate(long pid, ProcessBuilder builder, ThreadFactory threadFactory,
 			Consumer<String> consumer) throws IOException, InterruptedException {
 		if (pid != -1) {
+			if (ProcessUtils.destroy(pid, false)) {
+				return 0;
+			}
 			return new RunProcess(builder.command("kill", Long.toString(pid)), threadFactory).run(consumer).waitFor();
 		}
 		return -1;
@@ -85,10 +103,33 @@ class UnixCassandraNode extends AbstractCassandraNode {
 	protected int kill(long pid, ProcessBuilder builder, ThreadFactory threadFactory, Consumer<String> consumer)
 			throws IOException, InterruptedException {
 		if (pid != -1) {
+			if (ProcessUtils.destroy(pid, true)) {
+				return 0;
+			}
 			return new RunProcess(builder.command("kill", "-SIGKILL", Long.toString(pid)), threadFactory).run(consumer)
 					.waitFor();
 		}
 		return -1;
 	}
 
+	@Override
+	protected int suspend(long pid, ProcessBuilder builder, ThreadFactory threadFactory, Consumer<String> consumer)
+			throws IOException, InterruptedException {
+		if (pid != -1) {
+			return new RunProcess(builder.command("kill", "-STOP", Long.toString(pid)), threadFactory).run(consumer)
+					.waitFor();
+		}
+		return -1;
+	}
+
+	@Override
+	protected int resume(long pid, ProcessBuilder builder, ThreadFactory threadFactory, Consumer<String> consumer)
+			throws IOException, InterruptedException {
+		if (pid != -1) {
+			return new RunProcess(builder.command("kill", "-CONT", Long.toString(pid)), threadFactory).run(consumer)
+					.waitFor();
+		}
+		return -1;
+	}
+
 }
@@ -21,6 +21,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
@@ -52,10 +53,19 @@ class WindowsCassandraNode extends AbstractCassandraNode {
 	 * @param jvmOptions additional {@code JVM} options
 	 * @param javaHome java home directory
 	 * @param jmxPort JMX port
+	 * @param launchMode the way how the node is launched
+	 * @param classDataSharing class data sharing archive or {@code null}
+	 * @param environment additional environment variables of the node process
+	 * @param diagnostics startup diagnostics or {@code null}
+	 * @param readinessMode the way how the readiness of the node is detected
+	 * @param output the settings of the output pipeline
 	 */
 	WindowsCassandraNode(Path workingDirectory, Version version, Duration timeout, List<String> jvmOptions,
-			@Nullable Path javaHome, int jmxPort) {
-		super(workingDirectory, version, timeout, jvmOptions, javaHome, jmxPort);
+			@Nullable Path javaHome, int jmxPort, LaunchMode launchMode, @Nullable ClassDataSharing classDataSharing,
+			Map<String, String> environment, @Nullable StartupDiagnostics diagnostics, ReadinessMode readinessMode,
+			NodeOutput output) {
+		super(workingDirectory, version, timeout, jvmOptions, javaHome, jmxPort, launchMode, classDataSharing,
+				environment, 0, diagnostics, readinessMode, output);
 		this.workingDirectory = workingDirectory;
 		this.version = version;
 	}
@@ -98,6 +108,18 @@ class WindowsCassandraNode extends AbstractCassandraNode {
 		return exitCode;
 	}
 
+	@Override
+	protected int suspend(long pid, ProcessBuilder builder, ThreadFactory threadFactory, Consumer<String> consumer)
+			throws IOException {
+		throw new IOException(String.format("Cassandra Node '%s' cannot be suspended on Windows", pid));
+	}
+
+	@Override
+	protected int resume(long pid, ProcessBuilder builder, ThreadFactory threadFactory, Consumer<String> consumer)
+			throws IOException {
+		throw new IOException(String.format("Cassandra Node '%s' cannot be resumed on Windows", pid));
+	}
+
 	private int terminateByPidFile(ProcessBuilder builder, ThreadFactory threadFactory, Consumer<String> consumer)
 			throws IOException, InterruptedException {
 		return killByPidFile(builder, threadFactory, consumer, false);
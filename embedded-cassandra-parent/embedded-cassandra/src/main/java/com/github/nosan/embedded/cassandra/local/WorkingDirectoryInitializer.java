@@ -66,9 +66,9 @@ class WorkingDirectoryInitializer implements Initializer {
 	public void initialize(Path workingDirectory, Version version) throws IOException {
 		Path artifactDirectory = this.artifactDirectory;
 		String artifactName = getArtifactName(version);
+		Path lockFile = artifactDirectory.resolve(String.format("%s.lock", artifactName));
 		if (hasNotExtracted(artifactDirectory, artifactName)) {
 			Files.createDirectories(artifactDirectory);
-			Path lockFile = artifactDirectory.resolve(String.format("%s.lock", artifactName));
 			try (FileLock fileLock = new FileLock(lockFile)) {
 				fileLock.lock();
 				if (hasNotExtracted(artifactDirectory, artifactName)) {
@@ -76,7 +76,10 @@ class WorkingDirectoryInitializer implements Initializer {
 				}
 			}
 		}
-		copy(requireSingleDirectory(artifactDirectory), workingDirectory, artifactName);
+		try (FileLock fileLock = new FileLock(lockFile)) {
+			fileLock.lockShared();
+			copy(requireSingleDirectory(artifactDirectory), workingDirectory, artifactName);
+		}
 	}
 
 	private static void extract(Artifact artifact, Path artifactDirectory, String artifactName) throws IOException {
@@ -141,7 +144,7 @@ class WorkingDirectoryInitializer implements Initializer {
 		}
 	}
 
-	private static Path requireSingleDirectory(Path directory) throws IOException {
+	static Path requireSingleDirectory(Path directory) throws IOException {
 		try (Stream<Path> stream = Files.find(directory, 1, (path, attributes) -> {
 			Path bin = path.resolve("bin");
 			Path lib = path.resolve("lib");
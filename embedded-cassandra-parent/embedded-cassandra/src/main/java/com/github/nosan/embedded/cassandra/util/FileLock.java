@@ -20,10 +20,15 @@ import java.io.IOException;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLockInterruptionException;
 import java.nio.channels.OverlappingFileLockException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apiguardian.api.API;
 import org.slf4j.Logger;
@@ -32,7 +37,12 @@ import org.slf4j.LoggerFactory;
 import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
 
 /**
- * Utility class to lock a file.
+ * Utility class to lock a file. A lock can be either {@link #lock() exclusive} or {@link #lockShared() shared}.
+ * <p>
+ * Within one JVM, locks on the same (canonical) file are coordinated through a lock table, so shared locks are held
+ * concurrently and threads waiting for an exclusive lock are parked on a {@link Condition} rather than polling. Only
+ * one operating system lock per file is held by the JVM at any time. Timed acquisitions do not wait longer than the
+ * given timeout, even if another thread is blocked acquiring the operating system lock.
  *
  * @author Dmytro Nosan
  * @see java.nio.channels.FileLock
@@ -43,13 +53,16 @@ public final class FileLock implements AutoCloseable {
 
 	private static final Logger log = LoggerFactory.getLogger(FileLock.class);
 
+	private static final Map<Path, LocalLock> locks = new HashMap<>();
+
 	private final Path file;
 
 	@Nullable
-	private FileChannel fileChannel;
+	private LocalLock localLock;
 
-	@Nullable
-	private java.nio.channels.FileLock fileLock;
+	private boolean shared;
+
+	private Duration waitTime = Duration.ZERO;
 
 	/**
 	 * Creates a new {@link FileLock}.
@@ -68,34 +81,91 @@ public final class FileLock implements AutoCloseable {
 	 * @throws java.io.IOException If some other I/O error occurs
 	 */
 	public void lock() throws IOException, FileLockInterruptionException {
-		Path file = this.file;
-		FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
-		this.fileChannel = fileChannel;
-		java.nio.channels.FileLock fileLock;
-		if (log.isDebugEnabled()) {
-			log.debug("Acquires a lock to the file '{}' ...", file);
-		}
-		while ((fileLock = tryLock(fileChannel)) == null) {
-			try {
-				Thread.sleep(100);
-			}
-			catch (InterruptedException ex) {
-				throw new FileLockInterruptionException();
-			}
-		}
-		this.fileLock = fileLock;
-		if (log.isDebugEnabled()) {
-			log.debug("The lock to the file '{}' has been acquired", file);
-		}
+		acquire(false, -1);
+	}
+
+	/**
+	 * Acquires a shared lock on the file.
+	 *
+	 * @throws java.nio.channels.FileLockInterruptionException If the invoking thread is interrupted while blocked in
+	 * this method
+	 * @throws java.io.IOException If some other I/O error occurs
+	 * @since 1.4.3
+	 */
+	public void lockShared() throws IOException, FileLockInterruptionException {
+		acquire(true, -1);
+	}
+
+	/**
+	 * Acquires an exclusive lock on the file, waiting no longer than the given timeout.
+	 *
+	 * @param timeout the maximum time to wait
+	 * @return {@code true} if the lock has been acquired, otherwise {@code false}
+	 * @throws java.nio.channels.FileLockInterruptionException If the invoking thread is interrupted while blocked in
+	 * this method
+	 * @throws java.io.IOException If some other I/O error occurs
+	 * @since 1.4.3
+	 */
+	public boolean tryLock(Duration timeout) throws IOException, FileLockInterruptionException {
+		Objects.requireNonNull(timeout, "Timeout must not be null");
+		return acquire(false, Math.max(0, timeout.toNanos()));
+	}
+
+	/**
+	 * Acquires a shared lock on the file, waiting no longer than the given timeout.
+	 *
+	 * @param timeout the maximum time to wait
+	 * @return {@code true} if the lock has been acquired, otherwise {@code false}
+	 * @throws java.nio.channels.FileLockInterruptionException If the invoking thread is interrupted while blocked in
+	 * this method
+	 * @throws java.io.IOException If some other I/O error occurs
+	 * @since 1.4.3
+	 */
+	public boolean tryLockShared(Duration timeout) throws IOException, FileLockInterruptionException {
+		Objects.requireNonNull(timeout, "Timeout must not be null");
+		return acquire(true, Math.max(0, timeout.toNanos()));
+	}
+
+	/**
+	 * Tells whether this lock is held or not.
+	 *
+	 * @return {@code true} if this lock is held
+	 * @since 1.4.3
+	 */
+	public boolean isLocked() {
+		return this.localLock != null;
+	}
+
+	/**
+	 * Tells whether this lock is shared or not.
+	 *
+	 * @return {@code true} if this lock is shared
+	 * @since 1.4.3
+	 */
+	public boolean isShared() {
+		return this.shared;
+	}
+
+	/**
+	 * Returns how long the last acquisition of this lock has been waiting.
+	 *
+	 * @return the wait time
+	 * @since 1.4.3
+	 */
+	public Duration getWaitTime() {
+		return this.waitTime;
 	}
 
 	/**
 	 * Releases this lock.
 	 */
 	public void release() {
-		close(() -> Files.deleteIfExists(this.file));
-		close(this.fileLock);
-		close(this.fileChannel);
+		LocalLock localLock = this.localLock;
+		if (localLock != null) {
+			localLock.release(this.shared);
+			release(localLock);
+		}
+		this.localLock = null;
 	}
 
 	/**
@@ -106,13 +176,51 @@ public final class FileLock implements AutoCloseable {
 		release();
 	}
 
-	@Nullable
-	private static java.nio.channels.FileLock tryLock(FileChannel fileChannel) throws IOException {
+	private boolean acquire(boolean shared, long timeout) throws IOException {
+		if (this.localLock != null) {
+			throw new IllegalStateException(String.format("The lock to the file '%s' has already been acquired",
+					this.file));
+		}
+		Path file = this.file;
+		long start = System.nanoTime();
+		if (log.isDebugEnabled()) {
+			log.debug("Acquires a {} lock to the file '{}' ...", shared ? "shared" : "exclusive", file);
+		}
+		LocalLock localLock = getLocalLock(file);
 		try {
-			return fileChannel.lock();
+			if (!localLock.acquire(file, shared, timeout)) {
+				release(localLock);
+				return false;
+			}
+		}
+		catch (IOException | RuntimeException | Error ex) {
+			release(localLock);
+			throw ex;
+		}
+		this.localLock = localLock;
+		this.shared = shared;
+		this.waitTime = Duration.ofNanos(System.nanoTime() - start);
+		if (log.isDebugEnabled()) {
+			log.debug("The {} lock to the file '{}' has been acquired ({} ms)", shared ? "shared" : "exclusive", file,
+					this.waitTime.toMillis());
 		}
-		catch (OverlappingFileLockException ex) {
-			return null;
+		return true;
+	}
+
+	private static LocalLock getLocalLock(Path file) throws IOException {
+		Path key = file.toFile().getCanonicalFile().toPath();
+		synchronized (locks) {
+			LocalLock localLock = locks.computeIfAbsent(key, LocalLock::new);
+			localLock.references++;
+			return localLock;
+		}
+	}
+
+	private static void release(LocalLock localLock) {
+		synchronized (locks) {
+			if (--localLock.references == 0) {
+				locks.remove(localLock.file);
+			}
 		}
 	}
 
@@ -129,4 +237,227 @@ public final class FileLock implements AutoCloseable {
 		}
 	}
 
+	/**
+	 * JVM-wide state of the lock file. Holds the operating system lock while at least one {@link FileLock} is
+	 * acquired. The state is not bound to a thread, so a lock can be released by any thread.
+	 */
+	private static final class LocalLock {
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Condition released = this.lock.newCondition();
+
+		private final ReentrantLock fileLockLock = new ReentrantLock();
+
+		private final Path file;
+
+		private int references;
+
+		private int readers;
+
+		private int waitingWriters;
+
+		private boolean writer;
+
+		private int holders;
+
+		@Nullable
+		private FileChannel fileChannel;
+
+		@Nullable
+		private java.nio.channels.FileLock fileLock;
+
+		LocalLock(Path file) {
+			this.file = file;
+		}
+
+		boolean acquire(Path file, boolean shared, long timeout) throws IOException {
+			long start = System.nanoTime();
+			try {
+				if (!acquire(shared, timeout)) {
+					return false;
+				}
+			}
+			catch (InterruptedException ex) {
+				throw new FileLockInterruptionException();
+			}
+			try {
+				long rem = (timeout < 0) ? -1 : Math.max(0, timeout - (System.nanoTime() - start));
+				if (!lock(file, shared, rem)) {
+					releaseLocal(shared);
+					return false;
+				}
+				return true;
+			}
+			catch (IOException | RuntimeException | Error ex) {
+				releaseLocal(shared);
+				throw ex;
+			}
+		}
+
+		void release(boolean shared) {
+			unlock();
+			releaseLocal(shared);
+		}
+
+		private boolean acquire(boolean shared, long timeout) throws InterruptedException {
+			ReentrantLock lock = this.lock;
+			lock.lockInterruptibly();
+			try {
+				if (!shared) {
+					this.waitingWriters++;
+				}
+				try {
+					long nanos = timeout;
+					while (shared ? (this.writer || this.waitingWriters > 0) : (this.writer || this.readers > 0)) {
+						if (timeout < 0) {
+							this.released.await();
+						}
+						else if (nanos <= 0) {
+							return false;
+						}
+						else {
+							nanos = this.released.awaitNanos(nanos);
+						}
+					}
+					if (shared) {
+						this.readers++;
+					}
+					else {
+						this.writer = true;
+					}
+					return true;
+				}
+				finally {
+					if (!shared) {
+						this.waitingWriters--;
+						this.released.signalAll();
+					}
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void releaseLocal(boolean shared) {
+			ReentrantLock lock = this.lock;
+			lock.lock();
+			try {
+				if (shared) {
+					this.readers--;
+				}
+				else {
+					this.writer = false;
+				}
+				this.released.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private boolean lock(Path file, boolean shared, long timeout) throws IOException {
+			long start = System.nanoTime();
+			ReentrantLock lock = this.fileLockLock;
+			try {
+				if (timeout < 0) {
+					lock.lockInterruptibly();
+				}
+				else if (!lock.tryLock(timeout, TimeUnit.NANOSECONDS)) {
+					return false;
+				}
+			}
+			catch (InterruptedException ex) {
+				throw new FileLockInterruptionException();
+			}
+			try {
+				if (this.holders == 0) {
+					long rem = (timeout < 0) ? -1 : Math.max(0, timeout - (System.nanoTime() - start));
+					FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ,
+							StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+					try {
+						java.nio.channels.FileLock fileLock = lock(fileChannel, shared, rem);
+						if (fileLock == null) {
+							close(fileChannel);
+							return false;
+						}
+						this.fileChannel = fileChannel;
+						this.fileLock = fileLock;
+					}
+					catch (IOException | RuntimeException | Error ex) {
+						close(fileChannel);
+						throw ex;
+					}
+				}
+				this.holders++;
+				return true;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void unlock() {
+			ReentrantLock lock = this.fileLockLock;
+			lock.lock();
+			try {
+				if (--this.holders == 0) {
+					close(this.fileLock);
+					close(this.fileChannel);
+					this.fileLock = null;
+					this.fileChannel = null;
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Nullable
+		private static java.nio.channels.FileLock lock(FileChannel fileChannel, boolean shared, long timeout)
+				throws IOException {
+			long start = System.nanoTime();
+			while (true) {
+				java.nio.channels.FileLock fileLock = (timeout < 0) ? lock(fileChannel, shared)
+						: tryLock(fileChannel, shared);
+				if (fileLock != null) {
+					return fileLock;
+				}
+				long rem = timeout - (System.nanoTime() - start);
+				if (timeout >= 0 && rem <= 0) {
+					return null;
+				}
+				try {
+					Thread.sleep((timeout < 0) ? 100 : Math.min(TimeUnit.NANOSECONDS.toMillis(rem) + 1, 100));
+				}
+				catch (InterruptedException ex) {
+					throw new FileLockInterruptionException();
+				}
+			}
+		}
+
+		@Nullable
+		private static java.nio.channels.FileLock lock(FileChannel fileChannel, boolean shared) throws IOException {
+			try {
+				return fileChannel.lock(0, Long.MAX_VALUE, shared);
+			}
+			catch (OverlappingFileLockException ex) {
+				return null;
+			}
+		}
+
+		@Nullable
+		private static java.nio.channels.FileLock tryLock(FileChannel fileChannel, boolean shared)
+				throws IOException {
+			try {
+				return fileChannel.tryLock(0, Long.MAX_VALUE, shared);
+			}
+			catch (OverlappingFileLockException ex) {
+				return null;
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link Cassandra}.
+ *
+ * @author Dmytro Nosan
+ */
+class CassandraTests {
+
+	@Test
+	void startAsync() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		Settings settings = new Settings() {
+
+		};
+		Cassandra cassandra = new Cassandra() {
+
+			@Override
+			public void start() {
+				try {
+					latch.await();
+				}
+				catch (InterruptedException ex) {
+					throw new CassandraInterruptedException(ex);
+				}
+			}
+
+			@Override
+			public void stop() {
+			}
+
+			@Override
+			public Settings getSettings() {
+				return settings;
+			}
+
+		};
+		CompletableFuture<Settings> future = cassandra.startAsync();
+		assertThat(future).isNotDone();
+		latch.countDown();
+		assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(settings);
+	}
+
+	@Test
+	void stopAsyncFailed() {
+		Cassandra cassandra = new Cassandra() {
+
+			@Override
+			public void start() {
+			}
+
+			@Override
+			public void stop() {
+				throw new CassandraException("Unable to stop Cassandra");
+			}
+
+			@Override
+			public Settings getSettings() {
+				throw new CassandraException("Cassandra is not started");
+			}
+
+		};
+		assertThatThrownBy(() -> cassandra.stopAsync().get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class).hasCauseInstanceOf(CassandraException.class)
+				.hasStackTraceContaining("Unable to stop Cassandra");
+	}
+
+}
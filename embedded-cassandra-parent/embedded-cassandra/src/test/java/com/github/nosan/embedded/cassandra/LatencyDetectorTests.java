@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LatencyDetector}.
+ *
+ * @author Dmytro Nosan
+ */
+class LatencyDetectorTests {
+
+	private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2019, 5, 1, 12, 30, 45);
+
+	private final LatencyDetector detector = new LatencyDetector();
+
+	@Test
+	void shouldDetectGcPauses() {
+		this.detector.accept(event(NodeEvent.Kind.GC_PAUSE, "ParNew GC in 231ms.  CMS Old Gen: 0 -> 1024"));
+		this.detector.accept(event(NodeEvent.Kind.GC_PAUSE, "GC for ConcurrentMarkSweep: 1500 ms for 1 collections"));
+		this.detector.accept(event(NodeEvent.Kind.GC_PAUSE, "Heap is 0.5 full"));
+		LatencyReport report = this.detector.getReport();
+		assertThat(report.getGcPauses()).hasSize(2);
+		LatencyReport.GcPause gcPause = report.getGcPauses().get(0);
+		assertThat(gcPause.getCollector()).isEqualTo("ParNew");
+		assertThat(gcPause.getDuration()).isEqualTo(Duration.ofMillis(231));
+		assertThat(gcPause.getTimestamp()).isEqualTo(TIMESTAMP);
+		assertThat(report.getGcPauses().get(1).getCollector()).isEqualTo("ConcurrentMarkSweep");
+		assertThat(report.getMaxGcPause()).isEqualTo(Duration.ofMillis(1500));
+		assertThat(report.getTotalGcPause()).isEqualTo(Duration.ofMillis(1731));
+	}
+
+	@Test
+	void shouldDetectSlowQueries() {
+		this.detector.accept(event(NodeEvent.Kind.SLOW_QUERY,
+				"<SELECT * FROM ks.tbl LIMIT 100>, time 1234 msec - slow timeout 500 msec"));
+		this.detector.accept(event(NodeEvent.Kind.SLOW_QUERY,
+				"<SELECT * FROM ks.tbl WHERE a > 1>, was slow 3 times: avg/min/max 700/600/800 msec - "
+						+ "slow timeout 500 msec/cross-node"));
+		this.detector.accept(event(NodeEvent.Kind.OTHER, "<SELECT * FROM ks.tbl>, time 1 msec"));
+		LatencyReport report = this.detector.getReport();
+		assertThat(report.getSlowQueries()).hasSize(2);
+		LatencyReport.SlowQuery first = report.getSlowQueries().get(0);
+		assertThat(first.getQuery()).isEqualTo("SELECT * FROM ks.tbl LIMIT 100");
+		assertThat(first.getDuration()).isEqualTo(Duration.ofMillis(1234));
+		assertThat(first.getTimes()).isEqualTo(1);
+		LatencyReport.SlowQuery second = report.getSlowQueries().get(1);
+		assertThat(second.getQuery()).isEqualTo("SELECT * FROM ks.tbl WHERE a > 1");
+		assertThat(second.getDuration()).isEqualTo(Duration.ofMillis(800));
+		assertThat(second.getTimes()).isEqualTo(3);
+		assertThat(report.getMaxSlowQuery()).isEqualTo(Duration.ofMillis(1234));
+	}
+
+	@Test
+	void shouldResetWindow() {
+		this.detector.accept(event(NodeEvent.Kind.GC_PAUSE, "ParNew GC in 231ms."));
+		LatencyReport report = this.detector.reset();
+		assertThat(report.getGcPauses()).hasSize(1);
+		assertThat(this.detector.getReport().isEmpty()).isTrue();
+		assertThat(report.getGcPauses()).hasSize(1);
+	}
+
+	@Test
+	void shouldBuildHistogram() {
+		this.detector.accept(event(NodeEvent.Kind.GC_PAUSE, "ParNew GC in 5ms."));
+		this.detector.accept(event(NodeEvent.Kind.GC_PAUSE, "ParNew GC in 200ms."));
+		this.detector.accept(event(NodeEvent.Kind.GC_PAUSE, "ParNew GC in 201ms."));
+		this.detector.accept(event(NodeEvent.Kind.GC_PAUSE, "G1 Old Generation GC in 20000ms."));
+		Map<Duration, Integer> histogram = this.detector.getReport().getGcPauseHistogram();
+		assertThat(histogram).hasSize(10);
+		assertThat(histogram.get(Duration.ofMillis(10))).isEqualTo(1);
+		assertThat(histogram.get(Duration.ofMillis(50))).isEqualTo(0);
+		assertThat(histogram.get(Duration.ofMillis(200))).isEqualTo(1);
+		assertThat(histogram.get(Duration.ofMillis(500))).isEqualTo(1);
+		assertThat(histogram.get(ChronoUnit.FOREVER.getDuration())).isEqualTo(1);
+	}
+
+	@Test
+	void shouldSubscribeToLatencyEvents() {
+		List<Predicate<? super NodeEvent>> filters = new ArrayList<>();
+		Cassandra cassandra = new Cassandra() {
+
+			@Override
+			public void start() {
+			}
+
+			@Override
+			public void stop() {
+			}
+
+			@Override
+			public Settings getSettings() {
+				return new Settings() {
+
+				};
+			}
+
+			@Override
+			public NodeEvent.Subscription subscribe(Predicate<? super NodeEvent> filter,
+					Consumer<? super NodeEvent> subscriber) {
+				filters.add(filter);
+				return () -> filters.remove(filter);
+			}
+
+		};
+		NodeEvent.Subscription subscription = this.detector.subscribe(cassandra);
+		assertThat(filters).hasSize(1);
+		Predicate<? super NodeEvent> filter = filters.get(0);
+		assertThat(filter.test(event(NodeEvent.Kind.GC_PAUSE, "ParNew GC in 5ms."))).isTrue();
+		assertThat(filter.test(event(NodeEvent.Kind.SLOW_QUERY, "<SELECT>, time 1 msec"))).isTrue();
+		assertThat(filter.test(event(NodeEvent.Kind.COMPACTION, "Compacted"))).isFalse();
+		subscription.close();
+		assertThat(filters).isEmpty();
+	}
+
+	private static NodeEvent event(NodeEvent.Kind kind, String message) {
+		return new NodeEvent(kind, "INFO", "Service Thread", TIMESTAMP, "GCInspector", message);
+	}
+
+}
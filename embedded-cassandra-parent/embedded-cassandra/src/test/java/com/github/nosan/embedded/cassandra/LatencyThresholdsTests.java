@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link LatencyThresholds}.
+ *
+ * @author Dmytro Nosan
+ */
+class LatencyThresholdsTests {
+
+	private final LatencyReport report = new LatencyReport(
+			Arrays.asList(new LatencyReport.GcPause(null, "ParNew", Duration.ofMillis(300)),
+					new LatencyReport.GcPause(null, "ParNew", Duration.ofMillis(400))),
+			Collections.singletonList(new LatencyReport.SlowQuery(null, "SELECT * FROM ks.tbl",
+					Duration.ofMillis(1200), 1)));
+
+	@Test
+	void shouldNotVerifyUnsetLimits() {
+		LatencyThresholds thresholds = new LatencyThresholds();
+		assertThat(thresholds.getViolations(this.report)).isEmpty();
+		thresholds.verify(this.report);
+	}
+
+	@Test
+	void shouldReportViolations() {
+		LatencyThresholds thresholds = new LatencyThresholds();
+		thresholds.setMaxGcPause(Duration.ofMillis(500));
+		thresholds.setMaxTotalGcPause(Duration.ofMillis(600));
+		thresholds.setMaxSlowQuery(Duration.ofSeconds(1));
+		thresholds.setMaxSlowQueries(0);
+		assertThat(thresholds.getViolations(this.report)).containsExactly("Total GC pause of 700 ms exceeds 600 ms",
+				"Query <SELECT * FROM ks.tbl> of 1200 ms exceeds 1000 ms", "1 slow queries exceed 0");
+	}
+
+	@Test
+	void shouldFailOnViolation() {
+		LatencyThresholds thresholds = new LatencyThresholds();
+		thresholds.setMaxGcPause(Duration.ofMillis(350));
+		assertThatThrownBy(() -> thresholds.verify(this.report)).isInstanceOf(AssertionError.class)
+				.hasMessageContaining("GC pause of 400 ms exceeds 350 ms");
+		thresholds.setFailOnViolation(false);
+		thresholds.verify(this.report);
+	}
+
+}
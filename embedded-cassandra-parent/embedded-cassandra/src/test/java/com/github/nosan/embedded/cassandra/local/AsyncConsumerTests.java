@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AsyncConsumer}.
+ *
+ * @author Dmytro Nosan
+ */
+class AsyncConsumerTests {
+
+	@Test
+	void shouldDeliverLinesInOrder() throws InterruptedException {
+		List<String> lines = new CopyOnWriteArrayList<>();
+		AsyncConsumer consumer = new AsyncConsumer(lines::add, 4, OutputOverflow.BLOCK, Thread::new);
+		List<String> expected = IntStream.range(0, 1000).mapToObj(String::valueOf).collect(Collectors.toList());
+		expected.forEach(consumer);
+		consumer.close();
+		assertThat(lines).isEqualTo(expected);
+		assertThat(consumer.getDropped()).isZero();
+		consumer.accept("closed");
+		assertThat(lines).endsWith("closed");
+	}
+
+	@Test
+	void shouldDropLinesIfBufferIsFull() throws InterruptedException {
+		List<String> lines = new CopyOnWriteArrayList<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		AsyncConsumer consumer = new AsyncConsumer(line -> {
+			try {
+				latch.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			lines.add(line);
+		}, 4, OutputOverflow.DROP, Thread::new);
+		IntStream.range(0, 100).mapToObj(String::valueOf).forEach(consumer);
+		latch.countDown();
+		consumer.close();
+		assertThat(consumer.getDropped()).isGreaterThan(0);
+		assertThat(lines.size() + consumer.getDropped()).isEqualTo(100);
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+
+import com.github.nosan.embedded.cassandra.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CassandraDaemonCommandLine}.
+ *
+ * @author Dmytro Nosan
+ */
+class CassandraDaemonCommandLineTests {
+
+	private Path workingDirectory;
+
+	@BeforeEach
+	void setUp(@TempDir Path temporaryFolder) throws IOException {
+		this.workingDirectory = temporaryFolder.toAbsolutePath();
+		Files.createDirectories(this.workingDirectory.resolve("conf"));
+		Files.createDirectories(this.workingDirectory.resolve("lib/jsr223/jruby"));
+		Files.write(this.workingDirectory.resolve("conf/jvm.options"),
+				Arrays.asList("# comment", "-ea", "-Xss256k", "", "-XX:+UseConcMarkSweepGC", "#-Xmx4G"));
+		Files.createFile(this.workingDirectory.resolve("conf/hotspot_compiler"));
+		Files.createFile(this.workingDirectory.resolve("lib/jamm-0.3.0.jar"));
+		Files.createFile(this.workingDirectory.resolve("lib/apache-cassandra-3.11.3.jar"));
+		Files.createFile(this.workingDirectory.resolve("lib/jsr223/jruby/jruby.jar"));
+		Files.createFile(this.workingDirectory.resolve("lib/README.txt"));
+	}
+
+	@Test
+	void buildCommand() throws IOException {
+		Map<String, String> environment = new HashMap<>();
+		environment.put("MAX_HEAP_SIZE", "512M");
+		environment.put("HEAP_NEWSIZE", "128M");
+		List<String> command = getCommand(Collections.singletonList("-Dcassandra.rpc_port=9160"), environment);
+		Path lib = this.workingDirectory.resolve("lib");
+		Path conf = this.workingDirectory.resolve("conf");
+
+		assertThat(command).contains("-ea", "-Xss256k", "-XX:+UseConcMarkSweepGC", "-Xms512M", "-Xmx512M",
+				"-Xmn128M", "-Dcassandra.jmx.local.port=7199", "-Dcassandra.rpc_port=9160",
+				"-XX:CompileCommandFile=" + conf.resolve("hotspot_compiler"),
+				"-javaagent:" + lib.resolve("jamm-0.3.0.jar"),
+				"-Dcassandra.logdir=" + this.workingDirectory.resolve("logs"),
+				"-Dcassandra.storagedir=" + this.workingDirectory.resolve("data"), "-Dcassandra-foreground=yes");
+		assertThat(command).doesNotContain("#-Xmx4G", "# comment");
+		assertThat(command).endsWith("-cp", String.join(File.pathSeparator, conf.toString(),
+				lib.resolve("apache-cassandra-3.11.3.jar").toString(), lib.resolve("jamm-0.3.0.jar").toString(),
+				lib.resolve("jsr223/jruby/jruby.jar").toString()), "org.apache.cassandra.service.CassandraDaemon");
+	}
+
+	@Test
+	void explicitHeapIsNotOverridden() throws IOException {
+		List<String> command = getCommand(Arrays.asList("-Xmx256m", "-Xmn64m"), Collections.emptyMap());
+		assertThat(command).contains("-Xmx256m", "-Xmn64m");
+		assertThat(command.stream().filter(option -> option.startsWith("-Xm"))).hasSize(2);
+	}
+
+	private List<String> getCommand(List<String> jvmOptions, Map<String, String> environment) throws IOException {
+		try (InputStream is = getClass().getResourceAsStream("/cassandra.yaml")) {
+			Version version = new Version(3, 11, 3);
+			NodeSettings settings = new NodeSettings(version, new Yaml().loadAs(is, Map.class));
+			JvmParameters jvmParameters = new JvmParameters(jvmOptions, 7199, settings,
+					PortAllocator.create(this.workingDirectory));
+			return new CassandraDaemonCommandLine(this.workingDirectory, version, null, jvmParameters, environment,
+					null).getCommand();
+		}
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ChildFirstClassLoader}.
+ *
+ * @author Dmytro Nosan
+ */
+class ChildFirstClassLoaderTests {
+
+	@Test
+	void shouldFindOwnResourcesFirst(@TempDir Path temporaryFolder) throws IOException {
+		Path file = temporaryFolder.resolve("cassandra.yaml");
+		Files.write(file, Collections.singletonList("child"));
+		ClassLoader parent = getClass().getClassLoader();
+		assertThat(parent.getResource("cassandra.yaml")).isNotNull();
+		try (ChildFirstClassLoader classLoader = new ChildFirstClassLoader(
+				new URL[]{temporaryFolder.toUri().toURL()}, parent)) {
+			assertThat(classLoader.getResource("cassandra.yaml")).isEqualTo(file.toUri().toURL());
+			assertThat(Collections.list(classLoader.getResources("cassandra.yaml")))
+					.containsExactly(file.toUri().toURL());
+			assertThat(classLoader.getResource("logback-test.xml")).isEqualTo(parent.getResource("logback-test.xml"));
+		}
+	}
+
+	@Test
+	void shouldDelegateToParent(@TempDir Path temporaryFolder) throws Exception {
+		ClassLoader parent = getClass().getClassLoader();
+		try (ChildFirstClassLoader classLoader = new ChildFirstClassLoader(
+				new URL[]{temporaryFolder.toUri().toURL()}, parent)) {
+			assertThat(classLoader.loadClass(String.class.getName())).isSameAs(String.class);
+			assertThat(classLoader.loadClass(getClass().getName())).isSameAs(getClass());
+		}
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ClassDataSharing}.
+ *
+ * @author Dmytro Nosan
+ */
+class ClassDataSharingTests {
+
+	private Path artifactDirectory;
+
+	private List<String> classpath;
+
+	@BeforeEach
+	void setUp(@TempDir Path temporaryFolder) throws IOException {
+		this.artifactDirectory = temporaryFolder;
+		Path home = temporaryFolder.resolve("apache-cassandra");
+		Files.createDirectories(home.resolve("bin"));
+		Files.createDirectories(home.resolve("lib"));
+		Files.createDirectories(home.resolve("conf"));
+		Files.createFile(home.resolve("bin/cassandra"));
+		Files.createFile(home.resolve("conf/cassandra.yaml"));
+		Path jar = Files.createFile(home.resolve("lib/apache-cassandra.jar"));
+		this.classpath = Collections.singletonList(jar.toString());
+	}
+
+	@Test
+	void shouldGenerateAndUseArchive() throws Exception {
+		ClassDataSharing generator = new ClassDataSharing(this.artifactDirectory);
+		assertThat(generator.getLibDirectory()).isEqualTo(this.artifactDirectory.resolve("apache-cassandra/lib"));
+		List<String> options = generator.getJvmOptions("java", 17, this.classpath);
+		assertThat(options).hasSize(1);
+		assertThat(options.get(0)).startsWith("-XX:ArchiveClassesAtExit=");
+
+		//the archive is being generated
+		assertThat(new ClassDataSharing(this.artifactDirectory).getJvmOptions("java", 17, this.classpath)).isEmpty();
+
+		Path tmpArchive = this.artifactDirectory.resolve(options.get(0).substring(options.get(0).indexOf('=') + 1));
+		Files.write(tmpArchive, new byte[]{1, 2, 3});
+		generator.complete(Thread::new);
+		assertThat(tmpArchive).doesNotExist();
+
+		List<String> sharedOptions = new ClassDataSharing(this.artifactDirectory)
+				.getJvmOptions("java", 17, this.classpath);
+		assertThat(sharedOptions).hasSize(2).contains("-Xshare:auto");
+		assertThat(sharedOptions.get(0)).startsWith("-XX:SharedArchiveFile=").endsWith(".jsa");
+	}
+
+	@Test
+	void shouldRegenerateArchiveIfClasspathChanged() throws Exception {
+		ClassDataSharing generator = new ClassDataSharing(this.artifactDirectory);
+		String option = generator.getJvmOptions("java", 17, this.classpath).get(0);
+		Files.write(this.artifactDirectory.resolve(option.substring(option.indexOf('=') + 1)), new byte[]{1});
+		generator.complete(Thread::new);
+
+		Files.write(this.artifactDirectory.resolve("apache-cassandra/lib/apache-cassandra.jar"), new byte[]{1, 2});
+		ClassDataSharing regenerator = new ClassDataSharing(this.artifactDirectory);
+		List<String> options = regenerator.getJvmOptions("java", 17, this.classpath);
+		regenerator.complete(Thread::new);
+		assertThat(options).hasSize(1);
+		assertThat(options.get(0)).startsWith("-XX:ArchiveClassesAtExit=");
+	}
+
+	@Test
+	void shouldShareArchiveBetweenWorkingDirectories() throws Exception {
+		String jar = this.classpath.get(0);
+		Path conf1 = Files.createDirectories(this.artifactDirectory.resolve("work1/conf"));
+		Path conf2 = Files.createDirectories(this.artifactDirectory.resolve("work2/conf"));
+		Files.createFile(conf2.resolve("cassandra.yaml"));
+		ClassDataSharing generator = new ClassDataSharing(this.artifactDirectory);
+		String option = generator.getJvmOptions("java", 17, Arrays.asList(jar, conf1.toString())).get(0);
+		Path tmpArchive = this.artifactDirectory.resolve(option.substring(option.indexOf('=') + 1));
+		Files.write(tmpArchive, new byte[]{1});
+		generator.complete(Thread::new);
+
+		List<String> options = new ClassDataSharing(this.artifactDirectory)
+				.getJvmOptions("java", 17, Arrays.asList(jar, conf2.toString()));
+		assertThat(options).hasSize(2).contains("-Xshare:auto");
+		assertThat(options.get(0)).isEqualTo("-XX:SharedArchiveFile=" + tmpArchive.toString()
+				.substring(0, tmpArchive.toString().length() - ".tmp".length()));
+		try (Stream<Path> files = Files.list(this.artifactDirectory.resolve(".cds"))) {
+			assertThat(files.filter(file -> file.toString().endsWith(".jsa"))).hasSize(1);
+		}
+	}
+
+	@Test
+	void shouldRecordClassListOnJava11() throws Exception {
+		ClassDataSharing generator = new ClassDataSharing(this.artifactDirectory);
+		List<String> options = generator.getJvmOptions("java", 11, this.classpath);
+		generator.complete(Thread::new);
+		assertThat(options).hasSize(1);
+		assertThat(options.get(0)).startsWith("-XX:DumpLoadedClassList=");
+	}
+
+	@Test
+	void shouldNotBeUsedOnJava8() throws IOException {
+		assertThat(new ClassDataSharing(this.artifactDirectory).getJvmOptions("java", 8, this.classpath)).isEmpty();
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ConfigurationUtils}.
+ *
+ * @author Dmytro Nosan
+ */
+class ConfigurationUtilsTests {
+
+	@Test
+	void shouldLoadProperties(@TempDir Path temporaryFolder) throws IOException {
+		createFile(temporaryFolder, "native_transport_port: 9042", "rpc_address: localhost");
+		Map<?, ?> properties = ConfigurationUtils.getProperties(temporaryFolder);
+		assertThat(properties).hasSize(2);
+		assertThat(properties.get("native_transport_port")).isEqualTo(9042);
+		assertThat(properties.get("rpc_address")).isEqualTo("localhost");
+	}
+
+	@Test
+	void shouldLoadEmptyProperties(@TempDir Path temporaryFolder) throws IOException {
+		createFile(temporaryFolder);
+		assertThat(ConfigurationUtils.getProperties(temporaryFolder)).isEmpty();
+	}
+
+	@Test
+	void shouldFailIfNoFile(@TempDir Path temporaryFolder) {
+		assertThatThrownBy(() -> ConfigurationUtils.getProperties(temporaryFolder)).isInstanceOf(IOException.class);
+	}
+
+	private static void createFile(Path directory, String... lines) throws IOException {
+		Path file = directory.resolve("conf/cassandra.yaml");
+		Files.createDirectories(file.getParent());
+		Files.write(file, Arrays.asList(lines));
+	}
+
+}
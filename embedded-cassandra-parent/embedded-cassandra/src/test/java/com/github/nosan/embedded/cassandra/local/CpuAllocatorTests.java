@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CpuAllocator}.
+ *
+ * @author Dmytro Nosan
+ */
+class CpuAllocatorTests {
+
+	@Test
+	void shouldAllocateFromHighestCores(@TempDir Path temporaryFolder) throws Exception {
+		CpuAllocator allocator = new CpuAllocator(temporaryFolder.resolve("cpu.leases"), 8);
+		CpuAllocator.Lease first = allocator.allocate(2);
+		CpuAllocator.Lease second = allocator.allocate(3);
+		assertThat(first).isNotNull();
+		assertThat(second).isNotNull();
+		assertThat(first.getCpuList()).isEqualTo("6,7");
+		assertThat(second.getCpuList()).isEqualTo("3,4,5");
+		assertThat(allocator.allocate(4)).isNull();
+		allocator.release(first);
+		CpuAllocator.Lease third = allocator.allocate(4);
+		assertThat(third).isNotNull();
+		assertThat(third.getCpuList()).isEqualTo("1,2,6,7");
+	}
+
+	@Test
+	void shouldAllocateFromAllowedCores(@TempDir Path temporaryFolder) throws Exception {
+		CpuAllocator allocator = new CpuAllocator(temporaryFolder.resolve("cpu.leases"),
+				CpuAllocator.parseCpuList("2,4-5,9\n"));
+		CpuAllocator.Lease first = allocator.allocate(2);
+		CpuAllocator.Lease second = allocator.allocate(2);
+		assertThat(first).isNotNull();
+		assertThat(second).isNotNull();
+		assertThat(first.getCpuList()).isEqualTo("5,9");
+		assertThat(second.getCpuList()).isEqualTo("2,4");
+		assertThat(allocator.allocate(1)).isNull();
+	}
+
+	@Test
+	void shouldParseCpuList() {
+		assertThat(CpuAllocator.parseCpuList("0-3,8,10-11")).containsExactly(0, 1, 2, 3, 8, 10, 11);
+		assertThat(CpuAllocator.parseCpuList("\t4-7\n")).containsExactly(4, 5, 6, 7);
+	}
+
+	@Test
+	@EnabledOnOs(OS.LINUX)
+	void shouldReadAllowedCores() {
+		assertThat(CpuAllocator.getAllowedCores()).isNotEmpty().allMatch(core -> core >= 0);
+	}
+
+	@Test
+	@EnabledOnOs(OS.LINUX)
+	void shouldReclaimLeasesOfDeadProcesses(@TempDir Path temporaryFolder) throws Exception {
+		Path leaseFile = temporaryFolder.resolve("cpu.leases");
+		Files.write(leaseFile, Collections.singletonList(Integer.MAX_VALUE + " 1 2,3"), StandardCharsets.UTF_8);
+		CpuAllocator allocator = new CpuAllocator(leaseFile, 4);
+		CpuAllocator.Lease lease = allocator.allocate(4);
+		assertThat(lease).isNotNull();
+		assertThat(lease.getCpuList()).isEqualTo("0,1,2,3");
+	}
+
+}
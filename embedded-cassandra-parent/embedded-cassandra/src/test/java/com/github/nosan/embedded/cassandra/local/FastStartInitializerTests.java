@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+
+import com.github.nosan.embedded.cassandra.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FastStartInitializer}.
+ *
+ * @author Dmytro Nosan
+ */
+class FastStartInitializerTests {
+
+	@Test
+	void shouldApplyProfile(@TempDir Path temporaryFolder) throws IOException {
+		Path file = createFile(temporaryFolder, "num_tokens: 256", "start_rpc: true",
+				"partitioner: org.apache.cassandra.dht.Murmur3Partitioner");
+		new FastStartInitializer().initialize(temporaryFolder, new Version(3, 11, 4));
+		Map<?, ?> properties = load(file);
+		assertThat(properties.get("num_tokens")).isEqualTo(1);
+		assertThat(properties.get("initial_token")).isEqualTo(String.valueOf(Long.MIN_VALUE));
+		assertThat(properties.get("start_rpc")).isEqualTo(false);
+	}
+
+	@Test
+	void shouldNotSetStartRpcSince4(@TempDir Path temporaryFolder) throws IOException {
+		Path file = createFile(temporaryFolder, "num_tokens: 256",
+				"partitioner: org.apache.cassandra.dht.RandomPartitioner");
+		new FastStartInitializer().initialize(temporaryFolder, new Version(4, 0, 0));
+		Map<?, ?> properties = load(file);
+		assertThat(properties.get("num_tokens")).isEqualTo(1);
+		assertThat(properties.get("initial_token")).isEqualTo("0");
+		assertThat(properties.containsKey("start_rpc")).isFalse();
+	}
+
+	@Test
+	void shouldKeepExplicitTokens(@TempDir Path temporaryFolder) throws IOException {
+		Path file = createFile(temporaryFolder, "num_tokens: 2", "initial_token: '1,2'", "start_rpc: false");
+		new FastStartInitializer().initialize(temporaryFolder, new Version(3, 11, 4));
+		Map<?, ?> properties = load(file);
+		assertThat(properties.get("num_tokens")).isEqualTo(2);
+		assertThat(properties.get("initial_token")).isEqualTo("1,2");
+	}
+
+	@Test
+	void shouldNotOverrideJvmOptions() {
+		FastStartInitializer initializer = new FastStartInitializer();
+		assertThat(initializer.getJvmOptions(new Version(3, 11, 4), Collections.emptyList())).containsExactly(
+				"-Dcassandra.skip_wait_for_gossip_to_settle=0", "-Dcassandra.ring_delay_ms=1000",
+				"-XX:TieredStopAtLevel=1");
+		assertThat(initializer.getJvmOptions(new Version(2, 0, 17),
+				Arrays.asList("-Dcassandra.ring_delay_ms=5000", "-XX:TieredStopAtLevel=4")))
+				.isEmpty();
+	}
+
+	private static Path createFile(Path directory, String... lines) throws IOException {
+		Path file = directory.resolve("conf/cassandra.yaml");
+		Files.createDirectories(file.getParent());
+		return Files.write(file, Arrays.asList(lines));
+	}
+
+	private static Map<?, ?> load(Path file) throws IOException {
+		try (InputStream is = Files.newInputStream(file)) {
+			return new Yaml().loadAs(is, Map.class);
+		}
+	}
+
+}
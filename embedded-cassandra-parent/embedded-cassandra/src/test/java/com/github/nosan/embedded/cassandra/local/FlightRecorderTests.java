@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.rmi.registry.LocateRegistry;
+import java.rmi.registry.Registry;
+import java.rmi.server.UnicastRemoteObject;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.management.remote.JMXConnectorServer;
+import javax.management.remote.JMXConnectorServerFactory;
+import javax.management.remote.JMXServiceURL;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnJre;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.Settings;
+import com.github.nosan.embedded.cassandra.util.PortUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link FlightRecorder}.
+ *
+ * @author Dmytro Nosan
+ */
+class FlightRecorderTests {
+
+	@Test
+	@DisabledOnJre(JRE.JAVA_8)
+	void shouldRecord(@TempDir Path temporaryFolder) throws Exception {
+		int port = PortUtils.getPort(InetAddress.getLoopbackAddress());
+		Registry registry = LocateRegistry.createRegistry(port);
+		JMXConnectorServer server = JMXConnectorServerFactory.newJMXConnectorServer(
+				new JMXServiceURL(String.format("service:jmx:rmi:///jndi/rmi://localhost:%d/jmxrmi", port)), null,
+				ManagementFactory.getPlatformMBeanServer());
+		server.start();
+		try {
+			Path file = temporaryFolder.resolve("recordings/test.jfr");
+			AtomicBoolean executed = new AtomicBoolean();
+			FlightRecorder.record(new JmxSettings(port), "default", file, () -> executed.set(true));
+			assertThat(executed).isTrue();
+			assertThat(file).exists();
+		}
+		finally {
+			server.stop();
+			UnicastRemoteObject.unexportObject(registry, true);
+		}
+	}
+
+	@Test
+	void unknownPort(@TempDir Path temporaryFolder) {
+		assertThatThrownBy(() -> FlightRecorder.record(new JmxSettings(-1), "default",
+				temporaryFolder.resolve("test.jfr"), () -> {
+				})).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static final class JmxSettings implements Settings {
+
+		private final int jmxLocalPort;
+
+		JmxSettings(int jmxLocalPort) {
+			this.jmxLocalPort = jmxLocalPort;
+		}
+
+		@Override
+		public int getJmxLocalPort() {
+			return this.jmxLocalPort;
+		}
+
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.apache.cassandra.service.CassandraDaemon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link InProcessCassandraNode}.
+ *
+ * @author Dmytro Nosan
+ */
+class InProcessCassandraNodeTests {
+
+	private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+	@Test
+	void shouldUnregisterMBeansAndRefuseSecondActivation(@TempDir Path temporaryFolder) throws Exception {
+		Files.createDirectories(temporaryFolder.resolve("lib"));
+		Files.createDirectories(temporaryFolder.resolve("conf"));
+		Files.write(temporaryFolder.resolve("conf/cassandra.yaml"), Arrays.asList("start_native_transport: false",
+				"start_rpc: false"), StandardCharsets.UTF_8);
+		InProcessCassandraNode node = new InProcessCassandraNode(temporaryFolder, Version.parse("3.11.4"),
+				Duration.ofSeconds(10), Collections.emptyList(), 7199);
+		node.start();
+		ObjectName name = new ObjectName(CassandraDaemon.MBEAN);
+		assertThat(this.server.isRegistered(name)).isTrue();
+		node.stop();
+		assertThat(this.server.isRegistered(name)).isFalse();
+		assertThatThrownBy(node::start).isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("cannot be activated twice");
+	}
+
+	@Test
+	void shouldUnregisterCassandraMBeansOnly() throws Exception {
+		ObjectName metrics = new ObjectName("org.apache.cassandra.metrics:type=Test");
+		ObjectName other = new ObjectName("com.github.nosan:type=Test");
+		try {
+			this.server.registerMBean(new StandardMBean(() -> {
+			}, Runnable.class), metrics);
+			this.server.registerMBean(new StandardMBean(() -> {
+			}, Runnable.class), other);
+			InProcessCassandraNode.unregisterMBeans(this.server);
+			assertThat(this.server.isRegistered(metrics)).isFalse();
+			assertThat(this.server.isRegistered(other)).isTrue();
+		}
+		finally {
+			if (this.server.isRegistered(other)) {
+				this.server.unregisterMBean(other);
+			}
+		}
+	}
+
+}
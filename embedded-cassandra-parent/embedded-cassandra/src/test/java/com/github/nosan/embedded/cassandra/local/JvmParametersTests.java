@@ -18,12 +18,15 @@ package com.github.nosan.embedded.cassandra.local;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.yaml.snakeyaml.Yaml;
 
 import com.github.nosan.embedded.cassandra.Version;
@@ -38,7 +41,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 class JvmParametersTests {
 
 	@Test
-	void randomizePorts() throws IOException {
+	void randomizePorts(@TempDir Path temporaryFolder) throws IOException {
 		List<String> options = new ArrayList<>();
 		options.add("java.rmi.server.hostname=127.0.0.1");
 		options.add("-Dcassandra.native_transport_port=0");
@@ -47,17 +50,20 @@ class JvmParametersTests {
 		options.add("-Dcassandra.ssl_storage_port=0");
 		options.add("-Dcassandra.jmx.local.port=0");
 		options.add("-Dcassandra.jmx.remote.port=0");
-		JvmParameters jvmParameters = new JvmParameters(options, 0, settings());
+		JvmParameters jvmParameters = new JvmParameters(options, 0, settings(), portAllocator(temporaryFolder));
 		assertThat(jvmParameters.getPort()).isNotEqualTo(zero());
 		assertThat(jvmParameters.getSslStoragePort()).isNotEqualTo(zero());
 		assertThat(jvmParameters.getRpcPort()).isNotEqualTo(zero());
 		assertThat(jvmParameters.getStoragePort()).isNotEqualTo(zero());
 		assertThat(jvmParameters.getJmxRemotePort()).isNotEqualTo(zero());
 		assertThat(jvmParameters.getJmxLocalPort()).isNotEqualTo(zero());
+		assertThat(Stream.of(jvmParameters.getPort(), jvmParameters.getSslStoragePort(), jvmParameters.getRpcPort(),
+				jvmParameters.getStoragePort(), jvmParameters.getJmxRemotePort(), jvmParameters.getJmxLocalPort())
+				.map(Optional::get)).doesNotHaveDuplicates();
 	}
 
 	@Test
-	void parseJvmOptions() throws IOException {
+	void parseJvmOptions(@TempDir Path temporaryFolder) throws IOException {
 		List<String> options = new ArrayList<>();
 		options.add("-Dcassandra.native_transport_port=9042");
 		options.add("-Dcassandra.rpc_port=9160");
@@ -68,7 +74,7 @@ class JvmParametersTests {
 		options.add("-Dcassandra.start_rpc=true");
 		options.add("-Dcassandra.start_native_transport=true");
 		options.add("-X512m");
-		JvmParameters jvmParameters = new JvmParameters(options, 0, settings());
+		JvmParameters jvmParameters = new JvmParameters(options, 0, settings(), portAllocator(temporaryFolder));
 		assertThat(jvmParameters.getPort()).hasValue(9042);
 		assertThat(jvmParameters.getRpcPort()).hasValue(9160);
 		assertThat(jvmParameters.getSslStoragePort()).hasValue(7001);
@@ -89,6 +95,10 @@ class JvmParametersTests {
 		return Optional.of(0);
 	}
 
+	private static PortAllocator portAllocator(Path temporaryFolder) {
+		return new PortAllocator(temporaryFolder.resolve("port.leases"), "1024-65535", "test");
+	}
+
 	private NodeSettings settings() throws IOException {
 		try (InputStream is = getClass().getResourceAsStream("/cassandra.yaml")) {
 			return new NodeSettings(new Version(3, 11, 3), new Yaml().loadAs(is, Map.class));
@@ -56,7 +56,13 @@ class LocalCassandraFactoryBuilderTests {
 				.setJavaHome(javaDirectory).setTopologyFile(topology).setWorkingDirectory(workingDirectory)
 				.setStartupTimeout(Duration.ofMinutes(1)).setJmxPort(jmxPort).setAllowRoot(true)
 				.setArtifactDirectory(artifactDirectory).setRegisterShutdownHook(false).setDeleteWorkingDirectory(true)
-				.build();
+				.setLaunchMode(LaunchMode.JVM).setClassDataSharing(true).setFastStart(true)
+				.setConcurrentNodes(4).setCpus(2).setReportDirectory(Paths.get("reports")).setDiagnosticsThreshold(0.5)
+				.setFlightRecording("profile").setRecordingName("MyTests").setMetricsInterval(Duration.ofSeconds(5))
+				.setReadinessMode(ReadinessMode.JMX)
+				.setOutputOverflow(OutputOverflow.BLOCK)
+				.setOutputTailLines(50)
+				.setOutputPolicy(OutputPolicy.FILE).build();
 
 		assertThat(factory.getJvmOptions()).containsExactly("1", "2", "3");
 		assertThat(factory.getArtifactFactory()).isEqualTo(artifactFactory);
@@ -73,6 +79,20 @@ class LocalCassandraFactoryBuilderTests {
 		assertThat(factory.isAllowRoot()).isEqualTo(true);
 		assertThat(factory.isRegisterShutdownHook()).isFalse();
 		assertThat(factory.isDeleteWorkingDirectory()).isTrue();
+		assertThat(factory.getLaunchMode()).isEqualTo(LaunchMode.JVM);
+		assertThat(factory.isClassDataSharing()).isTrue();
+		assertThat(factory.isFastStart()).isTrue();
+		assertThat(factory.getConcurrentNodes()).isEqualTo(4);
+		assertThat(factory.getCpus()).isEqualTo(2);
+		assertThat(factory.getReportDirectory()).isEqualTo(Paths.get("reports"));
+		assertThat(factory.getDiagnosticsThreshold()).isEqualTo(0.5);
+		assertThat(factory.getFlightRecording()).isEqualTo("profile");
+		assertThat(factory.getRecordingName()).isEqualTo("MyTests");
+		assertThat(factory.getMetricsInterval()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(factory.getReadinessMode()).isEqualTo(ReadinessMode.JMX);
+		assertThat(factory.getOutputOverflow()).isEqualTo(OutputOverflow.BLOCK);
+		assertThat(factory.getOutputTailLines()).isEqualTo(50);
+		assertThat(factory.getOutputPolicy()).isEqualTo(OutputPolicy.FILE);
 		assertThat(factory.getStartupTimeout()).isEqualTo(Duration.ofMinutes(1));
 	}
 
@@ -93,6 +113,20 @@ class LocalCassandraFactoryBuilderTests {
 		assertThat(factory.getJmxPort()).isEqualTo(7199);
 		assertThat(factory.isAllowRoot()).isFalse();
 		assertThat(factory.isDeleteWorkingDirectory()).isFalse();
+		assertThat(factory.getLaunchMode()).isNull();
+		assertThat(factory.isClassDataSharing()).isFalse();
+		assertThat(factory.isFastStart()).isFalse();
+		assertThat(factory.getConcurrentNodes()).isZero();
+		assertThat(factory.getCpus()).isZero();
+		assertThat(factory.getReportDirectory()).isNull();
+		assertThat(factory.getDiagnosticsThreshold()).isEqualTo(0.0);
+		assertThat(factory.getFlightRecording()).isNull();
+		assertThat(factory.getRecordingName()).isNull();
+		assertThat(factory.getMetricsInterval()).isNull();
+		assertThat(factory.getReadinessMode()).isNull();
+		assertThat(factory.getOutputOverflow()).isNull();
+		assertThat(factory.getOutputTailLines()).isEqualTo(10);
+		assertThat(factory.getOutputPolicy()).isNull();
 		assertThat(factory.isRegisterShutdownHook()).isTrue();
 		assertThat(factory.getStartupTimeout()).isNull();
 
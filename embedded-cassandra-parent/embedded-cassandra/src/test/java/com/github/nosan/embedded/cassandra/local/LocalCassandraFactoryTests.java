@@ -74,6 +74,20 @@ class LocalCassandraFactoryTests {
 		factory.setCommitLogArchivingFile(commitLogArchivingFile);
 		factory.setArtifactDirectory(artifactDirectory);
 		factory.setDeleteWorkingDirectory(true);
+		factory.setLaunchMode(LaunchMode.JVM);
+		factory.setClassDataSharing(true);
+		factory.setFastStart(true);
+		factory.setConcurrentNodes(4);
+		factory.setCpus(2);
+		factory.setReportDirectory(Paths.get("reports"));
+		factory.setDiagnosticsThreshold(0.5);
+		factory.setFlightRecording("profile");
+		factory.setRecordingName("MyTests");
+		factory.setMetricsInterval(Duration.ofSeconds(5));
+		factory.setReadinessMode(ReadinessMode.JMX);
+		factory.setOutputOverflow(OutputOverflow.BLOCK);
+		factory.setOutputTailLines(50);
+		factory.setOutputPolicy(OutputPolicy.FILE);
 
 		Cassandra cassandra = factory.create();
 		assertThat(ReflectionUtils.getField(cassandra, "registerShutdownHook")).isEqualTo(false);
@@ -92,6 +106,20 @@ class LocalCassandraFactoryTests {
 		assertThat(ReflectionUtils.getField(cassandra, "topologyFile")).isEqualTo(topologyFile);
 		assertThat(ReflectionUtils.getField(cassandra, "commitLogArchivingFile")).isEqualTo(commitLogArchivingFile);
 		assertThat(ReflectionUtils.getField(cassandra, "deleteWorkingDirectory")).isEqualTo(true);
+		assertThat(ReflectionUtils.getField(cassandra, "launchMode")).isEqualTo(LaunchMode.JVM);
+		assertThat(ReflectionUtils.getField(cassandra, "classDataSharing")).isEqualTo(true);
+		assertThat(ReflectionUtils.getField(cassandra, "fastStart")).isEqualTo(true);
+		assertThat(ReflectionUtils.getField(cassandra, "concurrentNodes")).isEqualTo(4);
+		assertThat(ReflectionUtils.getField(cassandra, "cpus")).isEqualTo(2);
+		assertThat(ReflectionUtils.getField(cassandra, "reportDirectory")).isEqualTo(Paths.get("reports"));
+		assertThat(ReflectionUtils.getField(cassandra, "diagnosticsThreshold")).isEqualTo(0.5);
+		assertThat(ReflectionUtils.getField(cassandra, "flightRecording")).isEqualTo("profile");
+		assertThat(ReflectionUtils.getField(cassandra, "recordingName")).isEqualTo("MyTests");
+		assertThat(ReflectionUtils.getField(cassandra, "metricsInterval")).isEqualTo(Duration.ofSeconds(5));
+		assertThat(ReflectionUtils.getField(cassandra, "readinessMode")).isEqualTo(ReadinessMode.JMX);
+		assertThat(ReflectionUtils.getField(cassandra, "outputOverflow")).isEqualTo(OutputOverflow.BLOCK);
+		assertThat(ReflectionUtils.getField(cassandra, "outputTailLines")).isEqualTo(50);
+		assertThat(ReflectionUtils.getField(cassandra, "outputPolicy")).isEqualTo(OutputPolicy.FILE);
 	}
 
 	@Test
@@ -118,6 +146,21 @@ class LocalCassandraFactoryTests {
 		assertThat(ReflectionUtils.getField(cassandra, "topologyFile")).isNull();
 		assertThat(ReflectionUtils.getField(cassandra, "commitLogArchivingFile")).isNull();
 		assertThat(ReflectionUtils.getField(cassandra, "deleteWorkingDirectory")).isEqualTo(false);
+		assertThat(ReflectionUtils.getField(cassandra, "launchMode")).isEqualTo(LaunchMode.SCRIPT);
+		assertThat(ReflectionUtils.getField(cassandra, "classDataSharing")).isEqualTo(false);
+		assertThat(ReflectionUtils.getField(cassandra, "fastStart")).isEqualTo(false);
+		assertThat(ReflectionUtils.getField(cassandra, "concurrentNodes")).isEqualTo(0);
+		assertThat(ReflectionUtils.getField(cassandra, "cpus")).isEqualTo(0);
+		assertThat(ReflectionUtils.getField(cassandra, "reportDirectory"))
+				.isEqualTo(FileUtils.getTmpDirectory().resolve("embedded-cassandra/reports"));
+		assertThat(ReflectionUtils.getField(cassandra, "diagnosticsThreshold")).isEqualTo(0.0);
+		assertThat(ReflectionUtils.getField(cassandra, "flightRecording")).isNull();
+		assertThat(ReflectionUtils.getField(cassandra, "recordingName")).isEqualTo("LocalCassandraFactoryTests");
+		assertThat(ReflectionUtils.getField(cassandra, "metricsInterval")).isNull();
+		assertThat(ReflectionUtils.getField(cassandra, "readinessMode")).isEqualTo(ReadinessMode.LOG);
+		assertThat(ReflectionUtils.getField(cassandra, "outputOverflow")).isEqualTo(OutputOverflow.DROP);
+		assertThat(ReflectionUtils.getField(cassandra, "outputTailLines")).isEqualTo(10);
+		assertThat(ReflectionUtils.getField(cassandra, "outputPolicy")).isEqualTo(OutputPolicy.FORWARD);
 	}
 
 }
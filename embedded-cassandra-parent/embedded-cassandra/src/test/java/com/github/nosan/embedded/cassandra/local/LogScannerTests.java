@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LogScanner}.
+ *
+ * @author Dmytro Nosan
+ */
+class LogScannerTests {
+
+	@Test
+	void shouldMatchKeywordsIgnoringCase() {
+		TestRule rule = new TestRule(true, new String[]{"listening", "clients"});
+		LogScanner scanner = new LogScanner(Collections.singletonList(rule));
+		scanner.accept("INFO  Starting Messaging Service on /127.0.0.1:7000 (lo)");
+		assertThat(rule.lines).isEmpty();
+		scanner.accept("INFO  Starting LISTENING for CQL Clients on localhost/127.0.0.1:9042 (unencrypted)...");
+		assertThat(rule.lines).hasSize(1);
+		assertThat(scanner.isDone()).isTrue();
+	}
+
+	@Test
+	void shouldMatchKeywordsInOrder() {
+		TestRule rule = new TestRule(true, new String[]{"listening", "clients"});
+		LogScanner scanner = new LogScanner(Collections.singletonList(rule));
+		scanner.accept("clients are listening");
+		scanner.accept("listening");
+		scanner.accept("clients");
+		assertThat(rule.lines).isEmpty();
+		scanner.accept("clients are listening for clients");
+		assertThat(rule.lines).containsExactly("clients are listening for clients");
+	}
+
+	@Test
+	void shouldMatchOverlappingKeywords() {
+		TestRule first = new TestRule(false, new String[]{"hers"});
+		TestRule second = new TestRule(false, new String[]{"she"}, new String[]{"he"});
+		LogScanner scanner = new LogScanner(Arrays.asList(first, second));
+		scanner.accept("ushers");
+		assertThat(first.positions).containsExactly(2);
+		assertThat(second.positions).containsExactly(1, 2);
+	}
+
+	@Test
+	void shouldRetireSatisfiedRules() {
+		TestRule retired = new TestRule(true, new String[]{"ready"});
+		TestRule active = new TestRule(false, new String[]{"ready"});
+		LogScanner scanner = new LogScanner(Arrays.asList(retired, active));
+		scanner.accept("ready");
+		scanner.accept("ready");
+		assertThat(retired.lines).hasSize(1);
+		assertThat(active.lines).hasSize(2);
+		assertThat(scanner.isDone()).isFalse();
+	}
+
+	@Test
+	void shouldApplyRulesInGivenOrder() {
+		List<String> applied = new ArrayList<>();
+		TestRule address = new TestRule(true, new String[]{":9042"}) {
+
+			@Override
+			public boolean apply(String line, int start, int end) {
+				applied.add("address");
+				return super.apply(line, start, end);
+			}
+
+		};
+		TestRule readiness = new TestRule(true, new String[]{"listening", "clients"}) {
+
+			@Override
+			public boolean apply(String line, int start, int end) {
+				applied.add("readiness");
+				return super.apply(line, start, end);
+			}
+
+		};
+		LogScanner scanner = new LogScanner(Arrays.asList(address, readiness));
+		scanner.accept("Starting listening for CQL clients on localhost/127.0.0.1:9042 (unencrypted)...");
+		assertThat(applied).containsExactly("address", "readiness");
+		assertThat(scanner.isDone()).isTrue();
+	}
+
+	private static class TestRule implements LogScanner.Rule {
+
+		private final List<String> lines = new ArrayList<>();
+
+		private final List<Integer> positions = new ArrayList<>();
+
+		private final boolean retire;
+
+		private final String[][] keywords;
+
+		TestRule(boolean retire, String[]... keywords) {
+			this.retire = retire;
+			this.keywords = keywords;
+		}
+
+		@Override
+		public String[][] getKeywords() {
+			return this.keywords;
+		}
+
+		@Override
+		public boolean apply(String line, int start, int end) {
+			this.lines.add(line);
+			this.positions.add(start);
+			return this.retire;
+		}
+
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.nosan.embedded.cassandra.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link NativeProtocolProbe}.
+ *
+ * @author Dmytro Nosan
+ */
+class NativeProtocolProbeTests {
+
+	private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(5);
+
+	private ServerSocket serverSocket;
+
+	private InetSocketAddress address;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		this.address = new InetSocketAddress(InetAddress.getLoopbackAddress(), this.serverSocket.getLocalPort());
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		this.serverSocket.close();
+	}
+
+	@Test
+	void handshake() {
+		serve(4);
+		assertThat(new NativeProtocolProbe(this.address, new Version(3, 11, 4)).probe(TIMEOUT)).isEqualTo(4);
+	}
+
+	@Test
+	void negotiateVersion() {
+		serve(3);
+		assertThat(new NativeProtocolProbe(this.address, new Version(3, 11, 4)).probe(TIMEOUT)).isEqualTo(3);
+	}
+
+	@Test
+	void legacyVersion() {
+		serve(2);
+		assertThat(new NativeProtocolProbe(this.address, new Version(2, 0, 17)).probe(TIMEOUT)).isEqualTo(2);
+	}
+
+	@Test
+	void notServing() {
+		Thread thread = new Thread(() -> {
+			while (!this.serverSocket.isClosed()) {
+				try {
+					this.serverSocket.accept().close();
+				}
+				catch (IOException ex) {
+					return;
+				}
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+		assertThat(new NativeProtocolProbe(this.address, new Version(3, 11, 4)).probe(TIMEOUT)).isEqualTo(-1);
+	}
+
+	@Test
+	void timeout() {
+		assertThat(new NativeProtocolProbe(this.address, new Version(3, 11, 4))
+				.probe(TimeUnit.MILLISECONDS.toNanos(200))).isEqualTo(-1);
+	}
+
+	private void serve(int maxVersion) {
+		Thread thread = new Thread(() -> {
+			while (!this.serverSocket.isClosed()) {
+				try (Socket socket = this.serverSocket.accept()) {
+					DataInputStream in = new DataInputStream(socket.getInputStream());
+					DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+					while (true) {
+						int version = in.readUnsignedByte();
+						int headerLength = (version >= 3) ? 9 : 8;
+						byte[] header = new byte[headerLength - 1];
+						in.readFully(header);
+						ByteBuffer buffer = ByteBuffer.wrap(header, headerLength - 6, 5);
+						int opcode = buffer.get();
+						int length = buffer.getInt();
+						in.readFully(new byte[length]);
+						if (version > maxVersion) {
+							// protocol error
+							writeHeader(out, maxVersion, 0x00, 4 + 2);
+							out.writeInt(0x000A);
+							out.writeShort(0);
+							out.flush();
+							break;
+						}
+						if (opcode == 0x05) {
+							writeHeader(out, version, 0x06, 2);
+							out.writeShort(0);
+						}
+						else if (opcode == 0x01) {
+							writeHeader(out, version, 0x02, 0);
+						}
+						out.flush();
+					}
+				}
+				catch (IOException ex) {
+					// connection closed
+				}
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private static void writeHeader(DataOutputStream out, int version, int opcode, int length) throws IOException {
+		out.writeByte(0x80 | version);
+		out.writeByte(0);
+		if (version >= 3) {
+			out.writeShort(0);
+		}
+		else {
+			out.writeByte(0);
+		}
+		out.writeByte(opcode);
+		out.writeInt(length);
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.nosan.embedded.cassandra.NodeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link NodeEventBus}.
+ *
+ * @author Dmytro Nosan
+ */
+class NodeEventBusTests {
+
+	@Test
+	void shouldParseGcPause() {
+		NodeEvent event = NodeEventBus.parse("INFO  [Service Thread] 2019-05-01 12:30:45,123 GCInspector.java:284 - "
+				+ "ParNew GC in 231ms.  CMS Old Gen: 0 -> 1024");
+		assertThat(event).isNotNull();
+		assertThat(event.getKind()).isEqualTo(NodeEvent.Kind.GC_PAUSE);
+		assertThat(event.getLevel()).isEqualTo("INFO");
+		assertThat(event.getThread()).isEqualTo("Service Thread");
+		assertThat(event.getTimestamp()).isEqualTo(LocalDateTime.of(2019, 5, 1, 12, 30, 45, 123_000_000));
+		assertThat(event.getLogger()).isEqualTo("GCInspector");
+		assertThat(event.getMessage()).isEqualTo("ParNew GC in 231ms.  CMS Old Gen: 0 -> 1024");
+	}
+
+	@Test
+	void shouldParseKinds() {
+		assertThat(kind("CompactionTask.java:255 - Compacted (a1b2) 4 sstables")).isEqualTo(NodeEvent.Kind.COMPACTION);
+		assertThat(kind("Memtable.java:456 - Writing Memtable-local@1(0.5KiB)")).isEqualTo(NodeEvent.Kind.FLUSH);
+		assertThat(kind("ColumnFamilyStore.java:411 - Enqueuing flush of local")).isEqualTo(NodeEvent.Kind.FLUSH);
+		assertThat(kind("ColumnFamilyStore.java:411 - Initializing system.local")).isEqualTo(NodeEvent.Kind.OTHER);
+		assertThat(kind("MigrationManager.java:331 - Create new Keyspace")).isEqualTo(NodeEvent.Kind.SCHEMA_CHANGE);
+		assertThat(kind("CassandraDaemon.java:471 - Hostname: localhost")).isEqualTo(NodeEvent.Kind.OTHER);
+	}
+
+	@Test
+	void shouldNotParseOtherLayouts() {
+		assertThat(NodeEventBus.parse("Starting listening for CQL clients on localhost/127.0.0.1:9042")).isNull();
+		assertThat(NodeEventBus.parse("INFO  [main] 2019-05-01")).isNull();
+		assertThat(NodeEventBus.parse("")).isNull();
+	}
+
+	@Test
+	void shouldPublishToSubscribers() {
+		NodeEventBus bus = new NodeEventBus();
+		List<NodeEvent> events = new ArrayList<>();
+		NodeEvent.Subscription subscription = bus.subscribe(event -> event.getKind() == NodeEvent.Kind.GC_PAUSE,
+				events::add);
+		bus.accept(line("CassandraDaemon.java:471 - Hostname: localhost"));
+		bus.accept(line("GCInspector.java:284 - ParNew GC in 231ms."));
+		subscription.close();
+		bus.accept(line("GCInspector.java:284 - ParNew GC in 232ms."));
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getMessage()).isEqualTo("ParNew GC in 231ms.");
+	}
+
+	@Test
+	void shouldPublishSlowQueries() {
+		NodeEventBus bus = new NodeEventBus();
+		List<NodeEvent> events = new ArrayList<>();
+		bus.subscribe(event -> event.getKind() == NodeEvent.Kind.SLOW_QUERY, events::add);
+		bus.accept("DEBUG [ScheduledTasks:1] 2019-05-01 12:30:45,123 MonitoringTask.java:173 - "
+				+ "2 operations were slow in the last 5000 msecs:");
+		bus.accept("<SELECT * FROM ks.tbl LIMIT 100>, time 1234 msec - slow timeout 500 msec");
+		bus.accept("<SELECT * FROM ks.tbl WHERE id = 1>, was slow 3 times: avg/min/max 700/600/800 msec - "
+				+ "slow timeout 500 msec");
+		bus.accept(line("CassandraDaemon.java:471 - Hostname: localhost"));
+		bus.accept("<SELECT * FROM ks.other>, time 900 msec - slow timeout 500 msec");
+		assertThat(events).hasSize(2);
+		assertThat(events.get(0).getLogger()).isEqualTo("MonitoringTask");
+		assertThat(events.get(0).getThread()).isEqualTo("ScheduledTasks:1");
+		assertThat(events.get(0).getMessage()).isEqualTo("<SELECT * FROM ks.tbl LIMIT 100>, time 1234 msec - "
+				+ "slow timeout 500 msec");
+		assertThat(events.get(1).getMessage()).startsWith("<SELECT * FROM ks.tbl WHERE id = 1>");
+	}
+
+	private static NodeEvent.Kind kind(String source) {
+		NodeEvent event = NodeEventBus.parse(line(source));
+		assertThat(event).isNotNull();
+		return event.getKind();
+	}
+
+	private static String line(String source) {
+		return "INFO  [main] 2019-05-01 12:30:45,123 " + source;
+	}
+
+}
@@ -18,9 +18,14 @@ package com.github.nosan.embedded.cassandra.local;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.yaml.snakeyaml.Yaml;
 
 import com.github.nosan.embedded.cassandra.Version;
@@ -92,6 +97,40 @@ class NodeSettingsTests {
 		assertThat(settings.getProperties()).isEmpty();
 	}
 
+	@Test
+	void shouldResolveRealAddressesOnce() {
+		AtomicInteger calls = new AtomicInteger();
+		NodeSettings settings = new NodeSettings(new Version(3, 11, 3), null) {
+
+			@Override
+			public String getListenAddress() {
+				calls.incrementAndGet();
+				return "127.0.0.1";
+			}
+
+		};
+		assertThat(settings.getRealListenAddress()).isEqualTo(settings.getRealAddress());
+		assertThat(settings.getRealAddress()).isEqualTo(InetAddress.getLoopbackAddress());
+		assertThat(calls).hasValue(1);
+		settings.resetRealAddresses();
+		assertThat(settings.getRealAddress()).isEqualTo(InetAddress.getLoopbackAddress());
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	void shouldResetRealAddressesWhenReported(@TempDir Path temporaryFolder) throws IOException {
+		Map<String, Object> properties = Collections.singletonMap("listen_address", "127.0.0.1");
+		NodeSettings nodeSettings = new NodeSettings(new Version(3, 11, 3), properties);
+		RuntimeNodeSettings settings = new RuntimeNodeSettings(nodeSettings.getVersion(), properties,
+				new JvmParameters(Collections.emptyList(), 7199, nodeSettings,
+						PortAllocator.create(temporaryFolder)));
+		assertThat(settings.getRealAddress()).isEqualTo(InetAddress.getLoopbackAddress());
+		InetAddress address = InetAddress.getByName("127.0.0.2");
+		settings.setRealListenAddress(address);
+		assertThat(settings.getRealListenAddress()).isEqualTo(address);
+		assertThat(settings.getRealAddress()).isEqualTo(address);
+	}
+
 	private void assertSettings(NodeSettings settings) {
 		assertThat(settings.getClusterName()).isEqualTo("Test Cluster");
 		assertThat(settings.getPort()).isEqualTo(9042);
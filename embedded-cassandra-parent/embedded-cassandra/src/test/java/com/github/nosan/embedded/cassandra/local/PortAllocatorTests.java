@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link PortAllocator}.
+ *
+ * @author Dmytro Nosan
+ */
+class PortAllocatorTests {
+
+	private static final InetAddress ADDRESS = InetAddress.getLoopbackAddress();
+
+	@Test
+	void shouldNotHandOutLeasedPorts(@TempDir Path temporaryFolder) throws IOException {
+		Path leaseFile = temporaryFolder.resolve("port.leases");
+		PortAllocator first = new PortAllocator(leaseFile, "47000-47004,47010-47014", "first");
+		PortAllocator second = new PortAllocator(leaseFile, "47000-47004,47010-47014", "second");
+		List<Integer> ports = new ArrayList<>(first.allocate(Collections.nCopies(5, ADDRESS)));
+		ports.addAll(second.allocate(Collections.nCopies(5, ADDRESS)));
+		assertThat(ports).doesNotHaveDuplicates().allMatch(port -> (port >= 47000 && port <= 47004)
+				|| (port >= 47010 && port <= 47014));
+		assertThat(Files.readAllLines(leaseFile, StandardCharsets.UTF_8)).hasSize(2);
+		assertThatThrownBy(() -> first.allocate(Collections.nCopies(1, ADDRESS)))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void shouldReleaseLeasesOfOwner(@TempDir Path temporaryFolder) throws IOException {
+		Path leaseFile = temporaryFolder.resolve("port.leases");
+		PortAllocator first = new PortAllocator(leaseFile, "47020-47021", "first");
+		PortAllocator second = new PortAllocator(leaseFile, "47020-47021", "second");
+		List<Integer> ports = first.allocate(Collections.singletonList(ADDRESS));
+		second.allocate(Collections.singletonList(ADDRESS));
+		first.release();
+		assertThat(Files.readAllLines(leaseFile, StandardCharsets.UTF_8)).hasSize(1);
+		assertThat(first.allocate(Collections.singletonList(ADDRESS))).isEqualTo(ports);
+	}
+
+	@Test
+	void shouldReclaimLeasesOfDeadProcesses(@TempDir Path temporaryFolder) throws IOException {
+		Path leaseFile = temporaryFolder.resolve("port.leases");
+		Files.write(leaseFile, Collections.singletonList("0 47030 /tmp/dead node"), StandardCharsets.UTF_8);
+		PortAllocator allocator = new PortAllocator(leaseFile, "47030", "test");
+		assertThat(allocator.allocate(Collections.singletonList(ADDRESS))).containsExactly(47030);
+		assertThat(Files.readAllLines(leaseFile, StandardCharsets.UTF_8))
+				.containsExactly(String.format("%d 47030 test", ProcessUtils.getCurrentPid()));
+	}
+
+	@Test
+	void shouldRejectInvalidRanges(@TempDir Path temporaryFolder) {
+		Path leaseFile = temporaryFolder.resolve("port.leases");
+		for (String ranges : Arrays.asList("", "0-10", "10-5", "1-2-3", "a-b", "1024-65536")) {
+			assertThatThrownBy(() -> new PortAllocator(leaseFile, ranges, "test"))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+}
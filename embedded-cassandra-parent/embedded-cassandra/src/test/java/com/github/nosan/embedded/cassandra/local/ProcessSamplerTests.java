@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.NodeMetrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProcessSampler}.
+ *
+ * @author Dmytro Nosan
+ */
+class ProcessSamplerTests {
+
+	@Test
+	void shouldParseProcFiles(@TempDir Path temporaryFolder) throws IOException {
+		write(temporaryFolder.resolve("stat"), "4242 (java (main)) S 1 4242 4242 0 -1 4194560 1000 0 0 0 "
+				+ "250 150 0 0 20 0 42 0 100 0 0");
+		write(temporaryFolder.resolve("status"), "Name:\tjava\nVmRSS:\t  204800 kB\nThreads:\t42\n"
+				+ "voluntary_ctxt_switches:\t10\nnonvoluntary_ctxt_switches:\t5\n");
+		write(temporaryFolder.resolve("io"), "rchar: 100\nwchar: 200\nread_bytes: 4096\nwrite_bytes: 8192\n");
+		ProcessSampler sampler = new ProcessSampler(temporaryFolder, Duration.ofSeconds(1), 2);
+		sampler.sample();
+		NodeMetrics.Sample sample = sampler.getMetrics().getSamples().get(0);
+		assertThat(sample.getCpuTime()).isEqualTo(Duration.ofSeconds(4));
+		assertThat(sample.getRss()).isEqualTo(204800L * 1024);
+		assertThat(sample.getThreads()).isEqualTo(42);
+		assertThat(sample.getReadBytes()).isEqualTo(4096);
+		assertThat(sample.getWriteBytes()).isEqualTo(8192);
+		assertThat(sample.getVoluntaryContextSwitches()).isEqualTo(10);
+		assertThat(sample.getInvoluntaryContextSwitches()).isEqualTo(5);
+		sampler.sample();
+		sampler.sample();
+		NodeMetrics metrics = sampler.getMetrics();
+		assertThat(metrics.getSamples()).hasSize(2);
+		assertThat(metrics.getMaxRss()).isEqualTo(204800L * 1024);
+		assertThat(metrics.getMaxThreads()).isEqualTo(42);
+		assertThat(metrics.getContextSwitches()).isEqualTo(15);
+		assertThat(metrics.toString()).contains("maxRss=200 MB", "cpuTime=4000 ms");
+	}
+
+	@Test
+	void noProcess(@TempDir Path temporaryFolder) {
+		ProcessSampler sampler = new ProcessSampler(temporaryFolder, Duration.ofSeconds(1), 10);
+		sampler.start();
+		assertThat(sampler.stop().getSamples()).isEmpty();
+	}
+
+	@Test
+	@EnabledOnOs(OS.LINUX)
+	void shouldSampleCurrentProcess() {
+		ProcessSampler sampler = new ProcessSampler(Paths.get("/proc/self"), Duration.ofMillis(10), 10);
+		sampler.start();
+		NodeMetrics metrics = sampler.stop();
+		assertThat(metrics.getSamples()).isNotEmpty();
+		assertThat(metrics.getMaxRss()).isPositive();
+		assertThat(metrics.getMaxThreads()).isPositive();
+		assertThat(metrics.getCpuTime()).isGreaterThan(Duration.ZERO);
+	}
+
+	private static void write(Path file, String content) throws IOException {
+		Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -19,9 +19,13 @@ package com.github.nosan.embedded.cassandra.local;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnJre;
 import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.JRE;
 import org.junit.jupiter.api.condition.OS;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,4 +50,40 @@ class ProcessUtilsTests {
 				.isEqualTo(5141);
 	}
 
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void onExit() throws Exception {
+		Process process = new ProcessBuilder("sleep", "30").start();
+		CompletableFuture<?> exit = ProcessUtils.onExit(process, Thread::new);
+		assertThat(exit).isNotDone();
+		process.destroy();
+		exit.get(10, TimeUnit.SECONDS);
+		assertThat(process.isAlive()).isFalse();
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void isAliveBySignal() throws Exception {
+		Process process = new ProcessBuilder("sleep", "30").start();
+		long pid = ProcessUtils.getPid(process);
+		assertThat(ProcessUtils.isAliveBySignal(pid)).isTrue();
+		process.destroy();
+		assertThat(process.waitFor(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(ProcessUtils.isAliveBySignal(pid)).isFalse();
+		assertThat(ProcessUtils.isAliveBySignal(Integer.MAX_VALUE)).isFalse();
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	@DisabledOnJre(JRE.JAVA_8)
+	void destroy() throws Exception {
+		Process process = new ProcessBuilder("sleep", "30").start();
+		long pid = ProcessUtils.getPid(process);
+		assertThat(ProcessUtils.isAlive(pid)).isTrue();
+		assertThat(ProcessUtils.destroy(pid, false)).isTrue();
+		assertThat(process.waitFor(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(ProcessUtils.isAlive(pid)).isFalse();
+		assertThat(ProcessUtils.destroy(pid, true)).isFalse();
+	}
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+
+import com.github.nosan.embedded.cassandra.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResourcePlanInitializer}.
+ *
+ * @author Dmytro Nosan
+ */
+class ResourcePlanInitializerTests {
+
+	private static final long GB = 1024L * 1024 * 1024;
+
+	private final ResourcePlan resourcePlan = new ResourcePlan(4, 16 * GB, 8);
+
+	@Test
+	void shouldApplyPlan(@TempDir Path temporaryFolder) throws IOException {
+		Path file = createFile(temporaryFolder, "concurrent_reads: 32", "concurrent_writes: 32");
+		new ResourcePlanInitializer(this.resourcePlan, false).initialize(temporaryFolder, new Version(3, 11, 4));
+		Map<?, ?> properties = load(file);
+		assertThat(properties.get("concurrent_reads")).isEqualTo(8);
+		assertThat(properties.get("concurrent_writes")).isEqualTo(16);
+		assertThat(properties.get("concurrent_compactors")).isEqualTo(2);
+		assertThat(properties.get("native_transport_max_threads")).isEqualTo(32);
+	}
+
+	@Test
+	void shouldKeepConfiguredSizes(@TempDir Path temporaryFolder) throws IOException {
+		Path file = createFile(temporaryFolder, "concurrent_reads: 64", "concurrent_compactors: 1");
+		new ResourcePlanInitializer(this.resourcePlan, true).initialize(temporaryFolder, new Version(3, 11, 4));
+		Map<?, ?> properties = load(file);
+		assertThat(properties.get("concurrent_reads")).isEqualTo(64);
+		assertThat(properties.get("concurrent_compactors")).isEqualTo(1);
+		assertThat(properties.get("concurrent_writes")).isEqualTo(16);
+		assertThat(properties.get("native_transport_max_threads")).isEqualTo(32);
+	}
+
+	private static Path createFile(Path directory, String... lines) throws IOException {
+		Path file = directory.resolve("conf/cassandra.yaml");
+		Files.createDirectories(file.getParent());
+		return Files.write(file, Arrays.asList(lines));
+	}
+
+	private static Map<?, ?> load(Path file) throws IOException {
+		try (InputStream is = Files.newInputStream(file)) {
+			return new Yaml().loadAs(is, Map.class);
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResourcePlan}.
+ *
+ * @author Dmytro Nosan
+ */
+class ResourcePlanTests {
+
+	private static final long GB = 1024L * 1024 * 1024;
+
+	@Test
+	void shouldShareHostBetweenNodes() {
+		ResourcePlan plan = new ResourcePlan(4, 16 * GB, 8);
+		assertThat(plan.getEnvironment()).containsEntry("MAX_HEAP_SIZE", "1024M")
+				.containsEntry("HEAP_NEWSIZE", "200M");
+		Map<String, Object> properties = plan.getProperties();
+		assertThat(properties).containsEntry("concurrent_reads", 8).containsEntry("concurrent_writes", 16)
+				.containsEntry("concurrent_compactors", 2).containsEntry("native_transport_max_threads", 32);
+	}
+
+	@Test
+	void shouldMatchCassandraEnvForSingleNode() {
+		ResourcePlan plan = new ResourcePlan(1, 64 * GB, 16);
+		assertThat(plan.getEnvironment()).containsEntry("MAX_HEAP_SIZE", "8192M")
+				.containsEntry("HEAP_NEWSIZE", "1600M");
+		assertThat(plan.getProperties()).containsEntry("concurrent_reads", 32).containsEntry("concurrent_writes", 32)
+				.containsEntry("concurrent_compactors", 4).containsEntry("native_transport_max_threads", 128);
+	}
+
+	@Test
+	void shouldKeepMinimumsOnSmallHost() {
+		ResourcePlan plan = new ResourcePlan(8, 2 * GB, 2);
+		assertThat(plan.getEnvironment()).containsEntry("MAX_HEAP_SIZE", "256M")
+				.containsEntry("HEAP_NEWSIZE", "64M");
+		assertThat(plan.getProperties()).containsEntry("concurrent_reads", 4).containsEntry("concurrent_writes", 8)
+				.containsEntry("concurrent_compactors", 1).containsEntry("native_transport_max_threads", 16);
+	}
+
+	@Test
+	void shouldReadCgroupV2MemoryLimit(@TempDir Path temporaryFolder) throws IOException {
+		assertThat(ResourcePlan.getMemoryLimit(temporaryFolder)).isEqualTo(-1);
+		Files.write(temporaryFolder.resolve("memory.max"), "max\n".getBytes());
+		assertThat(ResourcePlan.getMemoryLimit(temporaryFolder)).isEqualTo(-1);
+		Files.write(temporaryFolder.resolve("memory.max"), "4294967296\n".getBytes());
+		assertThat(ResourcePlan.getMemoryLimit(temporaryFolder)).isEqualTo(4 * GB);
+	}
+
+	@Test
+	void shouldReadCgroupV1MemoryLimit(@TempDir Path temporaryFolder) throws IOException {
+		Path file = Files.createDirectories(temporaryFolder.resolve("memory")).resolve("memory.limit_in_bytes");
+		Files.write(file, "9223372036854771712\n".getBytes());
+		assertThat(ResourcePlan.getMemoryLimit(temporaryFolder)).isEqualTo(-1);
+		Files.write(file, "2147483648\n".getBytes());
+		assertThat(ResourcePlan.getMemoryLimit(temporaryFolder)).isEqualTo(2 * GB);
+	}
+
+}
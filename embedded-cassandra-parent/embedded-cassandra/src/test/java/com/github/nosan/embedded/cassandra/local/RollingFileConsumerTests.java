@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RollingFileConsumer}.
+ *
+ * @author Dmytro Nosan
+ */
+class RollingFileConsumerTests {
+
+	@Test
+	void shouldWriteLines(@TempDir Path temporaryFolder) throws IOException {
+		Path file = temporaryFolder.resolve("logs/output.log");
+		RollingFileConsumer consumer = new RollingFileConsumer(file, 1024, 3, Thread::new);
+		consumer.accept("first");
+		consumer.accept("second");
+		consumer.close();
+		consumer.accept("third");
+		assertThat(Files.readAllLines(file, StandardCharsets.UTF_8)).containsExactly("first", "second");
+	}
+
+	@Test
+	void shouldRotateFiles(@TempDir Path temporaryFolder) throws IOException {
+		Path file = temporaryFolder.resolve("output.log");
+		RollingFileConsumer consumer = new RollingFileConsumer(file, 10, 3, Thread::new);
+		for (int i = 0; i < 5; i++) {
+			consumer.accept("line-" + i);
+		}
+		consumer.close();
+		assertThat(Files.readAllLines(file, StandardCharsets.UTF_8)).containsExactly("line-4");
+		assertThat(Files.readAllLines(temporaryFolder.resolve("output.log.1"), StandardCharsets.UTF_8))
+				.containsExactly("line-3");
+		assertThat(Files.readAllLines(temporaryFolder.resolve("output.log.2"), StandardCharsets.UTF_8))
+				.containsExactly("line-2");
+		assertThat(temporaryFolder.resolve("output.log.3")).doesNotExist();
+	}
+
+	@Test
+	void shouldFlushWhenIdle(@TempDir Path temporaryFolder) throws Exception {
+		Path file = temporaryFolder.resolve("output.log");
+		RollingFileConsumer consumer = new RollingFileConsumer(file, 1024, 3, Thread::new);
+		try {
+			consumer.accept("first");
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (!Files.exists(file) || Files.size(file) == 0) {
+				assertThat(System.nanoTime()).isLessThan(deadline);
+				Thread.sleep(50);
+			}
+			assertThat(Files.readAllLines(file, StandardCharsets.UTF_8)).containsExactly("first");
+		}
+		finally {
+			consumer.close();
+		}
+	}
+
+}
@@ -58,6 +58,15 @@ class RunProcessTests {
 		assertThat(this.output.toString()).isEqualTo("TEST");
 	}
 
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void shouldSplitLines() throws Exception {
+		Process process = runProcess("bash", "-c", "printf 'a\\r\\n\\nb%010000dc\\nd' 0");
+		assertThat(process.waitFor()).isEqualTo(0);
+		Thread.sleep(500); //waits for output...
+		assertThat(this.output.toString()).isEqualTo("a" + "b" + String.format("%010000dc", 0) + "d");
+	}
+
 	private Process runProcess(String... arguments) throws IOException {
 		ProcessBuilder processBuilder = new ProcessBuilder();
 		processBuilder.directory(this.temporaryFolder.toFile());
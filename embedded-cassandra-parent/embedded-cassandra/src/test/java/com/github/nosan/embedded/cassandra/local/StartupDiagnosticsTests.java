@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StartupDiagnostics}.
+ *
+ * @author Dmytro Nosan
+ */
+class StartupDiagnosticsTests {
+
+	@Test
+	void shouldCollectLogTails(@TempDir Path temporaryFolder) throws IOException {
+		Path logs = Files.createDirectories(temporaryFolder.resolve("work/logs"));
+		List<String> lines = new ArrayList<>();
+		for (int i = 0; i < 150; i++) {
+			lines.add("line " + i);
+		}
+		Files.write(logs.resolve("system.log"), lines, StandardCharsets.UTF_8);
+		StartupDiagnostics diagnostics = new StartupDiagnostics(temporaryFolder.resolve("work"),
+				temporaryFolder.resolve("reports"), 0.5);
+		StartupDiagnostics.Report report = diagnostics.collect(-1, null);
+		assertThat(report.getContent()).contains("line 149", "line 50", "debug.log' does not exist")
+				.doesNotContain("line 49" + System.lineSeparator(), "Thread dump");
+		assertThat(report.getFile()).isNotNull();
+		assertThat(report.getFile()).hasParent(temporaryFolder.resolve("reports"));
+		assertThat(new String(Files.readAllBytes(report.getFile()), StandardCharsets.UTF_8))
+				.isEqualTo(report.getContent());
+		IOException ex = report.attach(new IOException("Not started"));
+		assertThat(ex.getSuppressed()).hasSize(1);
+		assertThat(ex.getSuppressed()[0].getMessage()).contains("line 149");
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void shouldCollectThreadDump(@TempDir Path temporaryFolder) {
+		StartupDiagnostics diagnostics = new StartupDiagnostics(temporaryFolder, temporaryFolder, 0.5);
+		StartupDiagnostics.Report report = diagnostics.collect(ProcessUtils.getCurrentPid(),
+				System.getProperty("java.home"));
+		assertThat(report.getContent()).contains("===== Thread dump =====", "===== GC statistics =====");
+	}
+
+	@Test
+	void shouldBeStartedWhileCollecting(@TempDir Path temporaryFolder) throws Exception {
+		CountDownLatch collecting = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		StartupDiagnostics diagnostics = new StartupDiagnostics(temporaryFolder, temporaryFolder, 0.1) {
+
+			@Override
+			Report collect(long pid, @Nullable String javaHome) {
+				collecting.countDown();
+				try {
+					release.await();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return super.collect(pid, javaHome);
+			}
+
+		};
+		CountDownLatch ready = new CountDownLatch(1);
+		StartupDiagnostics.Schedule schedule = diagnostics.schedule(Duration.ofMillis(100), -1, null, Thread::new);
+		assertThat(collecting.await(5, TimeUnit.SECONDS)).isTrue();
+		new Thread(ready::countDown).start();
+		long start = System.nanoTime();
+		boolean started;
+		try {
+			started = ready.await(5, TimeUnit.SECONDS);
+		}
+		finally {
+			schedule.cancel();
+		}
+		assertThat(started).isTrue();
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+		release.countDown();
+		StartupDiagnostics.Report report = schedule.getReport();
+		assertThat(report).isNotNull();
+	}
+
+	@Test
+	void shouldNotCollectIfCancelled(@TempDir Path temporaryFolder) throws Exception {
+		StartupDiagnostics diagnostics = new StartupDiagnostics(temporaryFolder, temporaryFolder, 1);
+		StartupDiagnostics.Schedule schedule = diagnostics.schedule(Duration.ofMinutes(1), -1, null, Thread::new);
+		schedule.cancel();
+		assertThat(schedule.getReport()).isNull();
+		try (Stream<Path> files = Files.list(temporaryFolder)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	void getDelay(@TempDir Path temporaryFolder) {
+		assertThat(new StartupDiagnostics(temporaryFolder, temporaryFolder, 0.75).getDelay(Duration.ofSeconds(60)))
+				.isEqualTo(Duration.ofSeconds(45));
+		assertThat(new StartupDiagnostics(temporaryFolder, temporaryFolder, 2).getDelay(Duration.ofSeconds(60)))
+				.isEqualTo(Duration.ofSeconds(60));
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.nosan.embedded.cassandra.NodeStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link StorageServiceClient}.
+ *
+ * @author Dmytro Nosan
+ */
+class StorageServiceClientTests {
+
+	private static final String STORAGE_SERVICE = "org.apache.cassandra.db:type=StorageService";
+
+	@Test
+	void shouldReadStatus() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(STORAGE_SERVICE);
+		server.registerMBean(new StandardMBean(new StorageService(), StorageServiceMBean.class), name);
+		try (StorageServiceClient client = new StorageServiceClient(server)) {
+			NodeStatus status = client.getStatus();
+			assertThat(status.getOperationMode()).isEqualTo("NORMAL");
+			assertThat(status.isInitialized()).isTrue();
+			assertThat(status.isJoined()).isTrue();
+			assertThat(status.isGossipRunning()).isTrue();
+			assertThat(status.isNativeTransportRunning()).isTrue();
+			assertThat(status.isRpcServerRunning()).isFalse();
+		}
+		finally {
+			server.unregisterMBean(name);
+		}
+	}
+
+	@Test
+	void shouldFailIfNotRegistered() {
+		try (StorageServiceClient client = new StorageServiceClient(ManagementFactory.getPlatformMBeanServer())) {
+			assertThatThrownBy(client::getStatus).isInstanceOf(IOException.class).hasMessageContaining(STORAGE_SERVICE);
+		}
+	}
+
+	/**
+	 * Subset of the Cassandra {@code StorageServiceMBean}.
+	 */
+	public interface StorageServiceMBean {
+
+		String getOperationMode();
+
+		boolean isInitialized();
+
+		boolean isJoined();
+
+		boolean isGossipRunning();
+
+		boolean isNativeTransportRunning();
+
+		boolean isRPCServerRunning();
+
+	}
+
+	private static final class StorageService implements StorageServiceMBean {
+
+		@Override
+		public String getOperationMode() {
+			return "NORMAL";
+		}
+
+		@Override
+		public boolean isInitialized() {
+			return true;
+		}
+
+		@Override
+		public boolean isJoined() {
+			return true;
+		}
+
+		@Override
+		public boolean isGossipRunning() {
+			return true;
+		}
+
+		@Override
+		public boolean isNativeTransportRunning() {
+			return true;
+		}
+
+		@Override
+		public boolean isRPCServerRunning() {
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.nosan.embedded.cassandra.Settings;
+import com.github.nosan.embedded.cassandra.Version;
+import com.github.nosan.embedded.cassandra.util.PortUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TransportReadiness}.
+ *
+ * @author Dmytro Nosan
+ */
+class TransportReadinessTests {
+
+	private static final InetAddress ADDRESS = InetAddress.getLoopbackAddress();
+
+	@Test
+	void ready() throws Exception {
+		try (ServerSocket ss = new ServerSocket(0, 50, ADDRESS)) {
+			TransportReadiness readiness = new TransportReadiness(new NativeSettings(ss.getLocalPort()), false);
+			assertThat(readiness.await(TimeUnit.SECONDS.toNanos(5), null)).isTrue();
+		}
+	}
+
+	@Test
+	void readyLater() throws Exception {
+		int port = PortUtils.getPort(ADDRESS);
+		try (ServerSocket ss = new ServerSocket()) {
+			CompletableFuture.runAsync(() -> {
+				try {
+					Thread.sleep(300);
+					ss.bind(new InetSocketAddress(ADDRESS, port));
+				}
+				catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+			});
+			TransportReadiness readiness = new TransportReadiness(new NativeSettings(port), false);
+			assertThat(readiness.await(TimeUnit.SECONDS.toNanos(10), null)).isTrue();
+		}
+	}
+
+	@Test
+	void notReady() throws Exception {
+		TransportReadiness readiness = new TransportReadiness(
+				new NativeSettings(PortUtils.getPort(ADDRESS)), false);
+		long start = System.nanoTime();
+		assertThat(readiness.await(TimeUnit.MILLISECONDS.toNanos(300), null)).isFalse();
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(300));
+	}
+
+	@Test
+	void aborted() throws Exception {
+		TransportReadiness readiness = new TransportReadiness(
+				new NativeSettings(PortUtils.getPort(ADDRESS)), false);
+		CompletableFuture<?> abort = new CompletableFuture<>();
+		CompletableFuture.runAsync(() -> {
+			try {
+				Thread.sleep(200);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			abort.complete(null);
+		});
+		long start = System.nanoTime();
+		assertThat(readiness.await(TimeUnit.SECONDS.toNanos(30), abort)).isFalse();
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void shouldHandshakeWithLoggedAddress() throws Exception {
+		try (ServerSocket ss = new ServerSocket(0, 50, ADDRESS)) {
+			CompletableFuture.runAsync(() -> {
+				while (!ss.isClosed()) {
+					try {
+						ss.accept().close();
+					}
+					catch (Exception ex) {
+						//ignore
+					}
+				}
+			});
+			AtomicReference<InetAddress> address = new AtomicReference<>(InetAddress.getByName("192.0.2.1"));
+			NativeSettings settings = new NativeSettings(ss.getLocalPort()) {
+
+				@Override
+				public InetAddress getRealAddress() {
+					return address.get();
+				}
+
+				@Override
+				public Version getVersion() {
+					return Version.parse("3.11.4");
+				}
+
+			};
+			TransportReadiness readiness = new TransportReadiness(settings, true);
+			//the node has logged the address it is bound to
+			address.set(ADDRESS);
+			assertThat(readiness.await(TimeUnit.MILLISECONDS.toNanos(500), null)).isFalse();
+		}
+	}
+
+	private static class NativeSettings implements Settings {
+
+		private final int port;
+
+		NativeSettings(int port) {
+			this.port = port;
+		}
+
+		@Override
+		public boolean isStartNativeTransport() {
+			return true;
+		}
+
+		@Override
+		public int getPort() {
+			return this.port;
+		}
+
+		@Override
+		public boolean isStartRpc() {
+			return false;
+		}
+
+		@Override
+		public InetAddress getRealAddress() {
+			return ADDRESS;
+		}
+
+	}
+
+}
@@ -24,11 +24,14 @@ import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -68,7 +71,93 @@ class FileLockTests {
 
 	}
 
+	@Test
+	void shouldShareLockWithinJvm(@TempDir Path temporaryFolder) throws Exception {
+		Path file = temporaryFolder.resolve(String.format("%s.lock", UUID.randomUUID()));
+		try (FileLock first = new FileLock(file); FileLock second = new FileLock(file)) {
+			first.lockShared();
+			assertThat(CompletableFuture.supplyAsync(() -> tryLock(second, true)).get(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(first.isShared()).isTrue();
+			assertThat(second.isLocked()).isTrue();
+		}
+	}
+
+	@Test
+	void shouldNotLockExclusivelyWhileShared(@TempDir Path temporaryFolder) throws Exception {
+		Path file = temporaryFolder.resolve(String.format("%s.lock", UUID.randomUUID()));
+		try (FileLock shared = new FileLock(file); FileLock exclusive = new FileLock(file)) {
+			shared.lockShared();
+			assertThat(CompletableFuture.supplyAsync(() -> tryLock(exclusive, false)).get(5, TimeUnit.SECONDS))
+					.isFalse();
+			assertThat(exclusive.isLocked()).isFalse();
+			CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(() -> lock(exclusive));
+			Thread.sleep(200);
+			assertThat(future).isNotDone();
+			shared.release();
+			assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(exclusive.getWaitTime()).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+		}
+	}
+
+	@Test
+	void shouldNotWaitLongerThanTimeout(@TempDir Path temporaryFolder) throws Exception {
+		Path file = temporaryFolder.resolve(String.format("%s.lock", UUID.randomUUID()));
+		Process process = fork(file, 5000);
+		try (FileLock first = new FileLock(file); FileLock second = new FileLock(file)) {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (tryLock(first, false)) {
+				first.release();
+				assertThat(System.nanoTime()).isLessThan(deadline);
+				Thread.sleep(50);
+			}
+			CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(() -> lockShared(first));
+			Thread.sleep(200);
+			assertThat(future).isNotDone();
+			long start = System.nanoTime();
+			assertThat(tryLock(second, true)).isFalse();
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+			assertThat(process.waitFor(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+		}
+		finally {
+			process.destroy();
+		}
+	}
+
+	private static boolean tryLock(FileLock fileLock, boolean shared) {
+		try {
+			return shared ? fileLock.tryLockShared(Duration.ofMillis(300)) : fileLock.tryLock(Duration.ofMillis(300));
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static boolean lock(FileLock fileLock) {
+		try {
+			fileLock.lock();
+			return true;
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static boolean lockShared(FileLock fileLock) {
+		try {
+			fileLock.lockShared();
+			return true;
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
 	private static Process fork(Path fileLock) throws IOException {
+		return fork(fileLock, 500);
+	}
+
+	private static Process fork(Path fileLock, long holdMillis) throws IOException {
 		ProcessBuilder builder = new ProcessBuilder();
 		Path home = Paths.get(new SystemProperty("java.home").getRequired());
 		if (Files.exists(home.resolve("bin/java"))) {
@@ -81,6 +170,7 @@ class FileLockTests {
 		builder.command().add(new SystemProperty("java.class.path").getRequired());
 		builder.command().add(FileLockSuite.class.getCanonicalName());
 		builder.command().add(fileLock.toAbsolutePath().toString());
+		builder.command().add(Long.toString(holdMillis));
 
 		return builder.start();
 
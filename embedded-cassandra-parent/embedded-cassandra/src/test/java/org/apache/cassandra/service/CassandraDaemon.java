@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.service;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Stand-in for the {@code CassandraDaemon} used by {@code InProcessCassandraNodeTests}. Registers a single MBean on
+ * activation, like the real daemon does.
+ *
+ * @author Dmytro Nosan
+ */
+public class CassandraDaemon {
+
+	/**
+	 * The name of the registered MBean.
+	 */
+	public static final String MBEAN = "org.apache.cassandra.db:type=StorageService";
+
+	public CassandraDaemon(boolean runManaged) {
+	}
+
+	public void activate() throws Exception {
+		ManagementFactory.getPlatformMBeanServer().registerMBean(new StandardMBean(new Runnable() {
+
+			@Override
+			public void run() {
+			}
+
+		}, Runnable.class), new ObjectName(MBEAN));
+	}
+
+	public void deactivate() {
+	}
+
+}
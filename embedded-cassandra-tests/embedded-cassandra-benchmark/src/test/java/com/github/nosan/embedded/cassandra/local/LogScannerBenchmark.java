@@ -0,0 +1,292 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.nosan.embedded.cassandra.util.NetworkUtils;
+import com.github.nosan.embedded.cassandra.util.annotation.Nullable;
+
+/**
+ * Compares the node output scanning of {@link AbstractCassandraNode} ({@link LogScanner}) with the regular expressions
+ * it replaced. Both paths consume a Cassandra {@code 3.11.4} startup log ({@code system.log}) until the node is
+ * listening for clients, the same way a node consumes its output: stack trace lines are skipped, the rpc and listen
+ * addresses are detected and the readiness line is awaited.
+ * <p>
+ * Run with {@code mvn -pl embedded-cassandra-tests/embedded-cassandra-benchmark -am test-compile} and then
+ * {@link #main(String[])} on the test classpath of this module.
+ *
+ * @author Dmytro Nosan
+ * @since 1.4.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogScannerBenchmark {
+
+	private static final int PORT = 9042;
+
+	private static final int STORAGE_PORT = 7000;
+
+	private static final int SSL_STORAGE_PORT = 7001;
+
+	private List<String> lines;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(LogScannerBenchmark.class.getName()).build()).run();
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		this.lines = readLines();
+	}
+
+	@Benchmark
+	public Result logScanner() {
+		return scan(this.lines);
+	}
+
+	@Benchmark
+	public Result regex() {
+		return scanWithRegex(this.lines);
+	}
+
+	/**
+	 * Reads the {@code system.log} sample.
+	 *
+	 * @return the lines
+	 * @throws IOException if the sample cannot be read
+	 */
+	static List<String> readLines() throws IOException {
+		InputStream is = Objects.requireNonNull(LogScannerBenchmark.class.getResourceAsStream("/system.log"));
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+			List<String> lines = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lines.add(line);
+			}
+			return lines;
+		}
+	}
+
+	/**
+	 * Consumes the lines with a {@link LogScanner} as {@link AbstractCassandraNode} does.
+	 *
+	 * @param lines the lines
+	 * @return the result
+	 */
+	static Result scan(List<String> lines) {
+		Result result = new Result();
+		AbstractCassandraNode.NodeReadiness nodeReadiness = new AbstractCassandraNode.NodeReadiness();
+		LogScanner.Rule readiness = new LogScanner.Rule() {
+
+			@Override
+			public String[][] getKeywords() {
+				return nodeReadiness.getKeywords();
+			}
+
+			@Override
+			public boolean apply(String line, int start, int end) {
+				result.ready = true;
+				return nodeReadiness.apply(line, start, end);
+			}
+
+		};
+		CompositeConsumer<String> consumer = new CompositeConsumer<>();
+		consumer.add(result);
+		consumer.add(new LogScanner(Arrays.asList(new AbstractCassandraNode.AddressRule(PORT, null, result::setAddress),
+				new AbstractCassandraNode.AddressRule(STORAGE_PORT, SSL_STORAGE_PORT, result::setListenAddress),
+				readiness)));
+		Consumer<String> outputConsumer = new FilteredConsumer<>(consumer,
+				new AbstractCassandraNode.StackTraceFilter());
+		consume(lines, outputConsumer, result);
+		return result;
+	}
+
+	/**
+	 * Consumes the lines with the regular expressions {@link LogScanner} replaced.
+	 *
+	 * @param lines the lines
+	 * @return the result
+	 */
+	static Result scanWithRegex(List<String> lines) {
+		Result result = new Result();
+		CompositeConsumer<String> consumer = new CompositeConsumer<>();
+		consumer.add(result);
+		consumer.add(new RegexReadiness(result, consumer));
+		consumer.add(new RegexAddressConsumer(PORT, null, result::setAddress, consumer));
+		consumer.add(new RegexAddressConsumer(STORAGE_PORT, SSL_STORAGE_PORT, result::setListenAddress, consumer));
+		Consumer<String> outputConsumer = new FilteredConsumer<>(consumer, new RegexStackTraceFilter());
+		consume(lines, outputConsumer, result);
+		return result;
+	}
+
+	private static void consume(List<String> lines, Consumer<String> consumer, Result result) {
+		for (String line : lines) {
+			consumer.accept(line);
+			//the node is started, a node stops waiting for its readiness
+			if (result.ready) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * The addresses and the readiness found in the lines.
+	 */
+	static final class Result implements Consumer<String> {
+
+		@Nullable
+		private InetAddress address;
+
+		@Nullable
+		private InetAddress listenAddress;
+
+		private volatile boolean ready;
+
+		private int count;
+
+		@Override
+		public void accept(String line) {
+			this.count++;
+		}
+
+		@Nullable
+		InetAddress getAddress() {
+			return this.address;
+		}
+
+		void setAddress(InetAddress address) {
+			this.address = address;
+		}
+
+		@Nullable
+		InetAddress getListenAddress() {
+			return this.listenAddress;
+		}
+
+		void setListenAddress(InetAddress listenAddress) {
+			this.listenAddress = listenAddress;
+		}
+
+		boolean isReady() {
+			return this.ready;
+		}
+
+		int getCount() {
+			return this.count;
+		}
+
+	}
+
+	private static final class RegexReadiness implements Consumer<String> {
+
+		private final Result result;
+
+		private final CompositeConsumer<String> consumer;
+
+		RegexReadiness(Result result, CompositeConsumer<String> consumer) {
+			this.result = result;
+			this.consumer = consumer;
+		}
+
+		@Override
+		public void accept(String line) {
+			if (line.matches("(?i).*listening.*clients.*") || line
+					.matches("(?i).*not\\s*starting.*as\\s*requested.*")) {
+				this.result.ready = true;
+				this.consumer.remove(this);
+			}
+		}
+
+	}
+
+	private static final class RegexAddressConsumer implements Consumer<String> {
+
+		private final Pattern regex;
+
+		private final Consumer<InetAddress> addressConsumer;
+
+		private final CompositeConsumer<String> consumer;
+
+		RegexAddressConsumer(int port, @Nullable Integer sslPort, Consumer<InetAddress> addressConsumer,
+				CompositeConsumer<String> consumer) {
+			this.regex = Pattern.compile(String.format(".*/(.+):\\s*(%d|%d).*", port, sslPort));
+			this.addressConsumer = addressConsumer;
+			this.consumer = consumer;
+		}
+
+		@Override
+		public void accept(String line) {
+			Matcher matcher = this.regex.matcher(line);
+			if (matcher.matches()) {
+				String address = matcher.group(1).trim();
+				try {
+					this.addressConsumer.accept(NetworkUtils.getInetAddress(address.trim()));
+					this.consumer.remove(this);
+				}
+				catch (Throwable ex) {
+					//ignore
+				}
+			}
+		}
+
+	}
+
+	private static final class RegexStackTraceFilter implements Predicate<String> {
+
+		private static final Pattern STACKTRACE_PATTERN = Pattern.compile("\\s+(at|\\.{3})\\s+.*");
+
+		@Override
+		public boolean test(String line) {
+			return !STACKTRACE_PATTERN.matcher(line).matches();
+		}
+
+	}
+
+}
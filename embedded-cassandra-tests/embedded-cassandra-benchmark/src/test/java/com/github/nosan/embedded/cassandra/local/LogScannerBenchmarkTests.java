@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.local;
+
+import java.net.InetAddress;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LogScannerBenchmark}.
+ *
+ * @author Dmytro Nosan
+ */
+class LogScannerBenchmarkTests {
+
+	@Test
+	void shouldFindTheSameAsRegex() throws Exception {
+		List<String> lines = LogScannerBenchmark.readLines();
+		LogScannerBenchmark.Result scanner = LogScannerBenchmark.scan(lines);
+		LogScannerBenchmark.Result regex = LogScannerBenchmark.scanWithRegex(lines);
+		assertThat(scanner.isReady()).isTrue();
+		assertThat(scanner.getAddress()).isEqualTo(InetAddress.getByName("127.0.0.1"));
+		assertThat(scanner.getListenAddress()).isEqualTo(InetAddress.getByName("127.0.0.1"));
+		assertThat(regex.isReady()).isTrue();
+		assertThat(regex.getAddress()).isEqualTo(scanner.getAddress());
+		assertThat(regex.getListenAddress()).isEqualTo(scanner.getListenAddress());
+		assertThat(regex.getCount()).isEqualTo(scanner.getCount()).isLessThan(lines.size());
+	}
+
+}
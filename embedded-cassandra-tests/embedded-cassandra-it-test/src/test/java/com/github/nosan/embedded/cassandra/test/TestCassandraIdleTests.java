@@ -0,0 +1,201 @@
+/*
+ * Copyright 2018-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.nosan.embedded.cassandra.Cassandra;
+import com.github.nosan.embedded.cassandra.Settings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TestCassandra} idle suspension.
+ *
+ * @author Dmytro Nosan
+ */
+class TestCassandraIdleTests {
+
+	private static final Duration IDLE_TIMEOUT = Duration.ofMillis(200);
+
+	private final StubCassandra cassandra = new StubCassandra();
+
+	private final AtomicInteger inFlightQueries = new AtomicInteger();
+
+	private final TestCassandra testCassandra = new TestCassandra(false, () -> this.cassandra,
+			settings -> new StubCluster(this.inFlightQueries));
+
+	@AfterEach
+	void stop() {
+		this.testCassandra.stop();
+	}
+
+	@Test
+	void shouldSuspendAfterIdleTimeout() throws InterruptedException {
+		this.testCassandra.setIdleTimeout(IDLE_TIMEOUT);
+		this.testCassandra.start();
+		Cluster cluster = this.testCassandra.getCluster();
+		awaitState(Cassandra.State.SUSPENDED);
+		assertThat(this.cassandra.suspended).hasValue(1);
+		assertThat(cluster.isClosed()).isTrue();
+	}
+
+	@Test
+	void shouldResumeOnActivity() throws InterruptedException {
+		this.testCassandra.setIdleTimeout(IDLE_TIMEOUT);
+		this.testCassandra.start();
+		Cluster cluster = this.testCassandra.getCluster();
+		awaitState(Cassandra.State.SUSPENDED);
+		Session session = this.testCassandra.getSession();
+		assertThat(this.testCassandra.getState()).isEqualTo(Cassandra.State.STARTED);
+		assertThat(this.cassandra.resumed).hasValue(1);
+		assertThat(session).isNotNull();
+		assertThat(this.testCassandra.getCluster()).isNotSameAs(cluster);
+	}
+
+	@Test
+	void shouldResumeOnStart() throws InterruptedException {
+		this.testCassandra.setIdleTimeout(IDLE_TIMEOUT);
+		this.testCassandra.start();
+		awaitState(Cassandra.State.SUSPENDED);
+		this.testCassandra.start();
+		assertThat(this.testCassandra.getState()).isEqualTo(Cassandra.State.STARTED);
+		assertThat(this.cassandra.started).hasValue(1);
+		assertThat(this.cassandra.resumed).hasValue(1);
+	}
+
+	@Test
+	void shouldNotSuspendWhileQueriesInFlight() throws InterruptedException {
+		this.testCassandra.setIdleTimeout(IDLE_TIMEOUT);
+		this.testCassandra.start();
+		this.inFlightQueries.set(1);
+		this.testCassandra.getSession();
+		Thread.sleep(IDLE_TIMEOUT.toMillis() * 5);
+		assertThat(this.testCassandra.getState()).isEqualTo(Cassandra.State.STARTED);
+		assertThat(this.cassandra.suspended).hasValue(0);
+		this.inFlightQueries.set(0);
+		awaitState(Cassandra.State.SUSPENDED);
+	}
+
+	@Test
+	void shouldNotSuspendWithoutIdleTimeout() throws InterruptedException {
+		this.testCassandra.start();
+		Thread.sleep(IDLE_TIMEOUT.toMillis() * 3);
+		assertThat(this.testCassandra.getState()).isEqualTo(Cassandra.State.STARTED);
+		assertThat(this.cassandra.suspended).hasValue(0);
+	}
+
+	private void awaitState(Cassandra.State state) throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (this.testCassandra.getState() != state && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(this.testCassandra.getState()).isEqualTo(state);
+	}
+
+	private static final class StubCassandra implements Cassandra {
+
+		private final AtomicInteger started = new AtomicInteger();
+
+		private final AtomicInteger suspended = new AtomicInteger();
+
+		private final AtomicInteger resumed = new AtomicInteger();
+
+		private volatile Cassandra.State state = Cassandra.State.NEW;
+
+		@Override
+		public void start() {
+			this.started.incrementAndGet();
+			this.state = Cassandra.State.STARTED;
+		}
+
+		@Override
+		public void stop() {
+			this.state = Cassandra.State.STOPPED;
+		}
+
+		@Override
+		public void suspend() {
+			this.suspended.incrementAndGet();
+			this.state = Cassandra.State.SUSPENDED;
+		}
+
+		@Override
+		public void resume() {
+			this.resumed.incrementAndGet();
+			this.state = Cassandra.State.STARTED;
+		}
+
+		@Override
+		public Settings getSettings() {
+			return new Settings() {
+
+			};
+		}
+
+		@Override
+		public Cassandra.State getState() {
+			return this.state;
+		}
+
+	}
+
+	private static final class StubCluster extends Cluster {
+
+		private final AtomicInteger inFlightQueries;
+
+		StubCluster(AtomicInteger inFlightQueries) {
+			super(Cluster.builder().addContactPoint("127.0.0.1"));
+			this.inFlightQueries = inFlightQueries;
+		}
+
+		@Override
+		public Session newSession() {
+			Session.State state = (Session.State) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[]{Session.State.class}, (proxy, method, args) -> {
+						if (method.getName().equals("getConnectedHosts")) {
+							return Collections.<Host>singletonList(null);
+						}
+						if (method.getName().equals("getInFlightQueries")) {
+							return this.inFlightQueries.get();
+						}
+						return null;
+					});
+			return (Session) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Session.class},
+					(proxy, method, args) -> {
+						if (method.getName().equals("getState")) {
+							return state;
+						}
+						if (method.getName().equals("toString")) {
+							return "StubSession";
+						}
+						return null;
+					});
+		}
+
+	}
+
+}